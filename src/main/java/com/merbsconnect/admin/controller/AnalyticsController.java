@@ -1,7 +1,7 @@
 package com.merbsconnect.admin.controller;
 
 import com.merbsconnect.admin.dto.response.AnalyticsResponse;
-import com.merbsconnect.admin.service.AnalyticsService;
+import com.merbsconnect.admin.service.DashboardSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -20,7 +20,7 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = { "http://localhost:8080", "http://localhost:5173" }, allowedHeaders = { "*" }, maxAge = 3600)
 public class AnalyticsController {
 
-    private final AnalyticsService analyticsService;
+    private final DashboardSnapshotService dashboardSnapshotService;
 
     /**
      * Get comprehensive analytics data for the admin dashboard.
@@ -33,7 +33,7 @@ public class AnalyticsController {
     public ResponseEntity<AnalyticsResponse> getAnalytics() {
         try {
             log.info("Fetching analytics data");
-            AnalyticsResponse analytics = analyticsService.getAnalyticsData();
+            AnalyticsResponse analytics = dashboardSnapshotService.getAnalytics();
             return new ResponseEntity<>(analytics, HttpStatus.OK);
         } catch (Exception e) {
             log.error("Error fetching analytics data: {}", e.getMessage());
@@ -3,6 +3,7 @@ package com.merbsconnect.admin.controller;
 import com.merbsconnect.admin.dto.response.ActiveSessionResponse;
 import com.merbsconnect.admin.dto.response.AuditLogResponse;
 import com.merbsconnect.admin.service.AuditService;
+import com.merbsconnect.authentication.security.ActiveSessionRegistry;
 import com.merbsconnect.authentication.dto.response.MessageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,6 +28,7 @@ import java.util.List;
 public class AuditController {
 
     private final AuditService auditService;
+    private final ActiveSessionRegistry sessionRegistry;
 
     /**
      * Get all audit logs with pagination.
@@ -55,8 +56,8 @@ public class AuditController {
     /**
      * Get active user sessions.
      * Requires SUPER_ADMIN role.
-     * Note: This is a placeholder - actual session management depends on your
-     * authentication setup.
+     * Sessions are access tokens used within the idle timeout, tracked in memory
+     * by this instance since it started.
      *
      * @return List of active sessions
      */
@@ -65,8 +66,7 @@ public class AuditController {
     public ResponseEntity<List<ActiveSessionResponse>> getActiveSessions() {
         try {
             log.info("Fetching active sessions");
-            // Placeholder - in production, integrate with Spring Security session registry
-            List<ActiveSessionResponse> sessions = new ArrayList<>();
+            List<ActiveSessionResponse> sessions = sessionRegistry.getActiveSessions();
             return new ResponseEntity<>(sessions, HttpStatus.OK);
         } catch (Exception e) {
             log.error("Error fetching active sessions: {}", e.getMessage());
@@ -1,7 +1,10 @@
 package com.merbsconnect.admin.controller;
 
 import com.merbsconnect.admin.dto.response.SystemStatsResponse;
+import com.merbsconnect.admin.service.DashboardSnapshotService;
 import com.merbsconnect.admin.service.SystemMonitoringService;
+import com.merbsconnect.events.dto.response.RegistrationMigrationStatusResponse;
+import com.merbsconnect.events.service.RegistrationMigrationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -23,6 +26,8 @@ import java.util.List;
 public class SystemAdminController {
 
     private final SystemMonitoringService systemMonitoringService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final RegistrationMigrationService registrationMigrationService;
 
     /**
      * Get comprehensive system statistics.
@@ -35,7 +40,7 @@ public class SystemAdminController {
     public ResponseEntity<SystemStatsResponse> getSystemStats() {
         try {
             log.info("Fetching system statistics");
-            SystemStatsResponse stats = systemMonitoringService.getSystemStats();
+            SystemStatsResponse stats = dashboardSnapshotService.getSystemStats();
             return new ResponseEntity<>(stats, HttpStatus.OK);
         } catch (Exception e) {
             log.error("Error fetching system stats: {}", e.getMessage());
@@ -63,4 +68,29 @@ public class SystemAdminController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Get progress of the legacy registration migration.
+     * Requires SUPER_ADMIN or ADMIN role.
+     *
+     * @return Migration status
+     */
+    @GetMapping("/registration-migration")
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'ADMIN')")
+    public ResponseEntity<RegistrationMigrationStatusResponse> getRegistrationMigrationStatus() {
+        return new ResponseEntity<>(registrationMigrationService.getStatus(), HttpStatus.OK);
+    }
+
+    /**
+     * Start (or resume) the legacy registration migration in the background.
+     * Requires SUPER_ADMIN role.
+     *
+     * @return Migration status after starting
+     */
+    @PostMapping("/registration-migration")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<RegistrationMigrationStatusResponse> startRegistrationMigration() {
+        log.info("Starting legacy registration migration");
+        return new ResponseEntity<>(registrationMigrationService.start(), HttpStatus.ACCEPTED);
+    }
 }
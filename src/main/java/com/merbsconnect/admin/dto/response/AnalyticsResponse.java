@@ -12,7 +12,7 @@ import java.util.Map;
  * Comprehensive analytics response DTO containing all dashboard metrics.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AnalyticsResponse {
@@ -47,4 +47,7 @@ public class AnalyticsResponse {
     private Map<String, Long> academicLevelDistribution;
     private Map<String, Long> programDistribution;
     private Map<String, Long> referralSourceDistribution;
+
+    // Freshness of this precomputed response
+    private SnapshotMetadata snapshot;
 }
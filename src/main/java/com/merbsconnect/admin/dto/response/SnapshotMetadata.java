@@ -0,0 +1,27 @@
+package com.merbsconnect.admin.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Describes how fresh a precomputed dashboard response is.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotMetadata {
+
+    private LocalDateTime generatedAt;
+    private Long ageSeconds;
+
+    // True when the data has changed since generation or the snapshot is older than the freshness limit
+    private Boolean stale;
+
+    // True while a newer snapshot is being built
+    private Boolean refreshing;
+}
@@ -11,7 +11,7 @@ import java.util.Map;
  * Response DTO for system statistics.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class SystemStatsResponse {
@@ -23,4 +23,7 @@ public class SystemStatsResponse {
     private Long totalAuditLogs;
     private String uptime;
     private Map<String, Object> metrics; // Memory, CPU, etc.
+
+    // Freshness of this precomputed response
+    private SnapshotMetadata snapshot;
 }
@@ -44,6 +44,9 @@ public class AuditLog {
 
     @PrePersist
     private void onCreate() {
-        timestamp = LocalDateTime.now();
+        // Entries written by AuditLogWriter carry the time the action happened
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
     }
 }
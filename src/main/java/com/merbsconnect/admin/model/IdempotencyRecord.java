@@ -0,0 +1,46 @@
+package com.merbsconnect.admin.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The first response to a request sent with an Idempotency-Key, replayed to
+ * retries of that request until it expires. A row without a status is a claim
+ * held by a request that is still being processed.
+ */
+@Entity
+@Table(name = "idempotency_records", indexes = @Index(name = "idx_idempotency_records_expires_at", columnList = "expiresAt"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    /** SHA-256 of method, path, principal and the client's key. */
+    @Id
+    @Column(length = 64)
+    private String scopeKey;
+
+    /** SHA-256 of the request body, to reject a key reused for a different request. */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Integer responseStatus;
+
+    private String contentType;
+
+    @Column(length = 2048)
+    private String location;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime expiresAt;
+}
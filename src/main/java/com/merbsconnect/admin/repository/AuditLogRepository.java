@@ -4,6 +4,7 @@ import com.merbsconnect.admin.model.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -21,4 +22,18 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     Page<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
 
     long countBy();
+
+    /**
+     * Row estimate for audit_logs and its partitions. Exact counts scan the
+     * whole table, which grows without bound. The live-tuple counter is kept up
+     * to date on every insert and delete, unlike reltuples, which stays 0 or -1
+     * until the table is first analyzed; reltuples is only the fallback when
+     * statistics collection is off.
+     */
+    @Query(value = "SELECT CAST(COALESCE(SUM(COALESCE(s.n_live_tup, GREATEST(c.reltuples, 0))), 0) AS BIGINT) "
+            + "FROM pg_class c LEFT JOIN pg_stat_user_tables s ON s.relid = c.oid "
+            + "WHERE c.oid = to_regclass('audit_logs') "
+            + "OR c.oid IN (SELECT i.inhrelid FROM pg_inherits i WHERE i.inhparent = to_regclass('audit_logs'))",
+            nativeQuery = true)
+    long estimateCount();
 }
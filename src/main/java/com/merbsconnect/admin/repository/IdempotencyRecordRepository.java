@@ -0,0 +1,56 @@
+package com.merbsconnect.admin.repository;
+
+import com.merbsconnect.admin.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claims a key, taking over an expired record or an abandoned claim.
+     *
+     * @return 1 if the caller now owns the key, 0 if another request does
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_records (scope_key, request_hash, created_at, expires_at) " +
+            "VALUES (:scopeKey, :requestHash, :now, :expiresAt) " +
+            "ON CONFLICT (scope_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, " +
+            "response_status = NULL, content_type = NULL, location = NULL, response_body = NULL, " +
+            "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+            "WHERE idempotency_records.expires_at < :now " +
+            "OR (idempotency_records.response_status IS NULL AND idempotency_records.created_at < :staleBefore)",
+            nativeQuery = true)
+    int claim(@Param("scopeKey") String scopeKey,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.contentType = :contentType, " +
+            "r.location = :location, r.responseBody = :body WHERE r.scopeKey = :scopeKey")
+    int complete(@Param("scopeKey") String scopeKey,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("location") String location,
+                 @Param("body") String body);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.scopeKey = :scopeKey AND r.responseStatus IS NULL")
+    int release(@Param("scopeKey") String scopeKey);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
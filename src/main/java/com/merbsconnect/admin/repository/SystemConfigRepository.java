@@ -2,8 +2,10 @@ package com.merbsconnect.admin.repository;
 
 import com.merbsconnect.admin.model.SystemConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,4 +17,11 @@ public interface SystemConfigRepository extends JpaRepository<SystemConfig, Long
     Optional<SystemConfig> findByConfigKey(String configKey);
 
     boolean existsByConfigKey(String configKey);
+
+    /**
+     * Row count and latest update time; changes whenever an entry is added or
+     * updated, on any instance. Used to detect a stale in-memory snapshot.
+     */
+    @Query("SELECT COUNT(c), MAX(c.updatedAt) FROM SystemConfig c")
+    List<Object[]> findVersion();
 }
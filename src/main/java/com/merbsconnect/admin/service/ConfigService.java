@@ -33,4 +33,31 @@ public interface ConfigService {
      * @return Updated configuration response
      */
     ConfigResponse updateConfig(UpdateConfigRequest request);
+
+    /**
+     * Get a configuration value from the in-memory snapshot.
+     *
+     * @param key          Configuration key
+     * @param defaultValue Returned when the key is missing
+     * @return Configuration value
+     */
+    String getString(String key, String defaultValue);
+
+    /**
+     * Get a boolean flag from the in-memory snapshot.
+     *
+     * @param key          Configuration key
+     * @param defaultValue Returned when the key is missing
+     * @return Flag value
+     */
+    boolean getBoolean(String key, boolean defaultValue);
+
+    /**
+     * Get a numeric value from the in-memory snapshot.
+     *
+     * @param key          Configuration key
+     * @param defaultValue Returned when the key is missing or not a number
+     * @return Numeric value
+     */
+    int getInt(String key, int defaultValue);
 }
@@ -0,0 +1,39 @@
+package com.merbsconnect.admin.service;
+
+import com.merbsconnect.admin.dto.response.AnalyticsResponse;
+import com.merbsconnect.admin.dto.response.SystemStatsResponse;
+import com.merbsconnect.events.dto.response.DashboardResponse;
+
+/**
+ * Serves the admin dashboards from precomputed snapshots that are rebuilt in
+ * the background, so reads never run the underlying aggregate queries.
+ */
+public interface DashboardSnapshotService {
+
+    /**
+     * Get the latest event dashboard snapshot.
+     *
+     * @return DashboardResponse with snapshot freshness metadata
+     */
+    DashboardResponse getDashboard();
+
+    /**
+     * Get the latest analytics snapshot.
+     *
+     * @return AnalyticsResponse with snapshot freshness metadata
+     */
+    AnalyticsResponse getAnalytics();
+
+    /**
+     * Get the latest system statistics snapshot.
+     *
+     * @return SystemStatsResponse with snapshot freshness metadata
+     */
+    SystemStatsResponse getSystemStats();
+
+    /**
+     * Schedule a background rebuild of every snapshot. Requests made while a
+     * rebuild is running are coalesced into one follow-up rebuild.
+     */
+    void refreshAll();
+}
@@ -5,10 +5,13 @@ import com.merbsconnect.admin.model.AuditLog;
 import com.merbsconnect.admin.repository.AuditLogRepository;
 import com.merbsconnect.admin.service.AnalyticsService;
 import com.merbsconnect.authentication.repository.UserRepository;
+import com.merbsconnect.enums.AcademicLevel;
+import com.merbsconnect.enums.ReferralSource;
+import com.merbsconnect.enums.ShirtSize;
 import com.merbsconnect.enums.UserStatus;
-import com.merbsconnect.events.model.Event;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
 import com.merbsconnect.events.repository.EventRepository;
-import com.merbsconnect.startright.entity.TShirtRequest;
+import com.merbsconnect.events.repository.EventStatsRepository;
 import com.merbsconnect.startright.repository.TShirtRequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +24,7 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +37,8 @@ public class AnalyticsServiceImpl implements AnalyticsService {
 
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final EventStatsRepository eventStatsRepository;
     private final AuditLogRepository auditLogRepository;
     private final TShirtRequestRepository tshirtRequestRepository;
 
@@ -52,10 +58,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         long completedEvents = eventRepository.countByDateBefore(today);
 
         // Registration statistics
-        long totalRegistrations = eventRepository.findAll().stream()
-                .mapToLong(event -> event.getRegistrations().size() +
-                        (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0))
-                .sum();
+        long totalRegistrations = eventStatsRepository.sumRegistrations();
 
         // Merchandise statistics
         long totalMerchandiseOrders = tshirtRequestRepository.count();
@@ -78,35 +81,15 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         Double eventGrowthPercent = 12.0;
         Double registrationGrowthPercent = 8.0;
 
-        // Calculate distributions
-        Map<String, Long> academicLevelDistribution = new HashMap<>();
-        Map<String, Long> programDistribution = new HashMap<>();
-        Map<String, Long> referralSourceDistribution = new HashMap<>();
-
-        // Helper to update distribution maps
-        for (Event event : eventRepository.findAll()) {
-            // Process V1 registrations
-            if (event.getRegistrations() != null) {
-                event.getRegistrations().forEach(reg -> {
-                    updateDistribution(programDistribution, reg.getProgram());
-                    updateDistribution(academicLevelDistribution,
-                            reg.getAcademicLevel() != null ? reg.getAcademicLevel().getDisplayName() : null);
-                    updateDistribution(referralSourceDistribution,
-                            reg.getReferralSource() != null ? reg.getReferralSource().getDisplayName() : null);
-                });
-            }
-
-            // Process V2 registrations
-            if (event.getRegistrationsV2() != null) {
-                event.getRegistrationsV2().forEach(reg -> {
-                    updateDistribution(programDistribution, reg.getProgram());
-                    updateDistribution(academicLevelDistribution,
-                            reg.getAcademicLevel() != null ? reg.getAcademicLevel().getDisplayName() : null);
-                    updateDistribution(referralSourceDistribution,
-                            reg.getReferralSource() != null ? reg.getReferralSource().getDisplayName() : null);
-                });
-            }
-        }
+        // Distributions, grouped in the database across both registration tables
+        Map<String, Long> academicLevelDistribution = toDistribution(
+                registrationRepository.countAllByAcademicLevel(),
+                name -> AcademicLevel.valueOf(name).getDisplayName());
+        Map<String, Long> programDistribution = toDistribution(
+                registrationRepository.countAllByProgram(), name -> name);
+        Map<String, Long> referralSourceDistribution = toDistribution(
+                registrationRepository.countAllByReferralSource(),
+                name -> ReferralSource.valueOf(name).getDisplayName());
 
         return AnalyticsResponse.builder()
                 .totalUsers(totalUsers)
@@ -134,22 +117,13 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      */
     private List<TopEventDto> getTopEvents(int limit) {
         try {
-            List<Long> topEventIds = eventRepository.findTopEventIdsByRegistrationCount(limit);
-            List<TopEventDto> topEvents = new ArrayList<>();
-
-            for (Long eventId : topEventIds) {
-                eventRepository.findById(eventId).ifPresent(event -> {
-                    long regCount = event.getRegistrations().size() +
-                            (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0);
-                    topEvents.add(TopEventDto.builder()
-                            .id(event.getId())
-                            .title(event.getTitle())
-                            .registrationCount(regCount)
-                            .build());
-                });
-            }
-
-            return topEvents;
+            return eventStatsRepository.findTopEvents(PageRequest.of(0, limit)).stream()
+                    .map(row -> TopEventDto.builder()
+                            .id(((Number) row[0]).longValue())
+                            .title((String) row[1])
+                            .registrationCount(((Number) row[2]).longValue())
+                            .build())
+                    .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Error fetching top events: {}", e.getMessage());
             return Collections.emptyList();
@@ -161,11 +135,12 @@ public class AnalyticsServiceImpl implements AnalyticsService {
      */
     private Map<String, Long> getTshirtSizeBreakdown() {
         try {
-            List<TShirtRequest> requests = tshirtRequestRepository.findAll();
-            return requests.stream()
-                    .collect(Collectors.groupingBy(
-                            req -> req.getTShirtSize() != null ? req.getTShirtSize().name() : "UNKNOWN",
-                            Collectors.counting()));
+            Map<String, Long> breakdown = new HashMap<>();
+            for (Object[] row : tshirtRequestRepository.countBySize()) {
+                String size = row[0] != null ? ((ShirtSize) row[0]).name() : "UNKNOWN";
+                breakdown.merge(size, ((Number) row[1]).longValue(), Long::sum);
+            }
+            return breakdown;
         } catch (Exception e) {
             log.error("Error fetching T-shirt size breakdown: {}", e.getMessage());
             return Collections.emptyMap();
@@ -173,28 +148,26 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     }
 
     /**
-     * Get registration trend for last N months.
+     * Get registration trend for last N months, bucketed by registration time.
      */
     private List<RegistrationTrendDto> getRegistrationTrend(int months) {
         try {
-            List<RegistrationTrendDto> trend = new ArrayList<>();
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM yyyy");
+            YearMonth firstMonth = YearMonth.now().minusMonths(months - 1L);
 
-            for (int i = months - 1; i >= 0; i--) {
-                YearMonth ym = YearMonth.now().minusMonths(i);
-                LocalDate startDate = ym.atDay(1);
-                LocalDate endDate = ym.atEndOfMonth();
-
-                // Count registrations in this month
-                List<Event> eventsInMonth = eventRepository.findByDateBetween(startDate, endDate);
-                long registrations = eventsInMonth.stream()
-                        .mapToLong(event -> event.getRegistrations().size() +
-                                (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0))
-                        .sum();
+            Map<YearMonth, Long> counts = new HashMap<>();
+            for (Object[] row : registrationRepository.countMonthlyRegistrationsSince(
+                    firstMonth.atDay(1).atStartOfDay())) {
+                YearMonth ym = YearMonth.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+                counts.merge(ym, ((Number) row[2]).longValue(), Long::sum);
+            }
 
+            List<RegistrationTrendDto> trend = new ArrayList<>();
+            for (int i = 0; i < months; i++) {
+                YearMonth ym = firstMonth.plusMonths(i);
                 trend.add(RegistrationTrendDto.builder()
                         .period(ym.format(formatter))
-                        .registrations(registrations)
+                        .registrations(counts.getOrDefault(ym, 0L))
                         .build());
             }
 
@@ -235,8 +208,22 @@ public class AnalyticsServiceImpl implements AnalyticsService {
                 .build();
     }
 
-    private void updateDistribution(Map<String, Long> distribution, String key) {
-        String safeKey = (key != null && !key.trim().isEmpty()) ? key.trim() : "Unknown";
-        distribution.put(safeKey, distribution.getOrDefault(safeKey, 0L) + 1);
+    /**
+     * Folds [value, count] rows into a label -> count map, collapsing null or blank
+     * values into "Unknown".
+     */
+    private Map<String, Long> toDistribution(List<Object[]> rows, Function<String, String> labeler) {
+        Map<String, Long> distribution = new HashMap<>();
+        for (Object[] row : rows) {
+            String value = row[0] != null ? row[0].toString().trim() : "";
+            String label;
+            try {
+                label = value.isEmpty() ? "Unknown" : labeler.apply(value);
+            } catch (IllegalArgumentException e) {
+                label = value;
+            }
+            distribution.merge(label, ((Number) row[1]).longValue(), Long::sum);
+        }
+        return distribution;
     }
 }
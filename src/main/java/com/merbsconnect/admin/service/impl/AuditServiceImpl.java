@@ -4,7 +4,8 @@ import com.merbsconnect.admin.dto.response.AuditLogResponse;
 import com.merbsconnect.admin.model.AuditLog;
 import com.merbsconnect.admin.repository.AuditLogRepository;
 import com.merbsconnect.admin.service.AuditService;
-import jakarta.servlet.http.HttpServletRequest;
+import com.merbsconnect.util.AuditLogWriter;
+import com.merbsconnect.util.ClientIpResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,9 +14,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.LocalDateTime;
+
 /**
  * Implementation of AuditService for audit logging.
  */
@@ -25,29 +30,34 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 public class AuditServiceImpl implements AuditService {
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
 
     @Override
-    @Transactional
     public void logAction(String action, String entityType, Long entityId, String details) {
         try {
-            // Get current user from security context
-            String performedBy = getCurrentUsername();
-
-            // Get IP address from request
-            String ipAddress = getClientIpAddress();
-
-            // Create audit log entry
+            // Who and where are resolved here, on the request thread
             AuditLog auditLog = AuditLog.builder()
                     .action(action)
                     .entityType(entityType)
                     .entityId(entityId)
-                    .performedBy(performedBy)
+                    .performedBy(getCurrentUsername())
                     .details(details)
-                    .ipAddress(ipAddress)
+                    .ipAddress(getClientIpAddress())
+                    .timestamp(LocalDateTime.now())
                     .build();
 
-            auditLogRepository.save(auditLog);
-            log.debug("Audit log created: {} on {} ID {}", action, entityType, entityId);
+            // Only audit work that actually commits, as the old in-transaction save did
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        auditLogWriter.submit(auditLog);
+                    }
+                });
+            } else {
+                auditLogWriter.submit(auditLog);
+            }
+            log.debug("Audit log queued: {} on {} ID {}", action, entityType, entityId);
         } catch (Exception e) {
             log.error("Failed to create audit log: {}", e.getMessage());
             // Don't throw exception - audit logging should not break the main flow
@@ -91,12 +101,7 @@ public class AuditServiceImpl implements AuditService {
             ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder
                     .getRequestAttributes();
             if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                String xForwardedFor = request.getHeader("X-Forwarded-For");
-                if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-                    return xForwardedFor.split(",")[0].trim();
-                }
-                return request.getRemoteAddr();
+                return ClientIpResolver.resolve(attributes.getRequest());
             }
         } catch (Exception e) {
             log.warn("Could not get client IP address: {}", e.getMessage());
@@ -8,17 +8,31 @@ import com.merbsconnect.admin.service.AuditService;
 import com.merbsconnect.admin.service.ConfigService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Implementation of ConfigService for configuration management.
+ * <p>
+ * Reads are served from an immutable snapshot of every entry, so flag checks
+ * on hot request paths never reach the database. Local updates replace the
+ * snapshot once their transaction commits; updates made on other instances
+ * are picked up by polling a cheap version query (row count and latest
+ * update time) and reloading when it changes.
  */
 @Slf4j
 @Service
@@ -28,21 +42,43 @@ public class ConfigServiceImpl implements ConfigService {
     private final SystemConfigRepository configRepository;
     private final AuditService auditService;
 
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
     @Override
-    @Transactional(readOnly = true)
     public List<ConfigResponse> getAllConfigs() {
-        log.info("Fetching all configuration entries");
-        return configRepository.findAll().stream()
-                .map(this::mapToConfigResponse)
-                .collect(Collectors.toList());
+        log.debug("Fetching all configuration entries");
+        return currentSnapshot().entries().values().stream().toList();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<ConfigResponse> getConfig(String key) {
-        log.info("Fetching configuration for key: {}", key);
-        return configRepository.findByConfigKey(key)
-                .map(this::mapToConfigResponse);
+        log.debug("Fetching configuration for key: {}", key);
+        return Optional.ofNullable(currentSnapshot().entries().get(key));
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+        ConfigResponse config = currentSnapshot().entries().get(key);
+        return config != null ? config.getConfigValue() : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(String key, boolean defaultValue) {
+        ConfigResponse config = currentSnapshot().entries().get(key);
+        return config != null ? Boolean.parseBoolean(config.getConfigValue()) : defaultValue;
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+        ConfigResponse config = currentSnapshot().entries().get(key);
+        if (config == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(config.getConfigValue().trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
 
     @Override
@@ -74,8 +110,27 @@ public class ConfigServiceImpl implements ConfigService {
         auditService.logAction("UPDATE", "SystemConfig", savedConfig.getId(),
                 "Updated config: " + savedConfig.getConfigKey());
 
+        ConfigResponse response = mapToConfigResponse(savedConfig);
+        publishAfterCommit(response);
+
         log.info("Successfully updated configuration for key: {}", request.getConfigKey());
-        return mapToConfigResponse(savedConfig);
+        return response;
+    }
+
+    /**
+     * Reloads the snapshot when another instance has changed the table.
+     */
+    @Scheduled(fixedDelayString = "${app.config-cache.refresh-interval:PT15S}",
+            initialDelayString = "${app.config-cache.refresh-interval:PT15S}")
+    public void refreshIfChanged() {
+        try {
+            Snapshot current = snapshot.get();
+            if (current == null || !Objects.equals(current.version(), loadVersion())) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Config snapshot refresh failed; serving the previous snapshot: {}", e.getMessage());
+        }
     }
 
     @jakarta.annotation.PostConstruct
@@ -110,6 +165,8 @@ public class ConfigServiceImpl implements ConfigService {
         seedConfig("QA_FEATURE_ENABLED", "true", "StartRight", "BOOLEAN", "Enable Live Q&A Feature");
         seedConfig("STARTRIGHT_SESSION_ACTIVE", "true", "Events", "BOOLEAN",
                 "Enable StartRight session forms (Registration, T-Shirt)");
+
+        reload();
     }
 
     private void seedConfig(String key, String value, String category, String type, String description) {
@@ -126,6 +183,62 @@ public class ConfigServiceImpl implements ConfigService {
         }
     }
 
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Builds a fresh snapshot from the table. The version is read first, so a
+     * concurrent change at worst triggers one extra reload on the next poll.
+     */
+    private Snapshot reload() {
+        List<Object> version = loadVersion();
+        // Keeps table order for the admin listing
+        Map<String, ConfigResponse> entries = new LinkedHashMap<>();
+        for (SystemConfig config : configRepository.findAll()) {
+            entries.put(config.getConfigKey(), mapToConfigResponse(config));
+        }
+        Snapshot loaded = new Snapshot(Collections.unmodifiableMap(entries), version);
+        snapshot.set(loaded);
+        log.debug("Loaded config snapshot with {} entries", entries.size());
+        return loaded;
+    }
+
+    private List<Object> loadVersion() {
+        List<Object[]> rows = configRepository.findVersion();
+        return rows == null || rows.isEmpty() ? List.of() : Arrays.asList(rows.get(0));
+    }
+
+    /**
+     * Swaps the updated entry into the snapshot once the update is committed, so
+     * readers never see a value that could still roll back.
+     */
+    private void publishAfterCommit(ConfigResponse updated) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(updated);
+                }
+            });
+        } else {
+            publish(updated);
+        }
+    }
+
+    private void publish(ConfigResponse updated) {
+        snapshot.updateAndGet(current -> {
+            if (current == null) {
+                return null;
+            }
+            Map<String, ConfigResponse> entries = new LinkedHashMap<>(current.entries());
+            entries.put(updated.getConfigKey(), updated);
+            // Keep the old version so the next poll reloads with the committed version
+            return new Snapshot(Collections.unmodifiableMap(entries), current.version());
+        });
+    }
+
     /**
      * Get current username from security context.
      */
@@ -155,4 +268,7 @@ public class ConfigServiceImpl implements ConfigService {
                 .updatedBy(config.getUpdatedBy())
                 .build();
     }
+
+    private record Snapshot(Map<String, ConfigResponse> entries, List<Object> version) {
+    }
 }
@@ -0,0 +1,94 @@
+package com.merbsconnect.admin.service.impl;
+
+import com.merbsconnect.admin.dto.response.AnalyticsResponse;
+import com.merbsconnect.admin.dto.response.SnapshotMetadata;
+import com.merbsconnect.admin.dto.response.SystemStatsResponse;
+import com.merbsconnect.admin.service.AnalyticsService;
+import com.merbsconnect.admin.service.DashboardSnapshotService;
+import com.merbsconnect.admin.service.SystemMonitoringService;
+import com.merbsconnect.config.AsyncConfig;
+import com.merbsconnect.events.dto.response.DashboardResponse;
+import com.merbsconnect.events.service.EventService;
+import com.merbsconnect.util.DashboardDataChangedEvent;
+import com.merbsconnect.util.RefreshingSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+@Slf4j
+@Service
+public class DashboardSnapshotServiceImpl implements DashboardSnapshotService {
+
+    private final RefreshingSnapshot<DashboardResponse> dashboard;
+    private final RefreshingSnapshot<AnalyticsResponse> analytics;
+    private final RefreshingSnapshot<SystemStatsResponse> systemStats;
+    private final Duration staleAfter;
+
+    public DashboardSnapshotServiceImpl(EventService eventService,
+                                        AnalyticsService analyticsService,
+                                        SystemMonitoringService systemMonitoringService,
+                                        @Qualifier(AsyncConfig.DASHBOARD_EXECUTOR) TaskExecutor executor,
+                                        @Value("${app.dashboard.stale-after:PT2M}") Duration staleAfter,
+                                        @Value("${app.dashboard.min-rebuild-interval:PT5S}") Duration minRebuildInterval) {
+        this.dashboard = new RefreshingSnapshot<>("dashboard", eventService::getDashboardData,
+                executor, minRebuildInterval);
+        this.analytics = new RefreshingSnapshot<>("analytics", analyticsService::getAnalyticsData,
+                executor, minRebuildInterval);
+        this.systemStats = new RefreshingSnapshot<>("system-stats", systemMonitoringService::getSystemStats,
+                executor, minRebuildInterval);
+        this.staleAfter = staleAfter;
+    }
+
+    @Override
+    public DashboardResponse getDashboard() {
+        RefreshingSnapshot.Snapshot<DashboardResponse> snapshot = dashboard.get();
+        return snapshot.value().toBuilder().snapshot(metadata(dashboard, snapshot)).build();
+    }
+
+    @Override
+    public AnalyticsResponse getAnalytics() {
+        RefreshingSnapshot.Snapshot<AnalyticsResponse> snapshot = analytics.get();
+        return snapshot.value().toBuilder().snapshot(metadata(analytics, snapshot)).build();
+    }
+
+    @Override
+    public SystemStatsResponse getSystemStats() {
+        RefreshingSnapshot.Snapshot<SystemStatsResponse> snapshot = systemStats.get();
+        return snapshot.value().toBuilder().snapshot(metadata(systemStats, snapshot)).build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.dashboard.refresh-interval:PT1M}")
+    public void refreshAll() {
+        dashboard.requestRefresh();
+        analytics.requestRefresh();
+        systemStats.requestRefresh();
+    }
+
+    /**
+     * Rebuilds after the writing transaction commits, so the new snapshot sees the change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardDataChanged(DashboardDataChangedEvent event) {
+        log.debug("Dashboard data changed ({}), scheduling snapshot refresh", event.source());
+        refreshAll();
+    }
+
+    private SnapshotMetadata metadata(RefreshingSnapshot<?> holder, RefreshingSnapshot.Snapshot<?> snapshot) {
+        Duration age = snapshot.age();
+        boolean refreshing = holder.isRefreshing();
+        return SnapshotMetadata.builder()
+                .generatedAt(snapshot.generatedAt().atZone(ZoneId.systemDefault()).toLocalDateTime())
+                .ageSeconds(age.toSeconds())
+                .refreshing(refreshing)
+                .stale(refreshing || age.compareTo(staleAfter) > 0)
+                .build();
+    }
+}
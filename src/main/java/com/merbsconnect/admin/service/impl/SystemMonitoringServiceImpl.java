@@ -6,6 +6,7 @@ import com.merbsconnect.admin.service.SystemMonitoringService;
 import com.merbsconnect.authentication.repository.UserRepository;
 import com.merbsconnect.enums.UserStatus;
 import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.EventStatsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,7 @@ public class SystemMonitoringServiceImpl implements SystemMonitoringService {
 
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
     private final AuditLogRepository auditLogRepository;
 
     @Override
@@ -40,12 +42,10 @@ public class SystemMonitoringServiceImpl implements SystemMonitoringService {
         long totalUsers = userRepository.count();
         long activeUsers = userRepository.countByStatus(UserStatus.ACTIVE);
         long totalEvents = eventRepository.count();
-        long totalAuditLogs = auditLogRepository.countBy();
+        long totalAuditLogs = auditLogRepository.estimateCount();
 
-        // Calculate total registrations
-        long totalRegistrations = eventRepository.findAll().stream()
-                .mapToLong(event -> event.getRegistrations().size())
-                .sum();
+        // Total registrations (V1 + V2) from the per-event stats rollup
+        long totalRegistrations = eventStatsRepository.sumRegistrations();
 
         // Get JVM metrics
         Map<String, Object> metrics = getJvmMetrics();
@@ -7,7 +7,6 @@ import com.merbsconnect.admin.dto.response.UserResponse;
 import com.merbsconnect.admin.model.ActivityLog;
 import com.merbsconnect.admin.repository.ActivityLogRepository;
 import com.merbsconnect.admin.service.AuditService;
-import com.merbsconnect.admin.service.AuditService;
 import com.merbsconnect.admin.service.UserService;
 import com.merbsconnect.email.service.EmailService;
 import com.merbsconnect.sms.service.SmsService;
@@ -15,6 +14,7 @@ import com.merbsconnect.sms.dtos.request.BulkSmsRequest;
 import com.merbsconnect.authentication.domain.User;
 import com.merbsconnect.authentication.dto.response.MessageResponse;
 import com.merbsconnect.authentication.repository.UserRepository;
+import com.merbsconnect.authentication.security.UserPrincipalCache;
 import com.merbsconnect.enums.UserStatus;
 import com.merbsconnect.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +43,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final SmsService smsService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -132,6 +133,7 @@ public class UserServiceImpl implements UserService {
 
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("User not found with ID: " + id));
+        String previousEmail = user.getEmail();
 
         // Update fields if provided
         if (request.getFirstName() != null) {
@@ -166,6 +168,8 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userPrincipalCache.evict(previousEmail);
+        userPrincipalCache.evict(updatedUser.getEmail());
 
         // Log audit trail
         auditService.logAction("UPDATE", "User", updatedUser.getId(),
@@ -193,6 +197,7 @@ public class UserServiceImpl implements UserService {
 
         // Hard delete - remove from database
         userRepository.delete(user);
+        userPrincipalCache.evict(user.getEmail());
 
         // Log audit trail
         auditService.logAction("DELETE", "User", id,
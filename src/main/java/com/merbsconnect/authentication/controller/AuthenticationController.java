@@ -9,6 +9,8 @@ import com.merbsconnect.authentication.dto.request.TokenRefreshRequest;
 import com.merbsconnect.authentication.dto.response.JwtResponse;
 import com.merbsconnect.authentication.dto.response.MessageResponse;
 import com.merbsconnect.authentication.service.AuthenticationService;
+import com.merbsconnect.authentication.service.RateLimitService;
+import com.merbsconnect.util.ClientIpResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,6 +18,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthenticationController {
 
     private final AuthenticationService authenticationService;
+    private final RateLimitService rateLimitService;
 
     @PostMapping("/signup")
     @Operation(
@@ -99,6 +103,11 @@ public class AuthenticationController {
                     description = "Email not verified. Please verify your email before logging in.",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many attempts. Retry after the number of seconds in the Retry-After header",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error during authentication",
@@ -106,8 +115,10 @@ public class AuthenticationController {
             )
     })
     public ResponseEntity<JwtResponse> authenticateUser(
-            @Valid @RequestBody LoginRequest loginRequest) {
+            @Valid @RequestBody LoginRequest loginRequest, HttpServletRequest request) {
+        rateLimitService.checkLogin(loginRequest.getEmail(), ClientIpResolver.resolve(request));
         JwtResponse jwtResponse = authenticationService.authenticateUser(loginRequest);
+        rateLimitService.resetLogin(loginRequest.getEmail());
         return ResponseEntity.ok(jwtResponse);
     }
 
@@ -178,6 +189,11 @@ public class AuthenticationController {
                     description = "User with the provided email address not found",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many password reset requests. Retry after the number of seconds in the Retry-After header",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error while sending password reset email",
@@ -191,7 +207,8 @@ public class AuthenticationController {
                     required = true,
                     example = "user@example.com"
             )
-            @RequestParam("email") String email) {
+            @RequestParam("email") String email, HttpServletRequest request) {
+        rateLimitService.checkTokenRequest(email, ClientIpResolver.resolve(request), TokenType.PASSWORD_RESET);
         MessageResponse messageResponse = authenticationService.requestPasswordReset(email);
         return ResponseEntity.ok(messageResponse);
     }
@@ -300,6 +317,11 @@ public class AuthenticationController {
                     description = "User with the provided email address not found",
                     content = @Content(mediaType = "application/json")
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many resend requests. Retry after the number of seconds in the Retry-After header",
+                    content = @Content(mediaType = "application/json")
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error while resending token",
@@ -320,8 +342,10 @@ public class AuthenticationController {
                     required = true,
                     example = "VERIFICATION"
             )
-            @RequestParam TokenType tokenType
+            @RequestParam TokenType tokenType,
+            HttpServletRequest request
     ) throws BadRequestException {
+        rateLimitService.checkTokenRequest(email, ClientIpResolver.resolve(request), tokenType);
         MessageResponse response = authenticationService.resendToken(email, tokenType);
         return ResponseEntity.ok(response);
     }
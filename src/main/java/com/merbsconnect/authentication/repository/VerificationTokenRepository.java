@@ -22,18 +22,6 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
             TokenType tokenType
     );
 
-    List<VerificationToken> findAllByUserAndTokenTypeAndCreatedAtAfter(
-            User user,
-            TokenType tokenType,
-            LocalDateTime createdAfter
-    );
-
-    long countByUserAndTokenTypeAndCreatedAtAfter(
-            User user,
-            TokenType tokenType,
-            LocalDateTime createdAfter
-    );
-
     @Modifying
     @Transactional
     int deleteByExpiresAtBeforeOrVerifiedAtIsNotNullAndCreatedAtBefore(
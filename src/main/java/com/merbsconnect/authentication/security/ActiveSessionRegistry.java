@@ -0,0 +1,87 @@
+package com.merbsconnect.authentication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.merbsconnect.admin.dto.response.ActiveSessionResponse;
+import com.merbsconnect.config.ActivityTrackingProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Tracks access tokens seen recently, one session per token. The JWT filter
+ * touches the registry on every authenticated request; tokens idle longer than
+ * the configured timeout drop out. Nothing here is persisted, so the list
+ * starts empty after a restart and fills again as clients make requests.
+ */
+@Component
+public class ActiveSessionRegistry {
+
+    private final Cache<String, Session> sessions;
+
+    public ActiveSessionRegistry(ActivityTrackingProperties properties) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSessions())
+                .expireAfterAccess(properties.getSessionIdleTimeout())
+                .build();
+    }
+
+    /**
+     * Records activity on a token. The session id is derived from the token once,
+     * when the token is first seen; later calls only bump the activity time.
+     */
+    public void touch(String token, String username, String ipAddress) {
+        Session session = sessions.get(token, t -> new Session(sessionId(t), username, LocalDateTime.now()));
+        session.lastActivity = LocalDateTime.now();
+        session.ipAddress = ipAddress;
+    }
+
+    /**
+     * Sessions with recent activity, most recently active first.
+     */
+    public List<ActiveSessionResponse> getActiveSessions() {
+        return sessions.asMap().values().stream()
+                .map(session -> ActiveSessionResponse.builder()
+                        .sessionId(session.id)
+                        .username(session.username)
+                        .loginTime(session.firstSeen)
+                        .ipAddress(session.ipAddress)
+                        .lastActivity(session.lastActivity)
+                        .build())
+                .sorted(Comparator.comparing(ActiveSessionResponse::getLastActivity).reversed())
+                .toList();
+    }
+
+    /**
+     * Non-reversible identifier, so the raw token is never exposed through the API.
+     */
+    private static String sessionId(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class Session {
+        private final String id;
+        private final String username;
+        private final LocalDateTime firstSeen;
+        private volatile LocalDateTime lastActivity;
+        private volatile String ipAddress;
+
+        private Session(String id, String username, LocalDateTime firstSeen) {
+            this.id = id;
+            this.username = username;
+            this.firstSeen = firstSeen;
+            this.lastActivity = firstSeen;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.merbsconnect.authentication.security;
+
+import com.merbsconnect.admin.model.ActivityLog;
+import com.merbsconnect.config.ActivityTrackingProperties;
+import com.merbsconnect.util.ActivityLogBuffer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a sample of authenticated API calls (user, endpoint, status,
+ * latency) into {@link ActivityLogBuffer}. The sampling decision is made
+ * before the request runs, so unsampled requests cost one random number.
+ * Endpoints are stored as the matched route pattern, not the raw path, so ids
+ * in the URL do not fragment the activity report.
+ */
+@Component
+public class ActivityTrackingFilter extends OncePerRequestFilter {
+
+    static final String ACTIVITY_TYPE = "API_CALL";
+
+    private final ActivityTrackingProperties properties;
+    private final ActivityLogBuffer buffer;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ActivityTrackingFilter(ActivityTrackingProperties properties, ActivityLogBuffer buffer) {
+        this.properties = properties;
+        this.buffer = buffer;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            return true;
+        }
+        String path = request.getServletPath();
+        return properties.getExcludedPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Long userId = currentUserId();
+            if (userId != null) {
+                long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                buffer.offer(ActivityLog.builder()
+                        .userId(userId)
+                        .activityType(ACTIVITY_TYPE)
+                        .endpoint(request.getMethod() + " " + endpoint(request))
+                        .timestamp(LocalDateTime.now())
+                        .details("{\"status\":" + response.getStatus() + ",\"latencyMs\":" + latencyMs + "}")
+                        .build());
+            }
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getServletPath();
+    }
+}
@@ -2,6 +2,7 @@ package com.merbsconnect.authentication.security;
 
 import com.merbsconnect.authentication.domain.User;
 import com.merbsconnect.enums.UserRole;
+import com.merbsconnect.enums.UserStatus;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
@@ -25,6 +26,8 @@ public class CustomUserDetails implements UserDetails {
     private final String phoneNumber;
     private final String password;
     private final boolean isEnabled;
+    // False while the account is suspended or soft-deleted
+    private final boolean accountNonLocked;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public static CustomUserDetails build(User user){
@@ -36,6 +39,7 @@ public class CustomUserDetails implements UserDetails {
                 user.getPhoneNumber(),
                 user.getPassword(),
                 user.isEnabled(),
+                user.getStatus() == null || user.getStatus() == UserStatus.ACTIVE,
                 mapRolesToAuthorities(user.getRole()) // Map roles to authorities
         );
     }
@@ -63,7 +67,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isAccountNonLocked() {
-        return true;
+        return accountNonLocked;
     }
 
     @Override
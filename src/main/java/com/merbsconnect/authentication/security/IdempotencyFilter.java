@@ -0,0 +1,172 @@
+package com.merbsconnect.authentication.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merbsconnect.config.IdempotencyProperties;
+import com.merbsconnect.config.IdempotencyProperties.Route;
+import com.merbsconnect.exception.GlobalExceptionHandler.ErrorDetails;
+import com.merbsconnect.util.CachedBodyHttpServletRequest;
+import com.merbsconnect.util.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * Makes retried POSTs safe for clients that send an {@code Idempotency-Key}
+ * header. The first request with a key runs normally and its response is
+ * stored; retries with the same key and body get that response (status,
+ * body, Content-Type and Location) replayed without reaching a controller. Keys are scoped to method, path and caller.
+ * <p>
+ * Server errors are not stored, so the client may retry them. A retry that
+ * arrives while the first request is still running gets a 409.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || request.getContentLengthLong() > properties.getMaxBodyBytes()
+                || !matchesRoute(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters", "INVALID_IDEMPOTENCY_KEY");
+            return;
+        }
+
+        // Content-Length is absent on chunked bodies, so the limit is enforced while reading
+        CachedBodyHttpServletRequest cachedRequest =
+                new CachedBodyHttpServletRequest(request, properties.getMaxBodyBytes());
+        if (!cachedRequest.isComplete()) {
+            filterChain.doFilter(cachedRequest, response);
+            return;
+        }
+        String scopeKey = sha256((request.getMethod() + " " + request.getServletPath() + "\n" + principal() + "\n"
+                + key).getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256(cachedRequest.getBody());
+
+        IdempotencyStore.Lookup lookup = store.begin(scopeKey, requestHash);
+        switch (lookup.state()) {
+            case COMPLETED -> replay(response, lookup.response());
+            case IN_PROGRESS -> writeError(request, response, HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still being processed", "IDEMPOTENCY_KEY_IN_USE");
+            case MISMATCH -> writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used for a different request", "IDEMPOTENCY_KEY_REUSED");
+            case ACQUIRED -> process(cachedRequest, response, filterChain, scopeKey, requestHash);
+        }
+    }
+
+    private void process(CachedBodyHttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+            String scopeKey, String requestHash) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            byte[] body = wrapper.getContentAsByteArray();
+            if (status < 500 && body.length <= properties.getMaxBodyBytes()) {
+                store.complete(scopeKey, requestHash, new IdempotencyStore.StoredResponse(
+                        status, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.LOCATION),
+                        new String(body, StandardCharsets.UTF_8)));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(scopeKey);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.body() != null) {
+            response.getOutputStream().write(stored.body().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private boolean matchesRoute(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getServletPath();
+        for (Route route : properties.getRoutes()) {
+            if (route.getMethod().equalsIgnoreCase(method) && pathMatcher.match(route.getPattern(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : "anonymous";
+    }
+
+    private static String sha256(byte[] value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+            String message, String code) throws IOException {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                message,
+                "uri=" + request.getRequestURI(),
+                code);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+}
@@ -0,0 +1,124 @@
+package com.merbsconnect.authentication.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.merbsconnect.config.RateLimitProperties;
+import com.merbsconnect.config.RateLimitProperties.Bucket;
+import com.merbsconnect.config.RateLimitProperties.Route;
+import com.merbsconnect.exception.GlobalExceptionHandler.ErrorDetails;
+import com.merbsconnect.util.ClientIpResolver;
+import com.merbsconnect.util.TokenBucket;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the permit-all write endpoints with per-IP token buckets: one per
+ * configured route plus one shared across all of them. Requests over quota get
+ * a 429 here and never reach a controller, the database or the SMS gateway.
+ * <p>
+ * Buckets live in a Caffeine cache, whose ConcurrentHashMap backing spreads
+ * contention across bins, and idle buckets expire so memory stays bounded.
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final String PER_IP_BUCKET = "ip";
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys())
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || findRoute(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Route route = findRoute(request);
+        String clientIp = ClientIpResolver.resolve(request);
+        long now = System.nanoTime();
+
+        TokenBucket routeBucket = bucket(route.getName() + "|" + clientIp, route.getBucket(), now);
+        TokenBucket.Result result = routeBucket.tryConsume(now);
+        if (result.allowed()) {
+            TokenBucket.Result ipResult = bucket(PER_IP_BUCKET + "|" + clientIp, properties.getPerIp(), now)
+                    .tryConsume(now);
+            if (!ipResult.allowed()) {
+                result = ipResult;
+            }
+        }
+
+        response.setHeader(LIMIT_HEADER, String.valueOf(routeBucket.getCapacity()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(result.remaining()));
+
+        if (!result.allowed()) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(result.nanosUntilToken() - 1) + 1);
+            log.warn("Rate limit exceeded on {} for {} (retry after {}s)", route.getName(), clientIp,
+                    retryAfterSeconds);
+            writeTooManyRequests(request, response, retryAfterSeconds);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getServletPath();
+        for (Route route : properties.getRoutes()) {
+            if (route.getMethod().equalsIgnoreCase(method) && pathMatcher.match(route.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private TokenBucket bucket(String key, Bucket config, long now) {
+        return buckets.get(key, k -> new TokenBucket(
+                config.getCapacity(), config.getRefillTokens(), config.getRefillPeriod(), now));
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+            long retryAfterSeconds) throws IOException {
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                "Too many requests. Please try again later.",
+                "uri=" + request.getRequestURI(),
+                "RATE_LIMITED");
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorDetails);
+    }
+}
@@ -0,0 +1,75 @@
+package com.merbsconnect.authentication.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.merbsconnect.authentication.security.jwt.JwtClaimsCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, short-lived cache of {@link CustomUserDetails} keyed by email.
+ * Writers that change a user's role, status, enabled flag, password or
+ * existence must call {@link #evict(String)}; the TTL only bounds how stale
+ * an entry can get if an eviction is missed.
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    private final Cache<String, CustomUserDetails> cache;
+    private final JwtClaimsCache claimsCache;
+
+    public UserPrincipalCache(JwtClaimsCache claimsCache,
+            @Value("${app.security.user-cache.max-size:1000}") long maxSize,
+            @Value("${app.security.user-cache.ttl:PT5M}") Duration ttl) {
+        this.claimsCache = claimsCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the cached principal for the email, loading it on a miss.
+     * Exceptions thrown by the loader propagate and nothing is cached.
+     */
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Evicts the principal and any verified tokens for the email. Inside a
+     * transaction the eviction is repeated after commit so a concurrent request
+     * cannot re-cache the pre-commit row.
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        doEvict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(email);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private void doEvict(String email) {
+        cache.invalidate(email);
+        claimsCache.evictSubject(email);
+        log.debug("Evicted cached principal for {}", email);
+    }
+}
@@ -1,8 +1,10 @@
 package com.merbsconnect.authentication.security.jwt;
 
+import com.merbsconnect.authentication.security.ActiveSessionRegistry;
+import com.merbsconnect.authentication.security.CustomUserDetails;
 import com.merbsconnect.authentication.security.CustomUserDetailsService;
+import com.merbsconnect.util.ClientIpResolver;
 import com.merbsconnect.util.EndpointUtils;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -29,6 +31,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final JwtClaimsCache claimsCache;
+    private final ActiveSessionRegistry sessionRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -48,24 +52,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("Extracted JWT token: {}", jwt != null ? "Present" : "Missing");
 
             if (jwt != null) {
-                log.debug("Validating JWT token...");
-                boolean isValid = jwtService.validateToken(jwt);
-                log.debug("JWT token validation result: {}", isValid);
-
-                if (isValid) {
-                    Claims claims = jwtService.getClaims(jwt);
-                    String username = claims.getSubject();
-                    log.debug("Username from token: {}", username);
-                    String role = claims.get("role", String.class);
+                VerifiedToken verified = claimsCache.get(jwt);
+                if (verified == null) {
+                    verified = jwtService.verifyAccessToken(jwt);
+                    if (verified != null) {
+                        // Confirms the account still exists, is enabled and is not suspended;
+                        // served from the principal cache, and re-checked whenever the user
+                        // changes (updates evict both caches) or the claims entry's TTL lapses
+                        UserDetails account = customUserDetailsService.loadUserByUsername(verified.subject());
+                        if (account.isEnabled() && account.isAccountNonLocked()) {
+                            claimsCache.put(jwt, verified);
+                        } else {
+                            log.warn("Rejected token for disabled or suspended account: {}", verified.subject());
+                            verified = null;
+                        }
+                    }
+                }
 
-                    // Log the role at INFO level to help debug authorization issues
-                    log.info("JWT Authentication - User: {}, Role from token: {}", username, role);
+                if (verified != null) {
+                    String username = verified.subject();
+                    String role = verified.role();
+                    log.debug("JWT Authentication - User: {}, Role from token: {}", username, role);
 
                     List<GrantedAuthority> authorities = Collections.singletonList(
                             new SimpleGrantedAuthority(role));
 
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-                    log.debug("User details loaded for: {}, authorities: {}", username, userDetails.getAuthorities());
+                    UserDetails userDetails = buildPrincipal(verified, authorities);
 
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                             userDetails,
@@ -75,6 +87,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             new WebAuthenticationDetailsSource().buildDetails(request));
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    sessionRegistry.touch(jwt, username, ClientIpResolver.resolve(request));
                     log.debug("Authentication set in SecurityContext for user: {}", username);
                 } else {
                     log.warn("JWT token validation failed for request: {}", requestPath);
@@ -89,6 +102,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Builds the principal straight from verified claims. Tokens issued before
+     * the "uid" claim was added fall back to a user lookup.
+     */
+    private UserDetails buildPrincipal(VerifiedToken verified, List<GrantedAuthority> authorities) {
+        if (verified.userId() == null) {
+            return customUserDetailsService.loadUserByUsername(verified.subject());
+        }
+        return new CustomUserDetails(
+                verified.userId(),
+                verified.firstName(),
+                verified.lastName(),
+                verified.subject(),
+                null,
+                null,
+                true,
+                true,
+                authorities);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (headerAuth != null && headerAuth.startsWith("Bearer ")) {
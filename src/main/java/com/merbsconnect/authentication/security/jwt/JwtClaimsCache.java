@@ -0,0 +1,93 @@
+package com.merbsconnect.authentication.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Bounded cache of verified access tokens keyed by a SHA-256 hash of the raw
+ * token. Each entry expires with its token or after the principal cache's TTL,
+ * whichever comes first: a hit skips the account check, so a disabled or
+ * deleted user whose eviction was missed (e.g. on another replica) is
+ * rejected within the same bound as a stale principal.
+ */
+@Slf4j
+@Component
+public class JwtClaimsCache {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtClaimsCache(@Value("${app.jwt.claims-cache.max-size:10000}") long maxSize,
+            @Value("${app.security.user-cache.ttl:PT5M}") Duration maxTtl) {
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExpiry = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Returns the verified claims for a token, or null if the token has not been
+     * verified yet (or its entry expired).
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken verified = cache.getIfPresent(hash(token));
+        if (verified != null && verified.isExpired()) {
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        cache.put(hash(token), verified);
+    }
+
+    /**
+     * Drops every cached token issued to the given subject, forcing the next
+     * request to re-verify.
+     */
+    public void evictSubject(String subject) {
+        cache.asMap().values().removeIf(v -> v.subject().equalsIgnoreCase(subject));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
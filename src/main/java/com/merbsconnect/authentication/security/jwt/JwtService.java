@@ -34,6 +34,8 @@ public class
 
     private Key key;
 
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         try {
@@ -47,6 +49,10 @@ public class
             key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
             log.info("JWT secret key initialized from plain string");
         }
+        // JwtParser is immutable and thread-safe, so one instance serves every request
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String generateToken(Authentication authentication){
@@ -62,6 +68,7 @@ public class
                 .findFirst()
                 .orElse("ROLE_USER"));
         claims.put("purpose" ,"authentication");
+        claims.put("uid", customUserDetails.getId());
 
         String tokenId = UUID.randomUUID().toString();
 
@@ -78,11 +85,37 @@ public class
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Parses and verifies an access token in a single pass: signature, expiry
+     * and the "authentication" purpose claim.
+     *
+     * @param token the raw JWT
+     * @return the verified claims, or null if the token is not a valid access token
+     */
+    public VerifiedToken verifyAccessToken(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (!"authentication".equals(claims.get("purpose", String.class))) {
+                log.warn("JWT token rejected: not an access token");
+                return null;
+            }
+            Number uid = claims.get("uid", Number.class);
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    uid != null ? uid.longValue() : null,
+                    claims.get("firstname", String.class),
+                    claims.get("lastname", String.class),
+                    claims.get("role", String.class),
+                    claims.getExpiration().toInstant());
+        } catch (ExpiredJwtException e) {
+            log.debug("JWT token is expired: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+        }
+        return null;
     }
 
     public String generateTokenFromEmail(String email){
@@ -100,10 +133,7 @@ public class
     }
 
     public String getUsernameFromToken(String token){
-        return Jwts.parserBuilder()
-               .setSigningKey(key)
-               .build()
-               .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                .getBody()
                .getSubject();
     }
@@ -130,15 +160,8 @@ public class
     public boolean validateToken(String token){
         try {
             log.debug("Validating JWT token with length: {}", token.length());
-            Jwts.parserBuilder()
-                    .setSigningKey(key())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getExpiration()
-                    .after(new Date());
-
-            return checkAccess(token);
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            return isAccessToken(claims);
 
         } catch (MalformedJwtException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
@@ -162,13 +185,11 @@ public class
     
     
     protected boolean checkAccess(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return isAccessToken(parser.parseClaimsJws(token).getBody());
+    }
 
-        return claims.get("purpose", String.class).equals("authentication");
+    private boolean isAccessToken(Claims claims) {
+        return "authentication".equals(claims.get("purpose", String.class));
     }
 
 }
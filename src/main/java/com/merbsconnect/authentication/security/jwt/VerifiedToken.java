@@ -0,0 +1,22 @@
+package com.merbsconnect.authentication.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * The subset of access-token claims needed to authenticate a request, taken
+ * from a token whose signature, expiry and purpose have already been checked.
+ *
+ * @param subject   the user's email
+ * @param userId    the user's id, or null for tokens issued before the claim existed
+ * @param firstName the user's first name
+ * @param lastName  the user's last name
+ * @param role      the granted role (e.g. ROLE_ADMIN)
+ * @param expiresAt when the token stops being valid
+ */
+public record VerifiedToken(String subject, Long userId, String firstName, String lastName, String role,
+        Instant expiresAt) {
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
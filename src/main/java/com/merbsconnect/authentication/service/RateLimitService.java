@@ -1,11 +1,24 @@
 package com.merbsconnect.authentication.service;
 
 import com.merbsconnect.authentication.domain.TokenType;
-import com.merbsconnect.authentication.domain.User;
 
 public interface RateLimitService {
 
-    void checkRateLimit(User user, TokenType tokenType);
+    /**
+     * Throttles login attempts per email and per client IP. Must run before the
+     * credentials are looked up so that floods never reach the database or BCrypt.
+     * The email limit holds however the address varies; the address must come
+     * from {@link com.merbsconnect.util.ClientIpResolver}, never from a raw header.
+     */
+    void checkLogin(String email, String clientIp);
 
+    /**
+     * Clears the per-email login window after a successful authentication.
+     */
+    void resetLogin(String email);
 
+    /**
+     * Throttles verification and password-reset token requests per email and per client IP.
+     */
+    void checkTokenRequest(String email, String clientIp, TokenType tokenType);
 }
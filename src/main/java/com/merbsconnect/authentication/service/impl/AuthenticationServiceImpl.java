@@ -14,6 +14,7 @@ import com.merbsconnect.authentication.dto.response.MessageResponse;
 import com.merbsconnect.authentication.repository.UserRepository;
 import com.merbsconnect.authentication.repository.VerificationTokenRepository;
 import com.merbsconnect.authentication.security.CustomUserDetails;
+import com.merbsconnect.authentication.security.UserPrincipalCache;
 import com.merbsconnect.authentication.security.jwt.JwtService;
 import com.merbsconnect.authentication.service.AuthenticationService;
 import com.merbsconnect.authentication.service.RefreshTokenService;
@@ -50,6 +51,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final TokenService tokenService;
     private final VerificationTokenRepository tokenRepository;
     private final TokenResendFactory tokenResendFactory;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     @Transactional
@@ -127,6 +129,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private void updateUserPassword(User user, String newPassword) {
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
     }
 
     private void markTokenAsUsed(VerificationToken token) {
@@ -221,6 +224,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private void verifyUserEmail(User user, VerificationToken token) {
         user.setEnabled(true);
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
 
         token.markAsUsed();
         tokenRepository.save(token);
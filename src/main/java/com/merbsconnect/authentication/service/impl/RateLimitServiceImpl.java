@@ -1,62 +1,81 @@
 package com.merbsconnect.authentication.service.impl;
 
 import com.merbsconnect.authentication.domain.TokenType;
-import com.merbsconnect.authentication.domain.User;
-import com.merbsconnect.authentication.domain.VerificationToken;
-import com.merbsconnect.authentication.repository.VerificationTokenRepository;
 import com.merbsconnect.authentication.service.RateLimitService;
 import com.merbsconnect.config.RateLimitConfig;
 import com.merbsconnect.exception.RateLimitException;
+import com.merbsconnect.util.SlidingWindowRateLimiter;
+import com.merbsconnect.util.SlidingWindowRateLimiter.Decision;
+import com.merbsconnect.util.SlidingWindowRateLimiter.Policy;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.Duration;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class RateLimitServiceImpl implements RateLimitService {
 
-    private final VerificationTokenRepository tokenRepository;
     private final RateLimitConfig rateLimitConfig;
 
-    @Override
-    public void checkRateLimit(User user, TokenType tokenType) {
-        checkCooldownPeriod(user, tokenType);
-        checkMaxAttempts(user, tokenType);
+    private SlidingWindowRateLimiter limiter;
+    private Policy loginEmailPolicy;
+    private Policy loginIpPolicy;
+    private Policy tokenEmailPolicy;
+    private Policy tokenIpPolicy;
+
+    @PostConstruct
+    void init() {
+        RateLimitConfig.Login login = rateLimitConfig.getLogin();
+        Duration tokenWindow = rateLimitConfig.getAttemptWindowDuration();
+
+        loginEmailPolicy = new Policy(login.getMaxAttemptsPerEmail(), login.getWindowDuration());
+        loginIpPolicy = new Policy(login.getMaxAttemptsPerIp(), login.getWindowDuration());
+        tokenEmailPolicy = new Policy(rateLimitConfig.getMaxAttempts(), tokenWindow,
+                rateLimitConfig.getCooldownDuration());
+        tokenIpPolicy = new Policy(rateLimitConfig.getMaxAttemptsPerIp(), tokenWindow);
+
+        Duration idleExpiry = tokenWindow.compareTo(login.getWindowDuration()) >= 0
+                ? tokenWindow
+                : login.getWindowDuration();
+        limiter = new SlidingWindowRateLimiter(rateLimitConfig.getMaxTrackedKeys(), idleExpiry);
     }
 
-    private void checkCooldownPeriod(User user, TokenType tokenType) {
-        LocalDateTime cooldownThreshold = LocalDateTime
-                .now().minus(rateLimitConfig.getCooldownDuration());
-
-        List<VerificationToken> recentAttempts = tokenRepository
-                .findAllByUserAndTokenTypeAndCreatedAtAfter(
-                        user,
-                        tokenType,
-                        cooldownThreshold
-                );
-        if (!recentAttempts.isEmpty()){
-            throw new RateLimitException(
-                    "Please, wait before requesting another verification email"
-            );
-        }
+    @Override
+    public void checkLogin(String email, String clientIp) {
+        enforce("login:ip:" + clientIp, loginIpPolicy,
+                "Too many login attempts from this address. Please try again later.");
+        enforce("login:email:" + normalize(email), loginEmailPolicy,
+                "Too many login attempts for this account. Please try again later.");
     }
 
-    private void checkMaxAttempts(User user, TokenType tokenType) {
-        LocalDateTime windowStart = LocalDateTime
-                .now().minus(rateLimitConfig.getAttemptWindowDuration());
+    @Override
+    public void resetLogin(String email) {
+        limiter.reset("login:email:" + normalize(email));
+    }
 
-        long recentCount = tokenRepository.countByUserAndTokenTypeAndCreatedAtAfter(
-                user,
-                tokenType,
-                windowStart
-        );
+    @Override
+    public void checkTokenRequest(String email, String clientIp, TokenType tokenType) {
+        enforce("token:ip:" + clientIp, tokenIpPolicy,
+                "Too many requests from this address. Please try again later.");
+        enforce(tokenType.name() + ":email:" + normalize(email), tokenEmailPolicy,
+                "Please wait before requesting another email.");
+    }
 
-        if (recentCount >= rateLimitConfig.getMAX_ATTEMPTS()) {
-            throw new RateLimitException(
-                    "Maximum resend attempts exceeded. Please try again later."
-            );
+    private void enforce(String key, Policy policy, String message) {
+        Decision decision = limiter.tryAcquire(key, policy);
+        if (!decision.allowed()) {
+            long retryAfterSeconds = Math.max(1, (decision.retryAfterMillis() + 999) / 1000);
+            log.warn("Rate limit exceeded for key {} (retry after {}s)", key, retryAfterSeconds);
+            throw new RateLimitException(message, retryAfterSeconds);
         }
     }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
 }
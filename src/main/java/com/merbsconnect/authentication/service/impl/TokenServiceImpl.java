@@ -5,7 +5,6 @@ import com.merbsconnect.authentication.domain.User;
 import com.merbsconnect.authentication.domain.VerificationToken;
 import com.merbsconnect.authentication.repository.UserRepository;
 import com.merbsconnect.authentication.repository.VerificationTokenRepository;
-import com.merbsconnect.authentication.service.RateLimitService;
 import com.merbsconnect.authentication.service.TokenService;
 import com.merbsconnect.email.service.EmailService;
 import com.merbsconnect.exception.BusinessException;
@@ -28,7 +27,6 @@ public class TokenServiceImpl implements TokenService {
     private final UserRepository userRepository;
     private final TokenGenerator tokenGenerator;
     private final TokenValidator tokenValidator;
-    private final RateLimitService rateLimitService;
     private final EmailService emailService;
 
     @Override
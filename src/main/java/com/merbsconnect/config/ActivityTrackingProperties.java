@@ -0,0 +1,42 @@
+package com.merbsconnect.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sampled API activity capture and the in-memory session registry, see
+ * {@link com.merbsconnect.authentication.security.ActivityTrackingFilter} and
+ * {@link com.merbsconnect.authentication.security.ActiveSessionRegistry}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.activity")
+@Data
+public class ActivityTrackingProperties {
+
+    private boolean enabled = true;
+
+    /** Fraction of authenticated requests written to activity_logs, from 0.0 to 1.0. */
+    private double sampleRate = 0.1;
+
+    /** Sampled entries held in memory between flushes; entries beyond this are dropped. */
+    private int bufferCapacity = 10_000;
+
+    /** Rows per INSERT batch. */
+    private int batchSize = 500;
+
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /** A token unused for this long no longer counts as an active session. */
+    private Duration sessionIdleTimeout = Duration.ofMinutes(30);
+
+    /** Upper bound on tracked sessions; least recently used are evicted beyond this. */
+    private long maxSessions = 10_000;
+
+    /** Ant-style servlet paths never recorded. */
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/**", "/api/v1/auth/**"));
+}
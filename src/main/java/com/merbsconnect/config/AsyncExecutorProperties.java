@@ -0,0 +1,36 @@
+package com.merbsconnect.config;
+
+import com.merbsconnect.util.ChannelExecutor.OverflowPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Per-channel limits for the async executors defined in {@link AsyncConfig}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.async")
+@Data
+public class AsyncExecutorProperties {
+
+    private Channel email = new Channel(10, 500, OverflowPolicy.CALLER_RUNS);
+    private Channel sms = new Channel(10, 500, OverflowPolicy.CALLER_RUNS);
+    private Channel image = new Channel(2, 20, OverflowPolicy.REJECT);
+    private Channel export = new Channel(2, 10, OverflowPolicy.REJECT);
+    // One slot per dashboard snapshot; each rebuilds single-flight, so they never queue behind each other
+    private Channel dashboard = new Channel(3, 3, OverflowPolicy.REJECT);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Channel {
+        /** Maximum number of tasks running at once. */
+        private int maxConcurrency;
+        /** Maximum number of tasks waiting for a free slot. */
+        private int maxQueued;
+        /** What to do when both limits are reached. */
+        private OverflowPolicy overflowPolicy;
+    }
+}
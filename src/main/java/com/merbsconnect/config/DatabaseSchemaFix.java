@@ -3,8 +3,10 @@ package com.merbsconnect.config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Temporary component to fix database schema database inconsistencies.
@@ -15,16 +17,98 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class DatabaseSchemaFix implements CommandLineRunner {
 
+    private static final String EMAIL_INDEX = "ux_event_registrations_v2_event_email_lower";
+    private static final String WAITLIST_EMAIL_INDEX = "ux_event_waitlist_event_email_lower";
+
     private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     public void run(String... args) throws Exception {
         log.info("Checking/Applying database schema fixes...");
+
+        // Fix for: null value in column "user_id" of relation "event_reviews" violates
+        // not-null constraint
+        // This allows guest reviews where user_id is null.
+        apply("ALTER TABLE event_reviews ALTER COLUMN user_id DROP NOT NULL");
+
+        // Case-insensitive uniqueness for registrations and the waitlist; the ON CONFLICT insert in
+        // EventRegistrationRepository relies on it to reject "A@x.com" after "a@x.com".
+        // Not wrapped in apply(): without the index duplicate signups go through, so
+        // failing to create it must stop startup
+        if (isPostgres()) {
+            createCaseInsensitiveEmailIndex();
+            createCaseInsensitiveWaitlistIndex();
+        }
+    }
+
+    /**
+     * Merges registrations that differ only in email case, then creates the
+     * unique index, in one transaction with the table locked against writes so
+     * no new duplicate can slip in between. Of each group the checked-in row,
+     * else the oldest, is kept and the others' merchandise orders move to it.
+     * Event stats counters are corrected by the startup stats repair.
+     */
+    private void createCaseInsensitiveEmailIndex() {
+        if (indexExists(EMAIL_INDEX)) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE event_registrations_v2 IN SHARE ROW EXCLUSIVE MODE");
+            String ranked = "WITH ranked AS (SELECT id, FIRST_VALUE(id) OVER (PARTITION BY event_id, lower(email) "
+                    + "ORDER BY checked_in DESC, id) AS keep_id FROM event_registrations_v2) ";
+            int movedOrders = jdbcTemplate.update(ranked
+                    + "UPDATE registration_merchandise_orders o SET registration_id = r.keep_id FROM ranked r "
+                    + "WHERE o.registration_id = r.id AND r.id <> r.keep_id");
+            int merged = jdbcTemplate.update(ranked
+                    + "DELETE FROM event_registrations_v2 d USING ranked r WHERE d.id = r.id AND r.id <> r.keep_id");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + EMAIL_INDEX
+                    + " ON event_registrations_v2 (event_id, lower(email))");
+            log.info("Created {} after merging {} case-variant duplicate registrations ({} merchandise orders moved)",
+                    EMAIL_INDEX, merged, movedOrders);
+        });
+    }
+
+    /**
+     * Same for the waitlist, where the oldest entry of each group keeps its place
+     * and the later ones are dropped with their merchandise orders.
+     */
+    private void createCaseInsensitiveWaitlistIndex() {
+        if (indexExists(WAITLIST_EMAIL_INDEX)) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE event_waitlist IN SHARE ROW EXCLUSIVE MODE");
+            String ranked = "WITH ranked AS (SELECT id, FIRST_VALUE(id) OVER (PARTITION BY event_id, lower(email) "
+                    + "ORDER BY id) AS keep_id FROM event_waitlist) ";
+            jdbcTemplate.update(ranked
+                    + "DELETE FROM waitlist_merchandise_orders o USING ranked r "
+                    + "WHERE o.waitlist_entry_id = r.id AND r.id <> r.keep_id");
+            int dropped = jdbcTemplate.update(ranked
+                    + "DELETE FROM event_waitlist d USING ranked r WHERE d.id = r.id AND r.id <> r.keep_id");
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + WAITLIST_EMAIL_INDEX
+                    + " ON event_waitlist (event_id, lower(email))");
+            log.info("Created {} after dropping {} case-variant duplicate waitlist entries",
+                    WAITLIST_EMAIL_INDEX, dropped);
+        });
+    }
+
+    private boolean indexExists(String name) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_indexes WHERE indexname = ?", Integer.class, name);
+        return existing != null && existing > 0;
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+
+    private void apply(String sql) {
         try {
-            // Fix for: null value in column "user_id" of relation "event_reviews" violates
-            // not-null constraint
-            // This allows guest reviews where user_id is null.
-            String sql = "ALTER TABLE event_reviews ALTER COLUMN user_id DROP NOT NULL";
             jdbcTemplate.execute(sql);
             log.info("Successfully executed: {}", sql);
         } catch (Exception e) {
@@ -0,0 +1,51 @@
+package com.merbsconnect.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes that honour an {@code Idempotency-Key} header, enforced by
+ * {@link com.merbsconnect.authentication.security.IdempotencyFilter}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.idempotency")
+@Data
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /** How long a stored response is replayed for. */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** A key claimed by a request that never finished becomes usable again after this. */
+    private Duration lockTimeout = Duration.ofMinutes(1);
+
+    /** Completed responses kept in memory in front of the database table. */
+    private long maxCachedResponses = 10_000;
+
+    /** Request and response bodies above this size bypass idempotency handling. */
+    private int maxBodyBytes = 64 * 1024;
+
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("POST", "/api/v1/events/*/register*"),
+            new Route("POST", "/api/v1/events/*/reviews"),
+            new Route("POST", "/api/v1/tshirt-requests"),
+            new Route("POST", "/api/v1/events/*/registrations/send-sms"),
+            new Route("POST", "/api/v1/events/sms/send-bulk-sms")));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        private String method;
+        /** Ant-style path pattern matched against the servlet path. */
+        private String pattern;
+    }
+}
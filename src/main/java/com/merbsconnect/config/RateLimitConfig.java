@@ -10,16 +10,34 @@ import java.time.Duration;
 @ConfigurationProperties(prefix = "app.token.rate-limit")
 @Data
 public class RateLimitConfig {
-    private final int MAX_ATTEMPTS = 3;
-    private final int COOL_DOWN_MINUTES = 1;
-    private final int ATTEMPT_WINDOW_HOURS = 1;
+    private int maxAttempts = 3;
+    private int cooldownMinutes = 1;
+    private int attemptWindowHours = 1;
+
+    /** Token requests allowed per client IP within the attempt window, across all emails. */
+    private int maxAttemptsPerIp = 20;
+
+    /** Upper bound on tracked email/IP keys; least recently used keys are evicted beyond this. */
+    private long maxTrackedKeys = 100_000;
+
+    private Login login = new Login();
 
     public Duration getCooldownDuration() {
-        return Duration.ofMinutes(COOL_DOWN_MINUTES);
+        return Duration.ofMinutes(cooldownMinutes);
     }
 
     public Duration getAttemptWindowDuration() {
-        return Duration.ofHours(ATTEMPT_WINDOW_HOURS);
+        return Duration.ofHours(attemptWindowHours);
     }
-}
 
+    @Data
+    public static class Login {
+        private int maxAttemptsPerEmail = 5;
+        private int maxAttemptsPerIp = 30;
+        private int windowMinutes = 15;
+
+        public Duration getWindowDuration() {
+            return Duration.ofMinutes(windowMinutes);
+        }
+    }
+}
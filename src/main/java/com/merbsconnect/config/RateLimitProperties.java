@@ -0,0 +1,70 @@
+package com.merbsconnect.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-IP token buckets for the public write endpoints, enforced by
+ * {@link com.merbsconnect.authentication.security.RateLimitFilter}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Upper bound on tracked buckets; least recently used buckets are evicted beyond this. */
+    private long maxTrackedKeys = 100_000;
+
+    /** Buckets untouched for this long are dropped. Should exceed the time any bucket takes to refill. */
+    private Duration idleExpiry = Duration.ofMinutes(15);
+
+    /** Shared bucket per client IP across every limited route. */
+    private Bucket perIp = new Bucket(60, 60, Duration.ofMinutes(1));
+
+    private List<Route> routes = new ArrayList<>(List.of(
+            new Route("event-registration", "POST", "/api/v1/events/*/register*",
+                    new Bucket(5, 5, Duration.ofMinutes(1))),
+            new Route("event-review", "POST", "/api/v1/events/*/reviews",
+                    new Bucket(5, 5, Duration.ofMinutes(1))),
+            new Route("tshirt-request", "POST", "/api/v1/tshirt-requests",
+                    new Bucket(5, 5, Duration.ofMinutes(1))),
+            new Route("startright-question", "POST", "/api/v1/startright/questions",
+                    new Bucket(10, 10, Duration.ofMinutes(1))),
+            new Route("presigned-urls", "POST", "/api/v1/storage/presigned-urls",
+                    new Bucket(20, 20, Duration.ofMinutes(1))),
+            // Each download streams the whole gallery and holds a request thread throughout
+            new Route("gallery-archive", "GET", "/api/v1/events/*/gallery/archive",
+                    new Bucket(3, 3, Duration.ofMinutes(10)))));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        /** Burst size: tokens available to a fresh client. */
+        private long capacity;
+        /** Tokens added back every refill period. */
+        private long refillTokens;
+        private Duration refillPeriod;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Route {
+        /** Stable identifier used in bucket keys and logs. */
+        private String name;
+        private String method;
+        /** Ant-style path pattern matched against the servlet path. */
+        private String pattern;
+        private Bucket bucket;
+    }
+}
@@ -1,13 +1,18 @@
 package com.merbsconnect.config;
 
+import com.merbsconnect.authentication.security.ActivityTrackingFilter;
 import com.merbsconnect.authentication.security.CustomUserDetailsService;
+import com.merbsconnect.authentication.security.IdempotencyFilter;
+import com.merbsconnect.authentication.security.RateLimitFilter;
 import com.merbsconnect.authentication.security.jwt.JwtAuthenticationEntryPoint;
 import com.merbsconnect.authentication.security.jwt.JwtAuthenticationFilter;
 import com.merbsconnect.util.EndpointUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.ProviderManager;
@@ -39,6 +44,9 @@ public class SecurityConfig {
         private final CustomUserDetailsService userDetailsService;
         private final JwtAuthenticationEntryPoint unauthorizedHandler;
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
+        private final RateLimitFilter rateLimitFilter;
+        private final IdempotencyFilter idempotencyFilter;
+        private final ActivityTrackingFilter activityTrackingFilter;
 
         @Bean
         public PasswordEncoder passwordEncoder() {
@@ -90,6 +98,8 @@ public class SecurityConfig {
                                         auth.requestMatchers(HttpMethod.GET, "/api/v1/events/*/articles/**")
                                                         .permitAll();
                                         auth.requestMatchers(HttpMethod.GET, "/api/v1/events/*/gallery").permitAll();
+                                        auth.requestMatchers(HttpMethod.GET, "/api/v1/events/*/gallery/archive")
+                                                        .permitAll();
                                         auth.requestMatchers(HttpMethod.GET, "/api/v1/events/*/registration")
                                                         .permitAll();
 
@@ -175,9 +185,41 @@ public class SecurityConfig {
                                 .authenticationProvider(authenticationProvider())
                                 .authenticationManager(authenticationManager())
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                                // After CORS so 429 responses stay readable by the browser
+                                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
+                                // After JWT so stored responses are scoped to the caller
+                                .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class)
+                                // After JWT so the caller is known when the request completes
+                                .addFilterAfter(activityTrackingFilter, JwtAuthenticationFilter.class)
                                 .build();
         }
 
+        /**
+         * The rate limit filter runs inside the security chain only; stop Boot from
+         * also registering it ahead of CORS as a plain servlet filter.
+         */
+        @Bean
+        public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+                FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+                registration.setEnabled(false);
+                return registration;
+        }
+
+        @Bean
+        public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(IdempotencyFilter filter) {
+                FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(filter);
+                registration.setEnabled(false);
+                return registration;
+        }
+
+        @Bean
+        public FilterRegistrationBean<ActivityTrackingFilter> activityTrackingFilterRegistration(
+                        ActivityTrackingFilter filter) {
+                FilterRegistrationBean<ActivityTrackingFilter> registration = new FilterRegistrationBean<>(filter);
+                registration.setEnabled(false);
+                return registration;
+        }
+
         @Bean
         public CorsConfigurationSource corsConfigurationSource() {
                 CorsConfiguration configuration = new CorsConfiguration();
@@ -192,7 +234,9 @@ public class SecurityConfig {
                 configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
                 configuration.setAllowedHeaders(List.of("*"));
                 configuration.setAllowCredentials(true);
-                configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Auth-Token"));
+                configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Auth-Token",
+                                IdempotencyFilter.REPLAYED_HEADER, RateLimitFilter.LIMIT_HEADER,
+                                RateLimitFilter.REMAINING_HEADER, HttpHeaders.RETRY_AFTER));
                 configuration.setMaxAge(3600L); // 1 hour
                 UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
                 source.registerCorsConfiguration("/**", configuration);
@@ -18,4 +18,53 @@ public interface EmailTemplateService {
      * @return formatted HTML content
      */
     String getPasswordResetEmailContent(String name, String resetLink, String expirationTime);
-}
\ No newline at end of file
+
+    /**
+     * Generates the content for event registration confirmation email
+     * @param name participant name
+     * @param eventTitle title of the event
+     * @param eventDate formatted event date
+     * @param eventTime formatted event time
+     * @param location event location, or null if not yet known
+     * @param registrationToken the registration token
+     * @param qrImageSrc image source for the QR code (e.g. a CID reference)
+     * @return formatted HTML content
+     */
+    String getRegistrationConfirmationEmailContent(String name, String eventTitle, String eventDate,
+            String eventTime, String location, String registrationToken, String qrImageSrc);
+
+    /**
+     * Generates the content for event reminder email
+     * @param name participant name
+     * @param eventTitle title of the event
+     * @param eventDate formatted event date
+     * @param eventTime formatted event time
+     * @param location event location, or null if not yet known
+     * @return formatted HTML content
+     */
+    String getEventReminderEmailContent(String name, String eventTitle, String eventDate,
+            String eventTime, String location);
+
+    /**
+     * Generates the content for the admin T-shirt order notification
+     * @param registrantName name of the person who ordered
+     * @param registrantEmail email of the person who ordered
+     * @param registrantPhone phone number, or null if not provided
+     * @param shirtSize the shirt size ordered
+     * @param eventTitle title of the event
+     * @param requestedAt formatted request timestamp
+     * @return formatted HTML content
+     */
+    String getTshirtOrderAdminEmailContent(String registrantName, String registrantEmail, String registrantPhone,
+            String shirtSize, String eventTitle, String requestedAt);
+
+    /**
+     * Generates the content for the admin account created email
+     * @param name name of the user
+     * @param email email of the user
+     * @param password initial password of the user
+     * @param loginUrl dashboard login URL
+     * @return formatted HTML content
+     */
+    String getAccountCreatedEmailContent(String name, String email, String password, String loginUrl);
+}
@@ -3,6 +3,7 @@ package com.merbsconnect.email.service.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.merbsconnect.authentication.domain.User;
 import com.merbsconnect.authentication.domain.VerificationToken;
+import com.merbsconnect.config.AsyncConfig;
 import com.merbsconnect.email.exception.EmailSendException;
 import com.merbsconnect.email.service.EmailService;
 import com.merbsconnect.email.service.EmailTemplateService;
@@ -17,6 +18,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -28,6 +30,11 @@ import java.util.Map;
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("h:mm a");
+    private static final DateTimeFormatter REQUESTED_AT_FORMAT =
+            DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy 'at' h:mm a");
+
     private final EmailTemplateService templateService;
     private final ObjectMapper objectMapper;
 
@@ -41,7 +48,7 @@ public class EmailServiceImpl implements EmailService {
     private String frontendUrl;
 
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendVerificationEmail(User user, String token) {
         String verificationUrl = frontendUrl + "/verify-email?token=" + token;
         String subject = "Verify your email address";
@@ -53,7 +60,7 @@ public class EmailServiceImpl implements EmailService {
     }
 
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendPasswordResetEmail(User user, VerificationToken token) {
         String resetUrl = frontendUrl + "/reset-password?token=" + token.getToken();
         String subject = "Reset your password";
@@ -65,7 +72,7 @@ public class EmailServiceImpl implements EmailService {
     }
 
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendRegistrationConfirmationEmail(String email, String name, String eventTitle,
             LocalDate eventDate, LocalTime eventTime, String eventLocation,
             String qrCodeBase64, String registrationToken) {
@@ -76,8 +83,8 @@ public class EmailServiceImpl implements EmailService {
         try {
             String subject = "Registration Confirmed - " + eventTitle;
 
-            String dateStr = eventDate.format(DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy"));
-            String timeStr = eventTime != null ? eventTime.format(DateTimeFormatter.ofPattern("h:mm a")) : "TBA";
+            String dateStr = eventDate.format(DATE_FORMAT);
+            String timeStr = eventTime != null ? eventTime.format(TIME_FORMAT) : "TBA";
 
             // Extract raw base64 for attachment
             String rawBase64 = qrCodeBase64;
@@ -88,7 +95,7 @@ public class EmailServiceImpl implements EmailService {
             log.info("[EMAIL] QR code prepared (length: {} chars)", rawBase64.length());
 
             // Build email content with CID reference for the QR code
-            String content = buildRegistrationConfirmationEmailWithEmbeddedQR(
+            String content = templateService.getRegistrationConfirmationEmailContent(
                     name, eventTitle, dateStr, timeStr, eventLocation, registrationToken, "cid:qrcode");
 
             if (content == null || content.isBlank()) {
@@ -121,15 +128,16 @@ public class EmailServiceImpl implements EmailService {
     }
 
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendEventReminderEmail(String email, String name, String eventTitle,
             LocalDate eventDate, LocalTime eventTime, String eventLocation) {
         String subject = "Reminder: " + eventTitle + " is Coming Up!";
 
-        String dateStr = eventDate.format(DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy"));
-        String timeStr = eventTime != null ? eventTime.format(DateTimeFormatter.ofPattern("h:mm a")) : "TBA";
+        String dateStr = eventDate.format(DATE_FORMAT);
+        String timeStr = eventTime != null ? eventTime.format(TIME_FORMAT) : "TBA";
 
-        String content = buildEventReminderEmail(name, eventTitle, dateStr, timeStr, eventLocation);
+        String content = templateService.getEventReminderEmailContent(name, eventTitle, dateStr, timeStr,
+                eventLocation);
 
         sendEmail(email, subject, content);
         log.info("Event reminder email sent to: {} for event: {}", email, eventTitle);
@@ -177,281 +185,27 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    private String buildRegistrationConfirmationEmailWithEmbeddedQR(String name, String eventTitle, String eventDate,
-            String eventTime, String location, String registrationToken, String imageSrc) {
-        return """
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <style>
-                        body { font-family: 'Segoe UI', Arial, sans-serif; line-height: 1.6; color: #333; }
-                        .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                        .header { background: linear-gradient(135deg, #c41e3a, #8b0000); color: white; padding: 30px; text-align: center; border-radius: 10px 10px 0 0; }
-                        .content { background: #f9f9f9; padding: 30px; border-radius: 0 0 10px 10px; }
-                        .qr-section { text-align: center; margin: 30px 0; padding: 20px; background: white; border-radius: 10px; }
-                        .qr-code { max-width: 200px; margin: 15px auto; }
-                        .event-details { background: white; padding: 20px; border-radius: 10px; margin: 20px 0; }
-                        .event-details h3 { color: #c41e3a; margin-top: 0; }
-                        .detail-row { padding: 8px 0; border-bottom: 1px solid #eee; }
-                        .detail-label { color: #666; font-weight: 600; }
-                        .footer { text-align: center; padding: 20px; color: #666; font-size: 12px; }
-                        .token { font-family: monospace; background: #e8e8e8; padding: 5px 10px; border-radius: 4px; font-size: 12px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <h1 style="margin: 0;">🎉 Registration Confirmed!</h1>
-                            <p style="margin: 10px 0 0;">You're all set for the event</p>
-                        </div>
-                        <div class="content">
-                            <p>Hi <strong>%s</strong>,</p>
-                            <p>Your registration for <strong>%s</strong> has been confirmed. We're excited to have you join us!</p>
-
-                            <div class="qr-section">
-                                <h3 style="margin-top: 0;">Your Check-in QR Code</h3>
-                                <p>Present this QR code at the event entrance for quick check-in.</p>
-                                <img class="qr-code" src="%s" alt="Check-in QR Code" style="max-width: 200px; margin: 15px auto; display: block;" />
-                                <p class="token">Token: %s</p>
-                            </div>
-
-                            <div class="event-details">
-                                <h3>📅 Event Details</h3>
-                                <div class="detail-row">
-                                    <span class="detail-label">Event:</span> %s
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Date:</span> %s
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Time:</span> %s
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Location:</span> %s
-                                </div>
-                            </div>
-
-                            <p><strong>Important:</strong> Please save this email or take a screenshot of your QR code for check-in.</p>
-                        </div>
-                        <div class="footer">
-                            <p>This email was sent by MerbsConnect. If you have any questions, please contact us.</p>
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """
-                .formatted(name, eventTitle, imageSrc, registrationToken, eventTitle, eventDate, eventTime,
-                        location != null ? location : "TBA");
-    }
-
-    private String buildEventReminderEmail(String name, String eventTitle, String eventDate,
-            String eventTime, String location) {
-        return """
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <style>
-                        body { font-family: 'Segoe UI', Arial, sans-serif; line-height: 1.6; color: #333; }
-                        .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                        .header { background: linear-gradient(135deg, #c41e3a, #8b0000); color: white; padding: 30px; text-align: center; border-radius: 10px 10px 0 0; }
-                        .content { background: #f9f9f9; padding: 30px; border-radius: 0 0 10px 10px; }
-                        .event-details { background: white; padding: 20px; border-radius: 10px; margin: 20px 0; }
-                        .event-details h3 { color: #c41e3a; margin-top: 0; }
-                        .detail-row { padding: 8px 0; border-bottom: 1px solid #eee; }
-                        .detail-label { color: #666; font-weight: 600; }
-                        .footer { text-align: center; padding: 20px; color: #666; font-size: 12px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <h1 style="margin: 0;">⏰ Event Reminder</h1>
-                            <p style="margin: 10px 0 0;">Don't forget - the event is coming up!</p>
-                        </div>
-                        <div class="content">
-                            <p>Hi <strong>%s</strong>,</p>
-                            <p>This is a friendly reminder that <strong>%s</strong> is coming up soon. We look forward to seeing you there!</p>
-
-                            <div class="event-details">
-                                <h3>📅 Event Details</h3>
-                                <div class="detail-row">
-                                    <span class="detail-label">Event:</span> %s
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Date:</span> %s
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Time:</span> %s
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Location:</span> %s
-                                </div>
-                            </div>
-
-                            <p><strong>Remember:</strong> Bring your QR code (from your registration confirmation email) for quick check-in!</p>
-                        </div>
-                        <div class="footer">
-                            <p>This email was sent by MerbsConnect. If you have any questions, please contact us.</p>
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """
-                .formatted(name, eventTitle, eventTitle, eventDate, eventTime, location != null ? location : "TBA");
-    }
-
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendTshirtOrderAdminEmail(String registrantName, String registrantEmail,
             String registrantPhone, String shirtSize, String eventTitle) {
 
         String adminEmail = "merblinasare10@gmail.com";
         String subject = "New T-Shirt Request – " + eventTitle;
 
-        String content = buildTshirtOrderAdminEmail(registrantName, registrantEmail,
-                registrantPhone, shirtSize, eventTitle);
+        String timestamp = LocalDateTime.now().format(REQUESTED_AT_FORMAT);
+        String content = templateService.getTshirtOrderAdminEmailContent(registrantName, registrantEmail,
+                registrantPhone, shirtSize, eventTitle, timestamp);
 
         sendEmail(adminEmail, subject, content);
     }
 
-    private String buildTshirtOrderAdminEmail(String registrantName, String registrantEmail,
-            String registrantPhone, String shirtSize, String eventTitle) {
-        String timestamp = java.time.LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("EEEE, MMMM d, yyyy 'at' h:mm a"));
-
-        return """
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <style>
-                        body { font-family: 'Segoe UI', Arial, sans-serif; line-height: 1.6; color: #333; }
-                        .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                        .header { background: linear-gradient(135deg, #1a1a2e, #16213e); color: white; padding: 30px; text-align: center; border-radius: 10px 10px 0 0; }
-                        .content { background: #f9f9f9; padding: 30px; border-radius: 0 0 10px 10px; }
-                        .order-details { background: white; padding: 20px; border-radius: 10px; margin: 20px 0; border-left: 4px solid #c41e3a; }
-                        .order-details h3 { color: #c41e3a; margin-top: 0; }
-                        .detail-row { padding: 10px 0; border-bottom: 1px solid #eee; display: flex; }
-                        .detail-label { color: #666; font-weight: 600; width: 120px; }
-                        .detail-value { color: #333; font-weight: 500; }
-                        .size-badge { display: inline-block; background: #c41e3a; color: white; padding: 8px 20px; border-radius: 20px; font-weight: bold; font-size: 18px; }
-                        .footer { text-align: center; padding: 20px; color: #666; font-size: 12px; }
-                        .action-note { background: #fff3cd; border: 1px solid #ffc107; padding: 15px; border-radius: 8px; margin-top: 20px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <h1 style="margin: 0;">👕 New T-Shirt Order</h1>
-                            <p style="margin: 10px 0 0;">A new T-shirt has been requested</p>
-                        </div>
-                        <div class="content">
-                            <p>A participant has requested a T-shirt during event registration.</p>
-
-                            <div class="order-details">
-                                <h3>📋 Order Details</h3>
-                                <div class="detail-row">
-                                    <span class="detail-label">Name:</span>
-                                    <span class="detail-value">%s</span>
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Email:</span>
-                                    <span class="detail-value">%s</span>
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Phone:</span>
-                                    <span class="detail-value">%s</span>
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Event:</span>
-                                    <span class="detail-value">%s</span>
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Shirt Size:</span>
-                                    <span class="size-badge">%s</span>
-                                </div>
-                                <div class="detail-row">
-                                    <span class="detail-label">Requested:</span>
-                                    <span class="detail-value">%s</span>
-                                </div>
-                            </div>
-
-                            <div class="action-note">
-                                <strong>⚡ Action Required:</strong> Please contact the registrant to arrange payment and delivery details.
-                            </div>
-                        </div>
-                        <div class="footer">
-                            <p>This notification was sent by MerbsConnect T-Shirt Order System.</p>
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """
-                .formatted(registrantName, registrantEmail,
-                        registrantPhone != null ? registrantPhone : "Not provided",
-                        eventTitle, shirtSize, timestamp);
-    }
-
     @Override
-    @Async
+    @Async(AsyncConfig.EMAIL_EXECUTOR)
     public void sendAccountCreatedEmail(String name, String email, String password) {
         String subject = "Welcome to MerbsConnect Admin Panel";
-        String content = buildAccountCreatedEmail(name, email, password);
+        String loginUrl = frontendUrl != null ? frontendUrl : "https://admin.merbsconnect.com";
+        String content = templateService.getAccountCreatedEmailContent(name, email, password, loginUrl);
         sendEmail(email, subject, content);
     }
-
-    private String buildAccountCreatedEmail(String name, String email, String password) {
-        return """
-                <!DOCTYPE html>
-                <html>
-                <head>
-                    <style>
-                        body { font-family: 'Segoe UI', Arial, sans-serif; line-height: 1.6; color: #333; }
-                        .container { max-width: 600px; margin: 0 auto; padding: 20px; }
-                        .header { background: linear-gradient(135deg, #1a1a2e, #16213e); color: white; padding: 30px; text-align: center; border-radius: 10px 10px 0 0; }
-                        .content { background: #f9f9f9; padding: 30px; border-radius: 0 0 10px 10px; }
-                        .credentials-box { background: white; padding: 20px; border-radius: 8px; margin: 20px 0; border: 1px solid #ddd; }
-                        .credential-row { margin-bottom: 10px; }
-                        .label { font-weight: bold; color: #555; display: inline-block; width: 80px; }
-                        .value { font-family: monospace; background: #eee; padding: 2px 6px; border-radius: 4px; color: #000; }
-                        .button { display: inline-block; background: #c41e3a; color: white; padding: 12px 24px; text-decoration: none; border-radius: 5px; font-weight: bold; margin-top: 20px; }
-                        .footer { text-align: center; padding: 20px; color: #666; font-size: 12px; }
-                    </style>
-                </head>
-                <body>
-                    <div class="container">
-                        <div class="header">
-                            <h1 style="margin: 0;">Welcome Aboard! 🚀</h1>
-                            <p style="margin: 10px 0 0;">Your Admin Account has been created</p>
-                        </div>
-                        <div class="content">
-                            <p>Hi <strong>%s</strong>,</p>
-                            <p>An administrator account has been created for you on the MerbsConnect platform.</p>
-
-                            <div class="credentials-box">
-                                <h3 style="margin-top: 0; color: #1a1a2e;">🔐 Your Login Credentials</h3>
-                                <div class="credential-row">
-                                    <span class="label">Email:</span>
-                                    <span class="value">%s</span>
-                                </div>
-                                <div class="credential-row">
-                                    <span class="label">Password:</span>
-                                    <span class="value">%s</span>
-                                </div>
-                            </div>
-
-                            <p>Please log in and assume your duties. We recommend changing your password after your first login.</p>
-
-                            <center>
-                                <a href="%s" class="button">Log In to Dashboard</a>
-                            </center>
-                        </div>
-                        <div class="footer">
-                            <p>This email was sent automatically by the MerbsConnect System.</p>
-                        </div>
-                    </div>
-                </body>
-                </html>
-                """
-                .formatted(name, email, password, frontendUrl != null ? frontendUrl : "https://admin.merbsconnect.com");
-    }
 }
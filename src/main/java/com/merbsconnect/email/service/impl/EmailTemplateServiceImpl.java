@@ -2,6 +2,8 @@ package com.merbsconnect.email.service.impl;
 
 import com.merbsconnect.email.exception.TemplateProcessingException;
 import com.merbsconnect.email.service.EmailTemplateService;
+import com.merbsconnect.email.template.CompiledTemplate;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ClassPathResource;
@@ -12,44 +14,126 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * Renders email bodies from templates under {@code email-templates/}.
+ * Templates are read and compiled once at startup; each email is then a
+ * single render pass over the compiled segments.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailTemplateServiceImpl implements EmailTemplateService {
 
+    private static final String TEMPLATE_DIR = "email-templates/";
+
+    static final String VERIFICATION = "verification-email.html";
+    static final String PASSWORD_RESET = "password-reset-email.html";
+    static final String REGISTRATION_CONFIRMATION = "registration-confirmation-email.html";
+    static final String EVENT_REMINDER = "event-reminder-email.html";
+    static final String TSHIRT_ORDER_ADMIN = "tshirt-order-admin-email.html";
+    static final String ACCOUNT_CREATED = "account-created-email.html";
+
+    private static final List<String> TEMPLATES = List.of(VERIFICATION, PASSWORD_RESET,
+            REGISTRATION_CONFIRMATION, EVENT_REMINDER, TSHIRT_ORDER_ADMIN, ACCOUNT_CREATED);
+
+    private final Map<String, CompiledTemplate> compiled = new HashMap<>();
+
+    @PostConstruct
+    void compileTemplates() {
+        for (String name : TEMPLATES) {
+            try {
+                compiled.put(name, CompiledTemplate.compile(name, loadTemplate(TEMPLATE_DIR + name)));
+            } catch (IOException e) {
+                log.error("Failed to load email template {}: {}", name, e.getMessage());
+                throw new TemplateProcessingException("Failed to load email template " + name, e);
+            }
+        }
+        log.info("Compiled {} email templates", compiled.size());
+    }
+
     @Override
     public String getVerificationEmailContent(String name, String verificationLink, String expirationTime) {
-        try {
-            String template = loadTemplate("email-templates/verification-email.html");
-            return template
-                    .replace("{{name}}", name)
-                    .replace("{{verificationLink}}", verificationLink)
-                    .replace("{{expirationTime}}", expirationTime);
-        } catch (IOException e) {
-            log.error("Failed to process verification email template: {}", e.getMessage());
-            throw new TemplateProcessingException("Failed to process verification email template", e);
-        }
+        Map<String, String> model = new HashMap<>();
+        model.put("name", name);
+        model.put("verificationLink", verificationLink);
+        model.put("expirationTime", expirationTime);
+        return render(VERIFICATION, model);
     }
 
     @Override
     public String getPasswordResetEmailContent(String name, String resetLink, String expirationTime) {
-        try {
-            String template = loadTemplate("email-templates/password-reset-email.html");
-            return template
-                    .replace("{{name}}", name)
-                    .replace("{{resetLink}}", resetLink)
-                    .replace("{{expirationTime}}", expirationTime);
-        } catch (IOException e) {
-            log.error("Failed to process password reset email template: {}", e.getMessage());
-            throw new TemplateProcessingException("Failed to process password reset email template", e);
+        Map<String, String> model = new HashMap<>();
+        model.put("name", name);
+        model.put("resetLink", resetLink);
+        model.put("expirationTime", expirationTime);
+        return render(PASSWORD_RESET, model);
+    }
+
+    @Override
+    public String getRegistrationConfirmationEmailContent(String name, String eventTitle, String eventDate,
+            String eventTime, String location, String registrationToken, String qrImageSrc) {
+        Map<String, String> model = new HashMap<>();
+        model.put("name", name);
+        model.put("eventTitle", eventTitle);
+        model.put("eventDate", eventDate);
+        model.put("eventTime", eventTime);
+        model.put("location", location != null ? location : "TBA");
+        model.put("registrationToken", registrationToken);
+        model.put("qrImageSrc", qrImageSrc);
+        return render(REGISTRATION_CONFIRMATION, model);
+    }
+
+    @Override
+    public String getEventReminderEmailContent(String name, String eventTitle, String eventDate,
+            String eventTime, String location) {
+        Map<String, String> model = new HashMap<>();
+        model.put("name", name);
+        model.put("eventTitle", eventTitle);
+        model.put("eventDate", eventDate);
+        model.put("eventTime", eventTime);
+        model.put("location", location != null ? location : "TBA");
+        return render(EVENT_REMINDER, model);
+    }
+
+    @Override
+    public String getTshirtOrderAdminEmailContent(String registrantName, String registrantEmail,
+            String registrantPhone, String shirtSize, String eventTitle, String requestedAt) {
+        Map<String, String> model = new HashMap<>();
+        model.put("registrantName", registrantName);
+        model.put("registrantEmail", registrantEmail);
+        model.put("registrantPhone", registrantPhone != null ? registrantPhone : "Not provided");
+        model.put("shirtSize", shirtSize);
+        model.put("eventTitle", eventTitle);
+        model.put("requestedAt", requestedAt);
+        return render(TSHIRT_ORDER_ADMIN, model);
+    }
+
+    @Override
+    public String getAccountCreatedEmailContent(String name, String email, String password, String loginUrl) {
+        Map<String, String> model = new HashMap<>();
+        model.put("name", name);
+        model.put("email", email);
+        model.put("password", password);
+        model.put("loginUrl", loginUrl);
+        return render(ACCOUNT_CREATED, model);
+    }
+
+    private String render(String templateName, Map<String, String> model) {
+        CompiledTemplate template = compiled.get(templateName);
+        if (template == null) {
+            throw new TemplateProcessingException("Email template not loaded: " + templateName);
         }
+        return template.render(model);
     }
-    
+
     private String loadTemplate(String path) throws IOException {
         ClassPathResource resource = new ClassPathResource(path);
         try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
             return FileCopyUtils.copyToString(reader);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package com.merbsconnect.email.template;
+
+import com.merbsconnect.email.exception.TemplateProcessingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An email template parsed once into literal and placeholder segments.
+ * Placeholders use the {@code {{name}}} syntax already used by the HTML
+ * templates under {@code email-templates/}. Variable values are HTML-escaped
+ * at render time.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private CompiledTemplate(String name, String[] literals, String[] variables, int literalLength) {
+        this.name = name;
+        this.literals = literals;
+        this.variables = variables;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Parses template source into segments.
+     *
+     * @param name   template name, used in error messages
+     * @param source raw template text
+     * @return the compiled template
+     */
+    public static CompiledTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int literalLength = 0;
+        int pos = 0;
+
+        while (true) {
+            int open = source.indexOf(OPEN, pos);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new TemplateProcessingException(
+                        "Unclosed placeholder in template '" + name + "' at offset " + open);
+            }
+            String literal = source.substring(pos, open);
+            literals.add(literal);
+            literalLength += literal.length();
+            variables.add(source.substring(open + OPEN.length(), close).trim());
+            pos = close + CLOSE.length();
+        }
+
+        String tail = source.substring(pos);
+        literals.add(tail);
+        literalLength += tail.length();
+
+        return new CompiledTemplate(name, literals.toArray(String[]::new), variables.toArray(String[]::new),
+                literalLength);
+    }
+
+    /**
+     * Renders the template in a single pass. Missing variables render as an
+     * empty string.
+     *
+     * @param model variable values keyed by placeholder name
+     * @return rendered HTML
+     */
+    public String render(Map<String, String> model) {
+        String[] values = new String[variables.length];
+        int capacity = literalLength;
+        for (int i = 0; i < variables.length; i++) {
+            String value = model.get(variables[i]);
+            values[i] = value != null ? value : "";
+            // Leave a little headroom for escaped characters
+            capacity += values[i].length() + (values[i].length() >> 3);
+        }
+
+        StringBuilder out = new StringBuilder(capacity);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            appendEscaped(out, values[i]);
+        }
+        out.append(literals[literals.length - 1]);
+        return out.toString();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+
+    static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
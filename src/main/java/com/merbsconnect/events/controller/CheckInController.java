@@ -40,7 +40,9 @@ public class CheckInController {
 
         log.info("Registering for event {}: {}", eventId, registrationDto.getEmail());
         RegistrationDetailsResponse response = checkInService.registerForEventV2(eventId, registrationDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        // 202 when the event is full and the participant was waitlisted
+        HttpStatus status = "WAITLISTED".equals(response.getStatus()) ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
     }
 
     /**
@@ -7,7 +7,6 @@ import com.merbsconnect.events.dto.request.EventRegistrationDto;
 import com.merbsconnect.events.dto.request.SendBulkSmsToRegistrationsRequest;
 import com.merbsconnect.events.dto.request.UpdateEventRequest;
 import com.merbsconnect.events.dto.response.EventResponse;
-import com.merbsconnect.events.model.Registration;
 import com.merbsconnect.events.model.Speaker;
 import com.merbsconnect.events.service.CheckInService;
 import com.merbsconnect.events.service.EventService;
@@ -48,10 +47,12 @@ public class EventController {
     private final EventService eventService;
     private final SmsService smsService;
     private final CheckInService checkInService;
+    private final com.merbsconnect.events.service.RegistrationImportService registrationImportService;
+    private final com.merbsconnect.admin.service.DashboardSnapshotService dashboardSnapshotService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
-    public ResponseEntity<EventResponse> createEvent(@RequestBody CreateEventRequest eventRequest) {
+    public ResponseEntity<EventResponse> createEvent(@Valid @RequestBody CreateEventRequest eventRequest) {
         try {
             log.info("Creating event with request: {}", eventRequest);
             EventResponse eventResponse = eventService.createEvent(eventRequest);
@@ -106,6 +107,35 @@ public class EventController {
         }
     }
 
+    @PostMapping("/{eventId:[0-9]+}/image/upload-url")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    public ResponseEntity<com.merbsconnect.storage.PresignedUploadResponse> createEventImageUpload(
+            @PathVariable Long eventId,
+            @Valid @RequestBody com.merbsconnect.storage.PresignedUploadRequest request) {
+        try {
+            log.info("Issuing image upload URL for event ID: {}", eventId);
+            return new ResponseEntity<>(eventService.createEventImageUpload(eventId, request), HttpStatus.OK);
+        } catch (BusinessException | IllegalArgumentException e) {
+            log.error("Error issuing event image upload URL: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping("/{eventId:[0-9]+}/image/confirm")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    public ResponseEntity<java.util.Map<String, String>> confirmEventImageUpload(
+            @PathVariable Long eventId,
+            @Valid @RequestBody com.merbsconnect.storage.ConfirmUploadRequest request) {
+        try {
+            log.info("Confirming image upload for event ID: {}", eventId);
+            String imageUrl = eventService.confirmEventImageUpload(eventId, request.getKey());
+            return new ResponseEntity<>(java.util.Map.of("imageUrl", imageUrl), HttpStatus.OK);
+        } catch (BusinessException | IllegalArgumentException e) {
+            log.error("Error confirming event image upload: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @GetMapping
     public ResponseEntity<Page<EventResponse>> getAllEvents(Pageable pageable) {
         Page<EventResponse> events = eventService.getAllEvents(pageable);
@@ -205,7 +235,9 @@ public class EventController {
             // and PDF
             com.merbsconnect.events.dto.response.RegistrationDetailsResponse response = checkInService
                     .registerForEventV2(eventId, eventRegistrationDto);
-            return new ResponseEntity<>(response, HttpStatus.CREATED);
+            // 202 when the event is full and the participant was waitlisted
+            HttpStatus status = "WAITLISTED".equals(response.getStatus()) ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+            return new ResponseEntity<>(response, status);
         } catch (IllegalStateException e) {
             log.error("Registration failed: {}", e.getMessage());
             throw new BusinessException(e.getMessage());
@@ -453,7 +485,7 @@ public class EventController {
     }
 
     /**
-     * Get consolidated dashboard data (cached for 5 minutes).
+     * Get consolidated dashboard data from the precomputed snapshot.
      * Requires ADMIN, SUPER_ADMIN, or SUPPORT_ADMIN role.
      *
      * @return ResponseEntity containing dashboard data
@@ -463,7 +495,7 @@ public class EventController {
     public ResponseEntity<com.merbsconnect.events.dto.response.DashboardResponse> getDashboardData() {
         try {
             log.info("Fetching dashboard data");
-            com.merbsconnect.events.dto.response.DashboardResponse dashboard = eventService.getDashboardData();
+            com.merbsconnect.events.dto.response.DashboardResponse dashboard = dashboardSnapshotService.getDashboard();
             return new ResponseEntity<>(dashboard, HttpStatus.OK);
         } catch (Exception e) {
             log.error("Error fetching dashboard data: {}", e.getMessage());
@@ -519,7 +551,8 @@ public class EventController {
 
     /**
      * Manually register a participant (Admin override).
-     * Uses the same V2 logic as public registration but requires Auth.
+     * Uses the same V2 logic as public registration but requires Auth and
+     * ignores the event's capacity.
      */
     @PostMapping("/{eventId:[0-9]+}/registrations/manual")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
@@ -529,11 +562,33 @@ public class EventController {
         try {
             log.info("Manual Admin Registration for event ID: {}", eventId);
             com.merbsconnect.events.dto.response.RegistrationDetailsResponse response = checkInService
-                    .registerForEventV2(eventId, registrationDto);
+                    .registerIgnoringCapacity(eventId, registrationDto);
             return new ResponseEntity<>(response, HttpStatus.CREATED);
         } catch (IllegalStateException e) {
             throw new BusinessException(e.getMessage());
         }
     }
 
+    /**
+     * Bulk-register attendees from a CSV upload (Admin override).
+     * The header row must name at least the name and email columns; rows are
+     * validated and inserted in batches, and emails already registered are
+     * reported as duplicates. Confirmation emails are only sent when notify is set.
+     */
+    @PostMapping(value = "/{eventId:[0-9]+}/registrations/import", consumes = org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    public ResponseEntity<com.merbsconnect.events.dto.response.RegistrationImportResponse> importRegistrations(
+            @PathVariable Long eventId,
+            @RequestParam("file") org.springframework.web.multipart.MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean notify) throws IOException {
+        if (file.isEmpty()) {
+            throw new BusinessException("CSV file is empty");
+        }
+        log.info("Importing registrations for event ID: {} from {}", eventId, file.getOriginalFilename());
+        try (java.io.InputStream csv = file.getInputStream()) {
+            return new ResponseEntity<>(registrationImportService.importRegistrations(eventId, csv, notify),
+                    HttpStatus.OK);
+        }
+    }
+
 }
@@ -5,8 +5,12 @@ import com.merbsconnect.events.dto.request.EventSpeakerRequest;
 import com.merbsconnect.events.dto.response.EventSpeakerResponse;
 import com.merbsconnect.events.service.EventSpeakerService;
 import com.merbsconnect.exception.BusinessException;
+import com.merbsconnect.storage.ConfirmUploadRequest;
+import com.merbsconnect.storage.PresignedUploadRequest;
+import com.merbsconnect.storage.PresignedUploadResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -130,6 +134,41 @@ public class EventSpeakerController {
         }
     }
 
+    @Operation(summary = "Get a presigned URL for uploading a speaker image directly to S3")
+    @PostMapping("/{speakerId}/image/upload-url")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    public ResponseEntity<PresignedUploadResponse> createSpeakerImageUpload(
+            @PathVariable Long eventId,
+            @PathVariable Long speakerId,
+            @Valid @RequestBody PresignedUploadRequest request) {
+        try {
+            log.info("Issuing image upload URL for speaker ID {} in event ID: {}", speakerId, eventId);
+            PresignedUploadResponse response = speakerService.createSpeakerImageUpload(eventId, speakerId, request);
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (BusinessException | IllegalArgumentException e) {
+            log.error("Error issuing speaker image upload URL: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "Confirm a speaker image uploaded directly to S3")
+    @PostMapping("/{speakerId}/image/confirm")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    public ResponseEntity<EventSpeakerResponse> confirmSpeakerImageUpload(
+            @PathVariable Long eventId,
+            @PathVariable Long speakerId,
+            @Valid @RequestBody ConfirmUploadRequest request) {
+        try {
+            log.info("Confirming image upload for speaker ID {} in event ID: {}", speakerId, eventId);
+            EventSpeakerResponse response = speakerService.confirmSpeakerImageUpload(eventId, speakerId,
+                    request.getKey());
+            return new ResponseEntity<>(response, HttpStatus.OK);
+        } catch (BusinessException | IllegalArgumentException e) {
+            log.error("Error confirming speaker image upload: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     @Operation(summary = "Delete a speaker's image from S3")
     @DeleteMapping("/{speakerId}/image")
     @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
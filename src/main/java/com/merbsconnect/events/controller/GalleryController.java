@@ -4,10 +4,17 @@ import com.merbsconnect.enums.MediaType;
 import com.merbsconnect.events.dto.response.GalleryItemResponse;
 import com.merbsconnect.events.dto.response.GalleryResponse;
 import com.merbsconnect.events.service.GalleryService;
+import com.merbsconnect.exception.ResourceNotFoundException;
+import com.merbsconnect.storage.ConfirmUploadRequest;
+import com.merbsconnect.storage.PresignedUploadRequest;
+import com.merbsconnect.storage.PresignedUploadResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 
 /**
  * REST controller for event gallery operations.
@@ -23,12 +31,20 @@ import java.util.Map;
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/events/{eventId}/gallery")
-@RequiredArgsConstructor
 @Tag(name = "Event Gallery", description = "Event gallery media operations")
 public class GalleryController {
 
     private final GalleryService galleryService;
 
+    // Each archive download holds a request thread and an R2 connection until the client finishes
+    private final Semaphore archiveSlots;
+
+    public GalleryController(GalleryService galleryService,
+                             @Value("${app.gallery-archive.max-concurrent:4}") int maxConcurrentArchives) {
+        this.galleryService = galleryService;
+        this.archiveSlots = new Semaphore(maxConcurrentArchives);
+    }
+
     /**
      * Upload a media file to the event gallery.
      * Admin-only operation.
@@ -47,6 +63,48 @@ public class GalleryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Issue a presigned URL so the client can upload a file straight to storage.
+     * Admin-only operation.
+     */
+    @PostMapping("/uploads")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    @Operation(summary = "Create upload URL", description = "Get a presigned PUT URL for uploading media directly to storage (admin-only)")
+    public ResponseEntity<PresignedUploadResponse> createUpload(
+            @PathVariable Long eventId,
+            @Valid @RequestBody PresignedUploadRequest request) {
+
+        log.info("Issuing gallery upload URL for event {}: {} ({} bytes)", eventId, request.getFileName(),
+                request.getSize());
+        try {
+            return ResponseEntity.ok(galleryService.createUpload(eventId, request));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected gallery upload for event {}: {}", eventId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Record a gallery item for a file uploaded through {@link #createUpload}.
+     * Admin-only operation.
+     */
+    @PostMapping("/uploads/confirm")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN', 'SUPPORT_ADMIN')")
+    @Operation(summary = "Confirm upload", description = "Verify a direct upload and add it to the gallery (admin-only)")
+    public ResponseEntity<GalleryItemResponse> confirmUpload(
+            @PathVariable Long eventId,
+            @Valid @RequestBody ConfirmUploadRequest request) {
+
+        log.info("Confirming gallery upload for event {}: {}", eventId, request.getKey());
+        try {
+            GalleryItemResponse response = galleryService.confirmUpload(eventId, request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected gallery upload confirmation for event {}: {}", eventId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get the complete gallery for an event.
      * Public endpoint.
@@ -59,6 +117,43 @@ public class GalleryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Download the event's gallery as a ZIP, streamed while it is built.
+     * Public endpoint.
+     */
+    @GetMapping("/archive")
+    @Operation(summary = "Download gallery", description = "Download all gallery media of an event as a ZIP archive")
+    public void downloadArchive(
+            @PathVariable Long eventId,
+            @RequestParam(value = "type", required = false) MediaType mediaType,
+            HttpServletResponse response) {
+
+        if (!archiveSlots.tryAcquire()) {
+            log.warn("Too many gallery archives in progress; rejecting download for event {}", eventId);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "30");
+            return;
+        }
+
+        log.info("Downloading gallery archive for event {}", eventId);
+        try {
+            response.setContentType("application/zip");
+            response.setHeader("Content-Disposition", "attachment; filename=\"gallery_" + eventId + ".zip\"");
+
+            galleryService.writeArchive(eventId, mediaType, response.getOutputStream());
+            response.flushBuffer();
+        } catch (ResourceNotFoundException e) {
+            // Nothing has been written yet, so the headers can still be replaced
+            response.reset();
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+        } catch (IOException e) {
+            // Usually the client went away mid-download; the response is already committed
+            log.warn("Gallery archive for event {} aborted: {}", eventId, e.getMessage());
+        } finally {
+            archiveSlots.release();
+        }
+    }
+
     /**
      * Delete a gallery item.
      * Admin-only operation.
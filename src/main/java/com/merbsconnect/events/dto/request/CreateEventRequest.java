@@ -3,6 +3,7 @@ package com.merbsconnect.events.dto.request;
 import com.merbsconnect.events.model.Contact;
 import com.merbsconnect.events.model.Speaker;
 import com.merbsconnect.events.model.Sponsors;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -32,4 +33,10 @@ public class CreateEventRequest {
      * Theme of the event (e.g., "Innovation & Technology", "Faith & Leadership")
      */
     private String theme;
+
+    /**
+     * Maximum number of registrations; null means unlimited
+     */
+    @PositiveOrZero(message = "Capacity cannot be negative")
+    private Integer capacity;
 }
@@ -1,5 +1,6 @@
 package com.merbsconnect.events.dto.request;
 
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,5 +23,7 @@ public class UpdateEventRequest {
     private String imageUrl;
     private String videoUrl;
     private String theme;
+    @PositiveOrZero(message = "Capacity cannot be negative")
+    private Integer capacity;
 
 }
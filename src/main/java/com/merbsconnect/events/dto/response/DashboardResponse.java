@@ -11,7 +11,7 @@ import java.util.List;
  * Response DTO for consolidated dashboard data.
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class DashboardResponse {
@@ -20,4 +20,7 @@ public class DashboardResponse {
     private List<EventResponse> recentEvents;
     private List<RegistrationStatsResponse.TopEventDto> topEvents;
     private String systemStatus; // HEALTHY, WARNING, ERROR
+
+    // Freshness of this precomputed response
+    private com.merbsconnect.admin.dto.response.SnapshotMetadata snapshot;
 }
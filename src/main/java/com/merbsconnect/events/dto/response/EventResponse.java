@@ -38,6 +38,11 @@ public class EventResponse {
      */
     private String theme;
 
+    /**
+     * Maximum number of registrations; null means unlimited
+     */
+    private Integer capacity;
+
     /**
      * Enhanced speakers with S3 images (v2)
      */
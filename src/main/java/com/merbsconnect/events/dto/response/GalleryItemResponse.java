@@ -25,5 +25,9 @@ public class GalleryItemResponse implements java.io.Serializable {
     private MediaType type;
     private String fileName;
     private Long fileSize;
+    // Presigned URLs of the resized copies; null until generated, fall back to mediaUrl
+    private String thumbnailUrl;
+    private String mediumUrl;
+    private String fullUrl;
     private LocalDateTime createdAt;
 }
@@ -22,6 +22,17 @@ import java.util.List;
 public class RegistrationDetailsResponse {
 
     private Long id;
+
+    /**
+     * REGISTERED, or WAITLISTED when the event was at capacity.
+     */
+    private String status;
+
+    /**
+     * 1-based place in the waitlist; null unless waitlisted.
+     */
+    private Integer waitlistPosition;
+
     private Long eventId;
     private String eventTitle;
     private String name;
@@ -0,0 +1,42 @@
+package com.merbsconnect.events.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV registration import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistrationImportResponse {
+
+    private Long eventId;
+    private long totalRows;
+    private long imported;
+
+    // Emails already registered for the event or repeated earlier in the file
+    private long duplicates;
+    private long failed;
+
+    // Row-level problems, capped; errorsTruncated is set when more were dropped
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    // Whether confirmation emails were queued for the imported rows
+    private boolean notificationsQueued;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String email;
+        private String message;
+    }
+}
@@ -0,0 +1,33 @@
+package com.merbsconnect.events.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the legacy event_registrations to event_registrations_v2 migration.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistrationMigrationStatusResponse {
+
+    private String state; // IDLE, RUNNING, COMPLETED, FAILED
+    private long migrated;
+    private long duplicatesMerged;
+    private long batches;
+
+    // Legacy rows without an email; v2 registrations require one, so these are deleted
+    private long discarded;
+
+    // Legacy rows still to be moved
+    private long remaining;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+}
@@ -77,6 +77,11 @@ public class Event {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Set<Contact> contacts = new HashSet<>();
 
+    /**
+     * Legacy V1 registrations. No longer read or written: RegistrationMigrationService
+     * drains these rows into {@link EventRegistration}. The mapping is kept only so the
+     * table (and its cascade) exists until the migration has completed everywhere.
+     */
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "event_registrations", joinColumns = @JoinColumn(name = "event_id"))
     @OnDelete(action = OnDeleteAction.CASCADE)
@@ -126,6 +131,18 @@ public class Event {
     @Column(length = 1000)
     private String theme;
 
+    /**
+     * Maximum number of registrations; null means unlimited. Signups beyond it
+     * join the waitlist.
+     */
+    private Integer capacity;
+
+    /**
+     * Set while a large event is purged in the background by EventPurgeService;
+     * the event is hidden and closed to signups from then on.
+     */
+    private LocalDateTime deletionRequestedAt;
+
     /**
      * Enhanced speakers stored as entities (supports S3 image upload).
      * This replaces the embedded speakers for new events.
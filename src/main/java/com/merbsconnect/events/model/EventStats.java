@@ -0,0 +1,46 @@
+package com.merbsconnect.events.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per-event rollup of registration, check-in, merchandise and review counts.
+ * Rows are adjusted in the same transaction as the write they describe, and
+ * can be rebuilt from the source tables at any time.
+ */
+@Entity
+@Table(name = "event_stats", indexes = @Index(name = "idx_event_stats_registrations", columnList = "registrations"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventStats {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /** V1 and V2 registrations combined. */
+    private long registrations;
+
+    private long checkIns;
+
+    private long qrScanCheckIns;
+
+    private long manualCheckIns;
+
+    private long bulkCheckIns;
+
+    /** V2 registrations that asked for a shirt. */
+    private long shirtsRequested;
+
+    private long reviews;
+
+    private LocalDateTime updatedAt;
+}
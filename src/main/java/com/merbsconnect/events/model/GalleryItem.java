@@ -49,6 +49,20 @@ public class GalleryItem {
 
     private Long fileSize; // File size in bytes
 
+    // Resized progressive JPEG copies of images, filled in asynchronously
+    private String thumbnailKey;
+
+    private String mediumKey;
+
+    private String fullKey;
+
+    // Set once derivatives were generated or found impossible (e.g. undecodable format)
+    private LocalDateTime derivativesProcessedAt;
+
+    // Failed attempts that may succeed on retry; the sweep gives up after a few
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int derivativeAttempts;
+
     private LocalDateTime createdAt;
 
     @PrePersist
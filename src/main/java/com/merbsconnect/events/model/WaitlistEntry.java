@@ -0,0 +1,79 @@
+package com.merbsconnect.events.model;
+
+import com.merbsconnect.enums.AcademicLevel;
+import com.merbsconnect.enums.ReferralSource;
+import com.merbsconnect.enums.ShirtSize;
+import com.merbsconnect.enums.University;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A signup received while its event was at capacity. Entries are promoted to
+ * registrations in id order as seats free up.
+ */
+@Entity
+@Table(name = "event_waitlist",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "event_id", "email" }),
+        indexes = @Index(name = "idx_event_waitlist_event_id", columnList = "event_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(nullable = false)
+    private String name;
+
+    private String phone;
+
+    private String note;
+
+    @Builder.Default
+    private boolean needsShirt = false;
+
+    @Enumerated(EnumType.STRING)
+    private ShirtSize shirtSize;
+
+    @ElementCollection
+    @CollectionTable(name = "waitlist_merchandise_orders", joinColumns = @JoinColumn(name = "waitlist_entry_id"))
+    @Builder.Default
+    private List<MerchandiseOrder> merchandiseOrders = new ArrayList<>();
+
+    private String program;
+
+    @Enumerated(EnumType.STRING)
+    private AcademicLevel academicLevel;
+
+    @Enumerated(EnumType.STRING)
+    private University university;
+
+    @Enumerated(EnumType.STRING)
+    private ReferralSource referralSource;
+
+    private String referralSourceOther;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
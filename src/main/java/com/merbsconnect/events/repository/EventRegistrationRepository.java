@@ -4,6 +4,7 @@ import com.merbsconnect.events.model.EventRegistration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -52,6 +53,37 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
          */
         boolean existsByEventIdAndEmail(Long eventId, String email);
 
+        /**
+         * Inserts a registration unless the email is already registered for the event.
+         * The conflict check is a probe of the unique (event_id, lower(email)) index, so
+         * the cost stays flat however many people have registered, and concurrent
+         * signups for the same email cannot both succeed.
+         *
+         * @return 1 if the row was inserted, 0 if it was a duplicate
+         */
+        @Modifying
+        @Query(value = "INSERT INTO event_registrations_v2 (event_id, email, name, phone, note, registration_token, " +
+                        "qr_code_base64, checked_in, needs_shirt, shirt_size, program, academic_level, university, " +
+                        "referral_source, referral_source_other, registered_at) VALUES (:eventId, :email, :name, " +
+                        ":phone, :note, :token, :qrCode, FALSE, :needsShirt, :shirtSize, :program, :academicLevel, " +
+                        ":university, :referralSource, :referralSourceOther, :registeredAt) " +
+                        "ON CONFLICT DO NOTHING", nativeQuery = true)
+        int insertIfAbsent(@Param("eventId") Long eventId,
+                        @Param("email") String email,
+                        @Param("name") String name,
+                        @Param("phone") String phone,
+                        @Param("note") String note,
+                        @Param("token") String token,
+                        @Param("qrCode") String qrCode,
+                        @Param("needsShirt") boolean needsShirt,
+                        @Param("shirtSize") String shirtSize,
+                        @Param("program") String program,
+                        @Param("academicLevel") String academicLevel,
+                        @Param("university") String university,
+                        @Param("referralSource") String referralSource,
+                        @Param("referralSourceOther") String referralSourceOther,
+                        @Param("registeredAt") java.time.LocalDateTime registeredAt);
+
         /**
          * Find list of registrations by event ID and a list of emails.
          * Used for bulk operations like SMS sending.
@@ -76,6 +108,159 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
         long countByEventIdAndCheckInMethod(@Param("eventId") Long eventId,
                         @Param("method") com.merbsconnect.enums.CheckInMethod method);
 
+        /**
+         * Find a registration by event and email, ignoring case.
+         */
+        Optional<EventRegistration> findByEventIdAndEmailIgnoreCase(Long eventId, String email);
+
+        /**
+         * Locks the registrations of an event whose lower-cased email is in the given
+         * list and returns [id, checked_in, check_in_method, needs_shirt] for each, so a
+         * bulk delete can adjust the stats without loading entities.
+         */
+        @Query(value = "SELECT id, checked_in, check_in_method, needs_shirt FROM event_registrations_v2 " +
+                        "WHERE event_id = :eventId AND LOWER(email) IN (:emails) FOR UPDATE", nativeQuery = true)
+        java.util.List<Object[]> lockRemovalRowsByLowerEmail(@Param("eventId") Long eventId,
+                        @Param("emails") java.util.Collection<String> emails);
+
+        /**
+         * Next chunk of registration ids of an event, for the chunked event purge.
+         */
+        @Query(value = "SELECT id FROM event_registrations_v2 WHERE event_id = :eventId ORDER BY id LIMIT :limit",
+                        nativeQuery = true)
+        java.util.List<Long> findIdBatchByEventId(@Param("eventId") Long eventId, @Param("limit") int limit);
+
+        @Modifying
+        @Query(value = "DELETE FROM registration_merchandise_orders WHERE registration_id IN (:ids)", nativeQuery = true)
+        int deleteMerchandiseOrdersByRegistrationIds(@Param("ids") java.util.Collection<Long> ids);
+
+        @Modifying
+        @Query(value = "DELETE FROM event_registrations_v2 WHERE id IN (:ids)", nativeQuery = true)
+        int deleteAllByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
+        /**
+         * Returns which of the given lower-cased emails are already registered for
+         * the event, as one set-based lookup per import batch.
+         */
+        @Query("SELECT LOWER(r.email) FROM EventRegistration r WHERE r.event.id = :eventId " +
+                        "AND LOWER(r.email) IN :emails")
+        java.util.List<String> findExistingLowerEmails(@Param("eventId") Long eventId,
+                        @Param("emails") java.util.Collection<String> emails);
+
+        /**
+         * Stores the QR code of a registration created without one (bulk import).
+         */
+        @Modifying
+        @Query("UPDATE EventRegistration r SET r.qrCodeBase64 = :qrCode WHERE r.registrationToken = :token " +
+                        "AND r.qrCodeBase64 IS NULL")
+        int setQrCodeIfMissing(@Param("token") String token, @Param("qrCode") String qrCode);
+
+        /**
+         * Find registrations of an event whose lower-cased email is in the given list.
+         */
+        @Query("SELECT r FROM EventRegistration r WHERE r.event.id = :eventId AND LOWER(r.email) IN :emails")
+        java.util.List<EventRegistration> findByEventIdAndLowerEmailIn(@Param("eventId") Long eventId,
+                        @Param("emails") java.util.Collection<String> emails);
+
+        /**
+         * Next page of an event's registrations after {@code afterId}, in id order, as
+         * [id, name, email, phone, note] rows. Keyset paging keeps exports flat in cost
+         * and scalar rows keep the persistence context empty.
+         */
+        @Query("SELECT r.id, r.name, r.email, r.phone, r.note FROM EventRegistration r " +
+                        "WHERE r.event.id = :eventId AND r.id > :afterId ORDER BY r.id")
+        java.util.List<Object[]> findExportRowsAfter(@Param("eventId") Long eventId, @Param("afterId") Long afterId,
+                        Pageable pageable);
+
+        /**
+         * Registrations per program. Each row is [program, count].
+         */
+        @Query(value = "SELECT TRIM(program) AS program, COUNT(*) FROM event_registrations_v2 " +
+                        "GROUP BY TRIM(program)", nativeQuery = true)
+        java.util.List<Object[]> countAllByProgram();
+
+        /**
+         * Registrations per academic level (enum name). Each row is [academicLevel, count].
+         */
+        @Query(value = "SELECT academic_level, COUNT(*) FROM event_registrations_v2 GROUP BY academic_level",
+                        nativeQuery = true)
+        java.util.List<Object[]> countAllByAcademicLevel();
+
+        /**
+         * Registrations per referral source (enum name). Each row is [referralSource, count].
+         */
+        @Query(value = "SELECT referral_source, COUNT(*) FROM event_registrations_v2 GROUP BY referral_source",
+                        nativeQuery = true)
+        java.util.List<Object[]> countAllByReferralSource();
+
+        /**
+         * Monthly registration counts since {@code from}, bucketed by registered_at.
+         * Rows migrated from the legacy table carry no timestamp and fall back to the event date.
+         * Each row is [year, month, count].
+         */
+        @Query(value = "SELECT EXTRACT(YEAR FROM registered_on), EXTRACT(MONTH FROM registered_on), COUNT(*) FROM (" +
+                        "SELECT COALESCE(r.registered_at, CAST(e.date AS TIMESTAMP)) AS registered_on " +
+                        "FROM event_registrations_v2 r JOIN event e ON e.id = r.event_id" +
+                        ") combined WHERE registered_on >= :from " +
+                        "GROUP BY EXTRACT(YEAR FROM registered_on), EXTRACT(MONTH FROM registered_on)", nativeQuery = true)
+        java.util.List<Object[]> countMonthlyRegistrationsSince(@Param("from") java.time.LocalDateTime from);
+
+        // ===== Legacy event_registrations migration =====
+
         @Query(value = "SELECT COUNT(*) FROM event_registrations", nativeQuery = true)
         long countAllV1Registrations();
+
+        /**
+         * Next batch of legacy rows after the (eventId, email) cursor, in key order.
+         * Each row is [event_id, email, name, phone, note, program, academic_level,
+         * university, referral_source, referral_source_other].
+         */
+        @Query(value = "SELECT event_id, email, name, phone, note, program, academic_level, university, " +
+                        "referral_source, referral_source_other FROM event_registrations " +
+                        "WHERE email IS NOT NULL " +
+                        "AND (event_id > :afterEventId OR (event_id = :afterEventId AND email > :afterEmail)) " +
+                        "ORDER BY event_id, email LIMIT :limit", nativeQuery = true)
+        java.util.List<Object[]> findLegacyBatchAfter(@Param("afterEventId") Long afterEventId,
+                        @Param("afterEmail") String afterEmail, @Param("limit") int limit);
+
+        /**
+         * Copies one legacy registration into event_registrations_v2. Returns 0 when the
+         * email is already registered for the event there, in any letter case. Legacy rows
+         * carry no timestamp, so registered_at is the event date, or now for events that
+         * have not happened yet.
+         */
+        @Modifying
+        @Query(value = "INSERT INTO event_registrations_v2 (event_id, email, name, phone, note, registration_token, " +
+                        "checked_in, needs_shirt, program, academic_level, university, referral_source, " +
+                        "referral_source_other, registered_at) SELECT :eventId, :email, :name, :phone, :note, :token, " +
+                        "FALSE, FALSE, :program, :academicLevel, :university, :referralSource, :referralSourceOther, " +
+                        "LEAST(COALESCE(CAST(e.date AS TIMESTAMP), now()), now()) FROM event e WHERE e.id = :eventId " +
+                        "ON CONFLICT DO NOTHING", nativeQuery = true)
+        int insertMigratedRegistration(@Param("eventId") Long eventId,
+                        @Param("email") String email,
+                        @Param("name") String name,
+                        @Param("phone") String phone,
+                        @Param("note") String note,
+                        @Param("token") String token,
+                        @Param("program") String program,
+                        @Param("academicLevel") String academicLevel,
+                        @Param("university") String university,
+                        @Param("referralSource") String referralSource,
+                        @Param("referralSourceOther") String referralSourceOther);
+
+        @Modifying
+        @Query(value = "DELETE FROM event_registrations WHERE event_id = :eventId AND email = :email",
+                        nativeQuery = true)
+        int deleteLegacyRegistration(@Param("eventId") Long eventId, @Param("email") String email);
+
+        /**
+         * Events with legacy rows that have no email and so cannot be migrated.
+         */
+        @Query(value = "SELECT DISTINCT event_id FROM event_registrations WHERE email IS NULL", nativeQuery = true)
+        java.util.List<Long> findEventIdsWithLegacyRegistrationsWithoutEmail();
+
+        @Modifying
+        @Query(value = "DELETE FROM event_registrations WHERE event_id = :eventId AND email IS NULL",
+                        nativeQuery = true)
+        int deleteLegacyRegistrationsWithoutEmail(@Param("eventId") Long eventId);
 }
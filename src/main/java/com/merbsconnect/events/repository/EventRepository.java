@@ -23,12 +23,8 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
         List<Event> findByDateBetween(LocalDate startDate, LocalDate endDate);
 
-        @Query(value = "SELECT event_id FROM (" +
-                        "SELECT event_id FROM event_registrations " +
-                        "UNION ALL " +
-                        "SELECT event_id FROM event_registrations_v2" +
-                        ") combined GROUP BY event_id ORDER BY COUNT(*) DESC LIMIT :limit", nativeQuery = true)
-        List<Long> findTopEventIdsByRegistrationCount(@Param("limit") int limit);
+        @Query("SELECT e.id FROM Event e")
+        List<Long> findAllIds();
 
         @Override
         org.springframework.data.domain.Page<Event> findAll(org.springframework.data.domain.Pageable pageable);
@@ -37,12 +33,12 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                         "speakersV2", "speakers", "itinerary", "reviews", "articles",
                         "galleryItems", "registrationsV2", "testimonials", "sponsors", "contacts"
         })
-        @Query("SELECT e FROM Event e WHERE e.id = :id")
+        @Query("SELECT e FROM Event e WHERE e.id = :id AND e.deletionRequestedAt IS NULL")
         java.util.Optional<Event> findWithDetailsById(@Param("id") Long id);
 
-        Page<Event> findEventByDateAfter(LocalDate dateAfter, Pageable pageable);
+        Page<Event> findEventByDateAfterAndDeletionRequestedAtIsNull(LocalDate dateAfter, Pageable pageable);
 
-        Page<Event> findEventByDateBefore(LocalDate dateBefore, Pageable pageable);
+        Page<Event> findEventByDateBeforeAndDeletionRequestedAtIsNull(LocalDate dateBefore, Pageable pageable);
 
         @Query("SELECT e FROM Event e WHERE YEAR(e.date) = :year")
         Optional<Event> findEventByYear(@Param("year") Long year);
@@ -74,4 +70,89 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         @org.springframework.data.jpa.repository.Modifying
         @Query(value = "DELETE FROM event_registrations WHERE event_id = :eventId", nativeQuery = true)
         void deleteEventRegistrations(@Param("eventId") Long eventId);
+
+        // Set-based deletes of everything that references an event, so removing one
+        // never loads its child collections. Used by EventPurgeService.
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM registration_merchandise_orders WHERE registration_id IN " +
+                        "(SELECT id FROM event_registrations_v2 WHERE event_id = :eventId)", nativeQuery = true)
+        int deleteEventRegistrationMerchandise(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_registrations_v2 WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventRegistrationsV2(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM waitlist_merchandise_orders WHERE waitlist_entry_id IN " +
+                        "(SELECT id FROM event_waitlist WHERE event_id = :eventId)", nativeQuery = true)
+        int deleteEventWaitlistMerchandise(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_waitlist WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventWaitlist(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_reviews WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventReviews(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_articles WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventArticles(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_gallery_items WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventGalleryItems(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_speakers_v2 WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventSpeakersV2(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event_itinerary_items WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventItinerary(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM testimonials WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventTestimonials(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM gallery WHERE event_id = :eventId", nativeQuery = true)
+        int deleteEventGallery(@Param("eventId") Long eventId);
+
+        @org.springframework.data.jpa.repository.Modifying
+        @Query(value = "DELETE FROM event WHERE id = :eventId", nativeQuery = true)
+        int deleteEventRow(@Param("eventId") Long eventId);
+
+        /**
+         * Hides an event while its registrations are purged in the background.
+         */
+        @org.springframework.data.jpa.repository.Modifying
+        @Query("UPDATE Event e SET e.deletionRequestedAt = :requestedAt WHERE e.id = :eventId")
+        int markDeletionRequested(@Param("eventId") Long eventId,
+                        @Param("requestedAt") java.time.LocalDateTime requestedAt);
+
+        @Query("SELECT e.id FROM Event e WHERE e.deletionRequestedAt IS NOT NULL")
+        List<Long> findIdsPendingDeletion();
+
+        Page<Event> findByDeletionRequestedAtIsNull(Pageable pageable);
+
+        /**
+         * Every image or media reference stored for an event, as object keys or
+         * URLs, so the orphan media reconciler knows which objects are in use.
+         */
+        @Query(value = "SELECT image_url FROM event WHERE id = :eventId " +
+                        "UNION SELECT video_url FROM event WHERE id = :eventId " +
+                        "UNION SELECT image_url FROM event_speakers_v2 WHERE event_id = :eventId " +
+                        "UNION SELECT media_url FROM event_gallery_items WHERE event_id = :eventId " +
+                        "UNION SELECT thumbnail_key FROM event_gallery_items WHERE event_id = :eventId " +
+                        "UNION SELECT medium_key FROM event_gallery_items WHERE event_id = :eventId " +
+                        "UNION SELECT full_key FROM event_gallery_items WHERE event_id = :eventId " +
+                        "UNION SELECT image_url FROM event_speakers WHERE event_id = :eventId " +
+                        "UNION SELECT sponsor_image_url FROM event_sponsors WHERE event_id = :eventId " +
+                        "UNION SELECT image_url FROM event_articles WHERE event_id = :eventId " +
+                        "UNION SELECT image_url FROM testimonials WHERE event_id = :eventId " +
+                        "UNION SELECT cover_image_url FROM gallery WHERE event_id = :eventId " +
+                        "UNION SELECT unnest(image_url) FROM gallery WHERE event_id = :eventId", nativeQuery = true)
+        List<String> findMediaReferences(@Param("eventId") Long eventId);
 }
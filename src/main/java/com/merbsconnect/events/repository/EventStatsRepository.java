@@ -0,0 +1,119 @@
+package com.merbsconnect.events.repository;
+
+import com.merbsconnect.events.model.EventStats;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the per-event stats rollup.
+ */
+@Repository
+public interface EventStatsRepository extends JpaRepository<EventStats, Long> {
+
+        /**
+         * Adds the given deltas to an event's row, creating it if missing. The
+         * upsert takes the row lock, so concurrent writers serialise on it.
+         */
+        @Modifying
+        @Query(value = "INSERT INTO event_stats (event_id, registrations, check_ins, qr_scan_check_ins, " +
+                        "manual_check_ins, bulk_check_ins, shirts_requested, reviews, updated_at) " +
+                        "VALUES (:eventId, :registrations, :checkIns, :qrScan, :manual, :bulk, :shirts, :reviews, " +
+                        "CURRENT_TIMESTAMP) " +
+                        "ON CONFLICT (event_id) DO UPDATE SET " +
+                        "registrations = event_stats.registrations + EXCLUDED.registrations, " +
+                        "check_ins = event_stats.check_ins + EXCLUDED.check_ins, " +
+                        "qr_scan_check_ins = event_stats.qr_scan_check_ins + EXCLUDED.qr_scan_check_ins, " +
+                        "manual_check_ins = event_stats.manual_check_ins + EXCLUDED.manual_check_ins, " +
+                        "bulk_check_ins = event_stats.bulk_check_ins + EXCLUDED.bulk_check_ins, " +
+                        "shirts_requested = event_stats.shirts_requested + EXCLUDED.shirts_requested, " +
+                        "reviews = event_stats.reviews + EXCLUDED.reviews, " +
+                        "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+        void applyDelta(@Param("eventId") Long eventId,
+                        @Param("registrations") long registrations,
+                        @Param("checkIns") long checkIns,
+                        @Param("qrScan") long qrScan,
+                        @Param("manual") long manual,
+                        @Param("bulk") long bulk,
+                        @Param("shirts") long shirts,
+                        @Param("reviews") long reviews);
+
+        @Modifying
+        @Query(value = "INSERT INTO event_stats (event_id, registrations, check_ins, qr_scan_check_ins, " +
+                        "manual_check_ins, bulk_check_ins, shirts_requested, reviews, updated_at) " +
+                        "VALUES (:eventId, 0, 0, 0, 0, 0, 0, 0, CURRENT_TIMESTAMP) " +
+                        "ON CONFLICT (event_id) DO NOTHING", nativeQuery = true)
+        void ensureRow(@Param("eventId") Long eventId);
+
+        /**
+         * Claims a seat if the event is below {@code capacity}. The conditional update
+         * holds the row lock until commit, so concurrent signups for a capped event
+         * serialise here and re-check the count that the winner has just raised.
+         *
+         * @return 1 if a seat is available, 0 if the event is full
+         */
+        @Modifying
+        @Query(value = "UPDATE event_stats SET updated_at = CURRENT_TIMESTAMP " +
+                        "WHERE event_id = :eventId AND registrations < :capacity", nativeQuery = true)
+        int claimSeat(@Param("eventId") Long eventId, @Param("capacity") long capacity);
+
+        /**
+         * Locks an event's row so that a recount does not race with writers that
+         * have already changed the source tables but not yet bumped the counters.
+         */
+        @Query(value = "SELECT event_id FROM event_stats WHERE event_id = :eventId FOR UPDATE", nativeQuery = true)
+        Long lockRow(@Param("eventId") Long eventId);
+
+        /**
+         * Recomputes every counter of an event's row from the source tables.
+         */
+        @Modifying
+        @Query(value = "UPDATE event_stats SET " +
+                        "registrations = (SELECT COUNT(*) FROM event_registrations WHERE event_id = :eventId) " +
+                        "+ (SELECT COUNT(*) FROM event_registrations_v2 WHERE event_id = :eventId), " +
+                        "check_ins = (SELECT COUNT(*) FROM event_registrations_v2 " +
+                        "WHERE event_id = :eventId AND checked_in = TRUE), " +
+                        "qr_scan_check_ins = (SELECT COUNT(*) FROM event_registrations_v2 " +
+                        "WHERE event_id = :eventId AND checked_in = TRUE AND check_in_method = 'QR_SCAN'), " +
+                        "manual_check_ins = (SELECT COUNT(*) FROM event_registrations_v2 " +
+                        "WHERE event_id = :eventId AND checked_in = TRUE AND check_in_method = 'MANUAL'), " +
+                        "bulk_check_ins = (SELECT COUNT(*) FROM event_registrations_v2 " +
+                        "WHERE event_id = :eventId AND checked_in = TRUE AND check_in_method = 'BULK'), " +
+                        "shirts_requested = (SELECT COUNT(*) FROM event_registrations_v2 " +
+                        "WHERE event_id = :eventId AND needs_shirt = TRUE), " +
+                        "reviews = (SELECT COUNT(*) FROM event_reviews WHERE event_id = :eventId), " +
+                        "updated_at = CURRENT_TIMESTAMP " +
+                        "WHERE event_id = :eventId", nativeQuery = true)
+        int recompute(@Param("eventId") Long eventId);
+
+        @Transactional
+        @Modifying
+        @Query(value = "DELETE FROM event_stats WHERE event_id NOT IN (SELECT id FROM event)", nativeQuery = true)
+        int deleteOrphans();
+
+        @Query("SELECT COALESCE(SUM(s.registrations), 0) FROM EventStats s")
+        long sumRegistrations();
+
+        /**
+         * Top events by registrations. Each row is [eventId, title, registrations].
+         */
+        @Query("SELECT e.id, e.title, s.registrations FROM EventStats s JOIN Event e ON e.id = s.eventId " +
+                        "WHERE s.registrations > 0 ORDER BY s.registrations DESC")
+        List<Object[]> findTopEvents(Pageable pageable);
+
+        /**
+         * Registrations per event, optionally limited to events dated within a range.
+         * Each row is [title, registrations].
+         */
+        @Query("SELECT e.title, COALESCE(s.registrations, 0) FROM Event e LEFT JOIN EventStats s ON s.eventId = e.id " +
+                        "WHERE (:startDate IS NULL OR e.date >= :startDate) AND (:endDate IS NULL OR e.date <= :endDate)")
+        List<Object[]> findRegistrationCountsByEvent(@Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+}
@@ -5,6 +5,7 @@ import com.merbsconnect.events.model.GalleryItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -28,6 +29,17 @@ public interface GalleryItemRepository extends JpaRepository<GalleryItem, Long>
      */
     long countByEventId(Long eventId);
 
+    /**
+     * Whether a gallery item already points at this object key.
+     */
+    boolean existsByMediaUrl(String mediaUrl);
+
+    /**
+     * Images still waiting for derivatives, fewest failed attempts first, then oldest.
+     */
+    List<GalleryItem> findTop20ByTypeAndDerivativesProcessedAtIsNullAndCreatedAtBeforeOrderByDerivativeAttemptsAscIdAsc(
+            MediaType type, LocalDateTime createdBefore);
+
     /**
      * Delete all gallery items for an event.
      */
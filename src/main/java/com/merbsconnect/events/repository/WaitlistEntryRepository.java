@@ -0,0 +1,39 @@
+package com.merbsconnect.events.repository;
+
+import com.merbsconnect.events.model.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for event waitlist entries.
+ */
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+        Optional<WaitlistEntry> findByEventIdAndEmailIgnoreCase(Long eventId, String email);
+
+        /**
+         * 1-based position of an entry: the number of entries for the event up to and including it.
+         */
+        @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.eventId = :eventId AND w.id <= :id")
+        long positionOf(@Param("eventId") Long eventId, @Param("id") Long id);
+
+        long countByEventId(Long eventId);
+
+        boolean existsByEventId(Long eventId);
+
+        /**
+         * Locks the oldest entry of an event, skipping entries another promoter holds.
+         */
+        @Query(value = "SELECT id FROM event_waitlist WHERE event_id = :eventId ORDER BY id " +
+                        "LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        Optional<Long> lockNextId(@Param("eventId") Long eventId);
+
+        @Query("SELECT DISTINCT w.eventId FROM WaitlistEntry w")
+        List<Long> findEventIdsWithEntries();
+}
@@ -14,6 +14,7 @@ public interface CheckInService {
     /**
      * Registers a participant for an event with QR code generation.
      * Also sends confirmation email with PDF ticket and SMS notification.
+     * If the event is at capacity the participant is waitlisted instead.
      *
      * @param eventId         The event ID
      * @param registrationDto The registration details
@@ -21,6 +22,16 @@ public interface CheckInService {
      */
     RegistrationDetailsResponse registerForEventV2(Long eventId, EventRegistrationDto registrationDto);
 
+    /**
+     * Registers a participant even if the event is at capacity. Used for admin
+     * overrides and for promoting waitlisted participants once a seat is claimed.
+     *
+     * @param eventId         The event ID
+     * @param registrationDto The registration details
+     * @return The registration details including QR code
+     */
+    RegistrationDetailsResponse registerIgnoringCapacity(Long eventId, EventRegistrationDto registrationDto);
+
     /**
      * Checks in a participant using their registration token (from QR code).
      * Staff-only operation.
@@ -0,0 +1,23 @@
+package com.merbsconnect.events.service;
+
+/**
+ * Deletes events with set-based statements instead of entity cascades. Small
+ * events go in one transaction; events with many registrations are hidden at
+ * once and their registrations removed in chunks on the export executor.
+ */
+public interface EventPurgeService {
+
+    /**
+     * Deletes the event, everything that references it, and its media in the
+     * bucket.
+     *
+     * @return true if the event is gone, false if it was hidden and queued for a
+     *         background purge
+     */
+    boolean deleteEvent(Long eventId);
+
+    /**
+     * Restarts purges of events left hidden by a restart or a busy executor.
+     */
+    void resumePending();
+}
@@ -6,7 +6,6 @@ import com.merbsconnect.events.dto.request.EventRegistrationDto;
 import com.merbsconnect.events.dto.request.SendBulkSmsToRegistrationsRequest;
 import com.merbsconnect.events.dto.request.UpdateEventRequest;
 import com.merbsconnect.events.dto.response.EventResponse;
-import com.merbsconnect.events.model.Registration;
 import com.merbsconnect.events.model.Speaker;
 import com.merbsconnect.sms.dtos.response.BulkSmsResponse;
 import org.springframework.data.domain.Page;
@@ -40,8 +39,6 @@ public interface EventService {
 
     MessageResponse updateEventSpeaker(Speaker speaker, Long eventId);
 
-    MessageResponse registerForEvent(Long eventId, EventRegistrationDto registrationDto);
-
     Page<EventRegistrationDto> getEventRegistrations(Long eventId, Pageable pageable, String search,
             Boolean checkInStatus, String shirtSize);
 
@@ -69,5 +66,10 @@ public interface EventService {
 
     String uploadEventImage(Long eventId, org.springframework.web.multipart.MultipartFile image) throws IOException;
 
+    com.merbsconnect.storage.PresignedUploadResponse createEventImageUpload(Long eventId,
+            com.merbsconnect.storage.PresignedUploadRequest request);
+
+    String confirmEventImageUpload(Long eventId, String key);
+
     MessageResponse updateRegistration(Long eventId, Long registrationId, EventRegistrationDto registrationDto);
 }
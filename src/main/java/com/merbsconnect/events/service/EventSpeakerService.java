@@ -3,6 +3,8 @@ package com.merbsconnect.events.service;
 import com.merbsconnect.authentication.dto.response.MessageResponse;
 import com.merbsconnect.events.dto.request.EventSpeakerRequest;
 import com.merbsconnect.events.dto.response.EventSpeakerResponse;
+import com.merbsconnect.storage.PresignedUploadRequest;
+import com.merbsconnect.storage.PresignedUploadResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -43,6 +45,16 @@ public interface EventSpeakerService {
      */
     EventSpeakerResponse uploadSpeakerImage(Long eventId, Long speakerId, MultipartFile image) throws IOException;
 
+    /**
+     * Issue a presigned URL for uploading a speaker image straight to S3.
+     */
+    PresignedUploadResponse createSpeakerImageUpload(Long eventId, Long speakerId, PresignedUploadRequest request);
+
+    /**
+     * Point the speaker at an image uploaded through a presigned URL.
+     */
+    EventSpeakerResponse confirmSpeakerImageUpload(Long eventId, Long speakerId, String key);
+
     /**
      * Delete a speaker's image from S3.
      */
@@ -0,0 +1,79 @@
+package com.merbsconnect.events.service;
+
+import com.merbsconnect.enums.CheckInMethod;
+import com.merbsconnect.events.model.EventRegistration;
+import com.merbsconnect.events.model.EventStats;
+
+import java.util.Collection;
+
+/**
+ * Maintains the per-event stats rollup. The record methods must be called
+ * inside the transaction that performs the corresponding write, so the
+ * counters commit or roll back together with it.
+ */
+public interface EventStatsService {
+
+    /**
+     * Records a net change in registrations that carry no shirt request or check-in,
+     * such as rows moved by the legacy registration migration or bulk-imported from CSV.
+     */
+    void recordRegistrations(Long eventId, long count);
+
+    /**
+     * Records a new V2 registration, counting its shirt request if any.
+     */
+    void recordRegistration(EventRegistration registration);
+
+    /**
+     * Records the removal of a V2 registration, reversing its check-in and
+     * shirt request if any.
+     */
+    void recordRegistrationRemoved(EventRegistration registration);
+
+    /**
+     * Records the removal of several V2 registrations of one event as a single
+     * counter update, reversing their check-ins and shirt requests.
+     */
+    void recordRegistrationsRemoved(Long eventId, Collection<RemovedRegistration> removed);
+
+    void recordCheckIn(Long eventId, CheckInMethod method);
+
+    /**
+     * Checks that a capped event has a free seat and locks its stats row until
+     * the surrounding transaction ends. The caller must then record the new
+     * registration in the same transaction.
+     *
+     * @return false if the event is at capacity
+     */
+    boolean tryClaimSeat(Long eventId, int capacity);
+
+    void recordReview(Long eventId, int delta);
+
+    /**
+     * Returns the event's row, or an all-zero row if none exists yet.
+     */
+    EventStats getStats(Long eventId);
+
+    /**
+     * Removes the row of a deleted event.
+     */
+    void deleteStats(Long eventId);
+
+    /**
+     * Recounts one event's row from the source tables.
+     */
+    void rebuild(Long eventId);
+
+    /**
+     * Recounts every event and drops rows of deleted events.
+     *
+     * @return number of events rebuilt
+     */
+    int rebuildAll();
+
+    /**
+     * The columns of a deleted registration that feed the counters.
+     */
+    record RemovedRegistration(boolean checkedIn, CheckInMethod checkInMethod, boolean needsShirt) {
+    }
+}
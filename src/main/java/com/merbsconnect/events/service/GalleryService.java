@@ -3,9 +3,13 @@ package com.merbsconnect.events.service;
 import com.merbsconnect.enums.MediaType;
 import com.merbsconnect.events.dto.response.GalleryItemResponse;
 import com.merbsconnect.events.dto.response.GalleryResponse;
+import com.merbsconnect.storage.ConfirmUploadRequest;
+import com.merbsconnect.storage.PresignedUploadRequest;
+import com.merbsconnect.storage.PresignedUploadResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Service interface for event gallery operations.
@@ -25,6 +29,28 @@ public interface GalleryService {
     GalleryItemResponse uploadGalleryItem(Long eventId, MultipartFile file, String caption, MediaType mediaType)
             throws IOException;
 
+    /**
+     * Issues a presigned URL for uploading an image or video straight to the
+     * bucket. The media type is taken from the content type.
+     * Admin-only operation.
+     *
+     * @param eventId The event ID
+     * @param request File name, content type and size of the upload
+     * @return The object key and upload URL
+     */
+    PresignedUploadResponse createUpload(Long eventId, PresignedUploadRequest request);
+
+    /**
+     * Records a gallery item for a finished presigned upload, after checking the
+     * object in the bucket.
+     * Admin-only operation.
+     *
+     * @param eventId The event ID
+     * @param request The uploaded key, with optional caption and file name
+     * @return The created gallery item
+     */
+    GalleryItemResponse confirmUpload(Long eventId, ConfirmUploadRequest request);
+
     /**
      * Gets the complete gallery for an event.
      *
@@ -33,6 +59,19 @@ public interface GalleryService {
      */
     GalleryResponse getGallery(Long eventId);
 
+    /**
+     * Writes the event's gallery to the stream as a ZIP of the original files,
+     * fetching one object at a time from the bucket so memory use does not grow
+     * with the gallery.
+     *
+     * @param eventId   The event ID
+     * @param mediaType Only items of this type, or null for all items
+     * @param out       The stream to write to; it is finished but not closed
+     * @throws com.merbsconnect.exception.ResourceNotFoundException if the event does not exist,
+     *                                                             before anything is written
+     */
+    void writeArchive(Long eventId, MediaType mediaType, OutputStream out) throws IOException;
+
     /**
      * Deletes a gallery item.
      * Admin-only operation.
@@ -0,0 +1,21 @@
+package com.merbsconnect.events.service;
+
+/**
+ * Produces resized copies (thumb, medium, full) of gallery images off the
+ * request thread, on the bounded image executor.
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * Queues derivative generation for a gallery item once the current
+     * transaction commits. Items that cannot be queued are picked up by the
+     * periodic sweep.
+     */
+    void schedule(Long galleryItemId);
+
+    /**
+     * Queues images that still have no derivatives, including items uploaded
+     * before derivatives existed.
+     */
+    void sweepPending();
+}
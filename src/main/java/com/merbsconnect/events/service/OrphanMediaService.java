@@ -0,0 +1,17 @@
+package com.merbsconnect.events.service;
+
+/**
+ * Removes objects under {@code events/} in the bucket that no database row
+ * refers to any more, such as media left behind by failed deletes, abandoned
+ * direct uploads or deleted events.
+ */
+public interface OrphanMediaService {
+
+    /**
+     * Pages through the bucket and deletes unreferenced objects older than the
+     * grace period.
+     *
+     * @return The number of orphaned objects found
+     */
+    int reconcile();
+}
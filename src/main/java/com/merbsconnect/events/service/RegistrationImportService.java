@@ -0,0 +1,24 @@
+package com.merbsconnect.events.service;
+
+import com.merbsconnect.events.dto.response.RegistrationImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * Bulk registration of attendees from an uploaded CSV file.
+ */
+public interface RegistrationImportService {
+
+    /**
+     * Streams the CSV, validates each row and inserts the valid ones in batches.
+     * The header row names the columns; name and email are required, and phone,
+     * note, program, academic_level, university, referral_source and
+     * referral_source_other are optional. Imports ignore the event's capacity.
+     *
+     * @param eventId the event to register attendees for
+     * @param csv     the uploaded file, read once and not closed
+     * @param notify  whether to queue confirmation emails for the imported rows
+     * @return counts and row-level errors
+     */
+    RegistrationImportResponse importRegistrations(Long eventId, InputStream csv, boolean notify);
+}
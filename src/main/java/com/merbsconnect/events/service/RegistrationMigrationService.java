@@ -0,0 +1,23 @@
+package com.merbsconnect.events.service;
+
+import com.merbsconnect.events.dto.response.RegistrationMigrationStatusResponse;
+
+/**
+ * Moves legacy V1 registrations into event_registrations_v2 while the
+ * application keeps serving traffic.
+ */
+public interface RegistrationMigrationService {
+
+    /**
+     * Starts the migration in the background unless it is already running.
+     * Every batch commits on its own, so a stopped run resumes where it left off.
+     *
+     * @return the status right after starting
+     */
+    RegistrationMigrationStatusResponse start();
+
+    /**
+     * @return the progress of the current or last run
+     */
+    RegistrationMigrationStatusResponse getStatus();
+}
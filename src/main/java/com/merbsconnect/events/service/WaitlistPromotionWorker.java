@@ -0,0 +1,159 @@
+package com.merbsconnect.events.service;
+
+import com.merbsconnect.config.AsyncConfig;
+import com.merbsconnect.events.dto.request.EventRegistrationDto;
+import com.merbsconnect.events.dto.request.MerchandiseOrderDto;
+import com.merbsconnect.events.model.Event;
+import com.merbsconnect.events.model.WaitlistEntry;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.WaitlistEntryRepository;
+import com.merbsconnect.util.SeatsReleasedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Moves waitlisted participants into free seats. Runs for an event after a
+ * registration is removed or its capacity changes, and periodically for every
+ * event with a waitlist to catch anything a missed notification left behind.
+ * Promoted participants get the normal confirmation email and SMS.
+ */
+@Component
+@Slf4j
+public class WaitlistPromotionWorker {
+
+    private final WaitlistEntryRepository waitlistRepository;
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final EventStatsService eventStatsService;
+    private final CheckInService checkInService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+
+    // Events with a promotion run queued but not yet started
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public WaitlistPromotionWorker(WaitlistEntryRepository waitlistRepository,
+                                   EventRepository eventRepository,
+                                   EventRegistrationRepository registrationRepository,
+                                   EventStatsService eventStatsService,
+                                   CheckInService checkInService,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier(AsyncConfig.EXPORT_EXECUTOR) TaskExecutor executor) {
+        this.waitlistRepository = waitlistRepository;
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.eventStatsService = eventStatsService;
+        this.checkInService = checkInService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsReleased(SeatsReleasedEvent event) {
+        schedule(event.eventId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.waitlist.sweep-interval:PT5M}")
+    public void sweep() {
+        try {
+            waitlistRepository.findEventIdsWithEntries().forEach(this::schedule);
+        } catch (Exception e) {
+            log.error("Waitlist sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void schedule(Long eventId) {
+        if (!pending.add(eventId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                // Cleared before running so a release during this run queues another one
+                pending.remove(eventId);
+                promote(eventId);
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(eventId);
+            log.warn("Waitlist promotion for event {} deferred to the next sweep", eventId);
+        }
+    }
+
+    private void promote(Long eventId) {
+        int promoted = 0;
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> promoteNext(eventId)))) {
+                promoted++;
+            }
+        } catch (Exception e) {
+            log.error("Waitlist promotion for event {} stopped: {}", eventId, e.getMessage(), e);
+        }
+        if (promoted > 0) {
+            log.info("Promoted {} waitlisted participant(s) for event {}", promoted, eventId);
+        }
+    }
+
+    /**
+     * Claims one seat and fills it with the oldest waitlist entry, all in one
+     * transaction so a failure leaves both the seat and the entry untouched.
+     *
+     * @return true if an entry was consumed and another may follow
+     */
+    private boolean promoteNext(Long eventId) {
+        Optional<Event> event = eventRepository.findById(eventId);
+        if (event.isEmpty()) {
+            return false;
+        }
+        Integer capacity = event.get().getCapacity();
+        if (capacity != null && !eventStatsService.tryClaimSeat(eventId, capacity)) {
+            return false;
+        }
+        Optional<WaitlistEntry> next = waitlistRepository.lockNextId(eventId).flatMap(waitlistRepository::findById);
+        if (next.isEmpty()) {
+            return false;
+        }
+
+        WaitlistEntry entry = next.get();
+        waitlistRepository.delete(entry);
+        if (registrationRepository.findByEventIdAndEmailIgnoreCase(eventId, entry.getEmail()).isPresent()) {
+            // Registered through another path meanwhile; just drop the stale entry
+            return true;
+        }
+        checkInService.registerIgnoringCapacity(eventId, toRegistrationDto(entry));
+        log.info("Promoted {} from the waitlist of event {}", entry.getEmail(), eventId);
+        return true;
+    }
+
+    private static EventRegistrationDto toRegistrationDto(WaitlistEntry entry) {
+        return EventRegistrationDto.builder()
+                .email(entry.getEmail())
+                .name(entry.getName())
+                .phone(entry.getPhone())
+                .note(entry.getNote())
+                .needsShirt(entry.isNeedsShirt())
+                .shirtSize(entry.getShirtSize())
+                .merchandiseOrders(entry.getMerchandiseOrders().stream()
+                        .map(order -> MerchandiseOrderDto.builder()
+                                .color(order.getColor())
+                                .size(order.getSize())
+                                .quantity(order.getQuantity())
+                                .build())
+                        .toList())
+                .program(entry.getProgram())
+                .academicLevel(entry.getAcademicLevel())
+                .university(entry.getUniversity())
+                .referralSource(entry.getReferralSource())
+                .referralSourceOther(entry.getReferralSourceOther())
+                .build();
+    }
+}
@@ -9,10 +9,14 @@ import com.merbsconnect.events.dto.response.CheckInStatsResponse;
 import com.merbsconnect.events.dto.response.RegistrationDetailsResponse;
 import com.merbsconnect.events.model.Event;
 import com.merbsconnect.events.model.EventRegistration;
+import com.merbsconnect.events.model.EventStats;
 import com.merbsconnect.events.model.MerchandiseOrder;
+import com.merbsconnect.events.model.WaitlistEntry;
 import com.merbsconnect.events.repository.EventRegistrationRepository;
 import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.WaitlistEntryRepository;
 import com.merbsconnect.events.service.CheckInService;
+import com.merbsconnect.events.service.EventStatsService;
 import com.merbsconnect.startright.repository.TShirtRequestRepository;
 import com.merbsconnect.startright.entity.TShirtRequest;
 import com.merbsconnect.startright.enums.RequestStatus;
@@ -27,6 +31,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -50,6 +56,8 @@ public class CheckInServiceImpl implements CheckInService {
         private final QrCodeService qrCodeService;
         private final EmailService emailService;
         private final SmsService smsService;
+        private final EventStatsService eventStatsService;
+        private final WaitlistEntryRepository waitlistEntryRepository;
 
         // Admin contact details injected from application config
         @Value("${app.admin.email:merbsconnect@gmail.com}")
@@ -62,15 +70,39 @@ public class CheckInServiceImpl implements CheckInService {
         @Transactional
         @org.springframework.cache.annotation.CacheEvict(value = "registrations", key = "#eventId")
         public RegistrationDetailsResponse registerForEventV2(Long eventId, EventRegistrationDto registrationDto) {
+                return register(eventId, registrationDto, true);
+        }
+
+        @Override
+        @Transactional
+        @org.springframework.cache.annotation.CacheEvict(value = "registrations", key = "#eventId")
+        public RegistrationDetailsResponse registerIgnoringCapacity(Long eventId, EventRegistrationDto registrationDto) {
+                return register(eventId, registrationDto, false);
+        }
+
+        private RegistrationDetailsResponse register(Long eventId, EventRegistrationDto registrationDto,
+                        boolean enforceCapacity) {
                 log.info("Registering participant for event {}: {}", eventId, registrationDto.getEmail());
 
                 Event event = eventRepository.findById(eventId)
+                                .filter(found -> found.getDeletionRequestedAt() == null)
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Event not found with id: " + eventId));
 
-                // Check for duplicate registration
-                if (registrationRepository.existsByEventIdAndEmail(eventId, registrationDto.getEmail())) {
-                        throw new IllegalStateException("Email is already registered for this event");
+                // Handle shirt preference
+                boolean needsShirt = Boolean.TRUE.equals(registrationDto.getNeedsShirt());
+
+                // Build merchandise orders from DTO
+                List<MerchandiseOrder> merchandiseOrders = toMerchandiseOrders(registrationDto, needsShirt);
+
+                // Capped events: the seat claim locks the event's stats row until commit, so
+                // concurrent signups cannot overshoot the limit. While anyone is waiting, a
+                // freed seat belongs to the oldest entry, so newcomers queue behind them
+                // instead of racing the promotion worker for it
+                if (enforceCapacity && event.getCapacity() != null
+                                && (waitlistEntryRepository.existsByEventId(eventId)
+                                                || !eventStatsService.tryClaimSeat(eventId, event.getCapacity()))) {
+                        return joinWaitlist(event, registrationDto, needsShirt, merchandiseOrders);
                 }
 
                 // Generate unique registration token
@@ -79,48 +111,62 @@ public class CheckInServiceImpl implements CheckInService {
                 // Generate QR code
                 String qrCodeBase64 = qrCodeService.generateTokenQrCode(registrationToken);
 
-                // Handle shirt preference
-                boolean needsShirt = Boolean.TRUE.equals(registrationDto.getNeedsShirt());
-
-                // Build merchandise orders from DTO
-                List<MerchandiseOrder> merchandiseOrders = new ArrayList<>();
-                if (needsShirt && registrationDto.getMerchandiseOrders() != null) {
-                        merchandiseOrders = registrationDto.getMerchandiseOrders().stream()
-                                        .map(dto -> MerchandiseOrder.builder()
-                                                        .color(dto.getColor())
-                                                        .size(dto.getSize())
-                                                        .quantity(dto.getQuantity() != null ? dto.getQuantity() : 1)
-                                                        .build())
-                                        .collect(Collectors.toList());
-                }
-
-                EventRegistration registration = EventRegistration.builder()
-                                .event(event)
-                                .email(registrationDto.getEmail())
-                                .name(registrationDto.getName())
-                                .phone(registrationDto.getPhone())
-                                .note(registrationDto.getNote())
-                                .registrationToken(registrationToken)
-                                .qrCodeBase64(qrCodeBase64)
-                                .needsShirt(needsShirt)
+                // Single-row insert; the unique index decides duplicates, so there is no
+                // read-then-write race and no scan of the event's registrations
+                int inserted = registrationRepository.insertIfAbsent(
+                                eventId,
+                                registrationDto.getEmail(),
+                                registrationDto.getName(),
+                                registrationDto.getPhone(),
+                                registrationDto.getNote(),
+                                registrationToken,
+                                qrCodeBase64,
+                                needsShirt,
                                 // Legacy shirtSize for backward compatibility
-                                .shirtSize(needsShirt ? registrationDto.getShirtSize() : null)
-                                // New detailed merchandise orders
-                                .merchandiseOrders(merchandiseOrders)
+                                needsShirt ? enumName(registrationDto.getShirtSize()) : null,
                                 // New university student fields
-                                .program(registrationDto.getProgram())
-                                .academicLevel(registrationDto.getAcademicLevel())
-                                .university(registrationDto.getUniversity())
-                                .referralSource(registrationDto.getReferralSource())
-                                .referralSourceOther(registrationDto.getReferralSourceOther())
-                                .build();
+                                registrationDto.getProgram(),
+                                enumName(registrationDto.getAcademicLevel()),
+                                enumName(registrationDto.getUniversity()),
+                                enumName(registrationDto.getReferralSource()),
+                                registrationDto.getReferralSourceOther(),
+                                LocalDateTime.now());
+                if (inserted == 0) {
+                        throw new IllegalStateException("Email is already registered for this event");
+                }
 
-                EventRegistration savedRegistration = registrationRepository.save(registration);
+                EventRegistration savedRegistration = registrationRepository.findByRegistrationToken(registrationToken)
+                                .orElseThrow(() -> new IllegalStateException("Registration was not persisted"));
+                // New detailed merchandise orders, written with the collection table at flush
+                savedRegistration.getMerchandiseOrders().addAll(merchandiseOrders);
+                eventStatsService.recordRegistration(savedRegistration);
                 log.info("Registration created with id: {} and token: {}", savedRegistration.getId(),
                                 registrationToken);
 
-                // Send confirmation email with QR code attachment (ASYNC)
-                // NOTE: This is async - the email is triggered but may complete later
+                boolean tshirtOrder = needsShirt
+                                && (registrationDto.getShirtSize() != null || !merchandiseOrders.isEmpty());
+                if (tshirtOrder) {
+                        createTShirtRequests(savedRegistration, merchandiseOrders);
+                }
+
+                // Notifications go out after commit: the SMS calls block on the provider, and
+                // must not hold a capped event's seat lock or fire for a rolled-back signup
+                afterCommit(() -> {
+                        sendConfirmationEmail(registrationDto, event, qrCodeBase64, registrationToken);
+                        sendRegistrationSms(registrationDto, event);
+                        if (tshirtOrder) {
+                                notifyAdminAboutTshirtOrder(savedRegistration, event);
+                        }
+                });
+
+                return mapToDetailsResponse(savedRegistration, event);
+        }
+
+        /**
+         * Sends the confirmation email with the QR code attached. The send itself is async.
+         */
+        private void sendConfirmationEmail(EventRegistrationDto registrationDto, Event event, String qrCodeBase64,
+                        String registrationToken) {
                 try {
                         // Pre-validate QR code before triggering email
                         if (qrCodeBase64 == null || qrCodeBase64.isBlank()) {
@@ -143,17 +189,108 @@ public class CheckInServiceImpl implements CheckInService {
                         log.error("[REGISTRATION] Failed to trigger email for {}: {}",
                                         registrationDto.getEmail(), e.getMessage(), e);
                 }
+        }
 
-                // Send SMS notification to participant
-                sendRegistrationSms(registrationDto, event);
+        /**
+         * Runs {@code task} once the current transaction commits, or right away outside one.
+         */
+        private static void afterCommit(Runnable task) {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                                @Override
+                                public void afterCommit() {
+                                        task.run();
+                                }
+                        });
+                } else {
+                        task.run();
+                }
+        }
 
-                // If t-shirt selected, notify support admin
-                if (needsShirt && (registrationDto.getShirtSize() != null || !merchandiseOrders.isEmpty())) {
-                        createTShirtRequests(savedRegistration, merchandiseOrders);
-                        notifyAdminAboutTshirtOrder(savedRegistration, event);
+        private static List<MerchandiseOrder> toMerchandiseOrders(EventRegistrationDto registrationDto,
+                        boolean needsShirt) {
+                if (!needsShirt || registrationDto.getMerchandiseOrders() == null) {
+                        return new ArrayList<>();
                 }
+                return registrationDto.getMerchandiseOrders().stream()
+                                .map(dto -> MerchandiseOrder.builder()
+                                                .color(dto.getColor())
+                                                .size(dto.getSize())
+                                                .quantity(dto.getQuantity() != null ? dto.getQuantity() : 1)
+                                                .build())
+                                .collect(Collectors.toList());
+        }
 
-                return mapToDetailsResponse(savedRegistration, event);
+        /**
+         * Puts a signup for a full event on its waitlist (or reports the existing
+         * place if the email is already waiting) and tells the participant by SMS.
+         */
+        private RegistrationDetailsResponse joinWaitlist(Event event, EventRegistrationDto registrationDto,
+                        boolean needsShirt, List<MerchandiseOrder> merchandiseOrders) {
+                Long eventId = event.getId();
+                if (registrationRepository.findByEventIdAndEmailIgnoreCase(eventId, registrationDto.getEmail())
+                                .isPresent()) {
+                        throw new IllegalStateException("Email is already registered for this event");
+                }
+
+                WaitlistEntry entry = waitlistEntryRepository
+                                .findByEventIdAndEmailIgnoreCase(eventId, registrationDto.getEmail())
+                                .orElseGet(() -> waitlistEntryRepository.save(WaitlistEntry.builder()
+                                                .eventId(eventId)
+                                                .email(registrationDto.getEmail())
+                                                .name(registrationDto.getName())
+                                                .phone(registrationDto.getPhone())
+                                                .note(registrationDto.getNote())
+                                                .needsShirt(needsShirt)
+                                                .shirtSize(needsShirt ? registrationDto.getShirtSize() : null)
+                                                .merchandiseOrders(merchandiseOrders)
+                                                .program(registrationDto.getProgram())
+                                                .academicLevel(registrationDto.getAcademicLevel())
+                                                .university(registrationDto.getUniversity())
+                                                .referralSource(registrationDto.getReferralSource())
+                                                .referralSourceOther(registrationDto.getReferralSourceOther())
+                                                .build()));
+                int position = (int) waitlistEntryRepository.positionOf(eventId, entry.getId());
+                log.info("Event {} is full, {} waitlisted at position {}", eventId, registrationDto.getEmail(),
+                                position);
+
+                afterCommit(() -> sendWaitlistSms(registrationDto, event, position));
+
+                return RegistrationDetailsResponse.builder()
+                                .status("WAITLISTED")
+                                .waitlistPosition(position)
+                                .eventId(eventId)
+                                .eventTitle(event.getTitle())
+                                .name(entry.getName())
+                                .email(entry.getEmail())
+                                .phone(entry.getPhone())
+                                .note(entry.getNote())
+                                .needsShirt(entry.isNeedsShirt())
+                                .shirtSize(entry.getShirtSize())
+                                .build();
+        }
+
+        private void sendWaitlistSms(EventRegistrationDto registrationDto, Event event, int position) {
+                if (registrationDto.getPhone() == null || registrationDto.getPhone().isBlank()) {
+                        return;
+                }
+                try {
+                        String message = String.format(
+                                        "Hi %s! %s is full, so you're #%d on the waitlist. We'll text you with your ticket as soon as a spot opens. - MerbsConnect",
+                                        registrationDto.getName(),
+                                        event.getTitle(),
+                                        position);
+                        smsService.sendBulkSms(BulkSmsRequest.builder()
+                                        .recipients(List.of(formatPhoneNumber(registrationDto.getPhone())))
+                                        .message(message)
+                                        .build());
+                } catch (Exception e) {
+                        log.error("Failed to send waitlist SMS to {}: ", registrationDto.getPhone(), e);
+                }
+        }
+
+        private static String enumName(Enum<?> value) {
+                return value != null ? value.name() : null;
         }
 
         /**
@@ -335,6 +472,7 @@ public class CheckInServiceImpl implements CheckInService {
                 registration.setCheckInMethod(
                                 request.getMethod() != null ? request.getMethod() : CheckInMethod.MANUAL);
                 registrationRepository.save(registration);
+                eventStatsService.recordCheckIn(eventId, registration.getCheckInMethod());
 
                 log.info("Check-in successful for {} at event {} via {}",
                                 registration.getEmail(), eventId,
@@ -371,8 +509,10 @@ public class CheckInServiceImpl implements CheckInService {
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Event not found with id: " + eventId));
 
+                // Check-in only applies to V2 registrations, so the total stays V2-only
                 long totalRegistrations = registrationRepository.countByEventId(eventId);
-                long checkedInCount = registrationRepository.countByEventIdAndCheckedInStatus(eventId, true);
+                EventStats stats = eventStatsService.getStats(eventId);
+                long checkedInCount = stats.getCheckIns();
                 long pendingCount = totalRegistrations - checkedInCount;
 
                 double checkInPercentage = totalRegistrations > 0
@@ -380,9 +520,8 @@ public class CheckInServiceImpl implements CheckInService {
                                 : 0.0;
 
                 // Count by check-in method
-                long qrScanCount = registrationRepository.countByEventIdAndCheckInMethod(eventId,
-                                CheckInMethod.QR_SCAN);
-                long manualCount = registrationRepository.countByEventIdAndCheckInMethod(eventId, CheckInMethod.MANUAL);
+                long qrScanCount = stats.getQrScanCheckIns();
+                long manualCount = stats.getManualCheckIns();
 
                 return CheckInStatsResponse.builder()
                                 .eventId(eventId)
@@ -457,6 +596,7 @@ public class CheckInServiceImpl implements CheckInService {
                 }
 
                 return RegistrationDetailsResponse.builder()
+                                .status("REGISTERED")
                                 .id(registration.getId())
                                 .eventId(event.getId())
                                 .eventTitle(event.getTitle())
@@ -465,7 +605,10 @@ public class CheckInServiceImpl implements CheckInService {
                                 .phone(registration.getPhone())
                                 .note(registration.getNote())
                                 .registrationToken(registration.getRegistrationToken())
-                                .qrCodeBase64(registration.getQrCodeBase64())
+                                // Imported registrations get their QR code stored only when notified
+                                .qrCodeBase64(registration.getQrCodeBase64() != null
+                                                ? registration.getQrCodeBase64()
+                                                : qrCodeService.generateTokenQrCode(registration.getRegistrationToken()))
                                 .checkedIn(registration.isCheckedIn())
                                 .checkInTime(registration.getCheckInTime())
                                 .registeredAt(registration.getRegisteredAt())
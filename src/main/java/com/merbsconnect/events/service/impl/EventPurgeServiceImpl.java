@@ -0,0 +1,194 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.config.AsyncConfig;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.service.EventPurgeService;
+import com.merbsconnect.events.service.EventStatsService;
+import com.merbsconnect.storage.StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class EventPurgeServiceImpl implements EventPurgeService {
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final EventStatsService eventStatsService;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+
+    // Events with at most this many registrations are deleted inline
+    @Value("${app.event-purge.sync-threshold:2000}")
+    private long syncThreshold;
+
+    @Value("${app.event-purge.batch-size:1000}")
+    private int batchSize;
+
+    // Pause between chunks so a purge never monopolises the connection pool
+    @Value("${app.event-purge.batch-pause:PT0.1S}")
+    private Duration batchPause;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public EventPurgeServiceImpl(EventRepository eventRepository,
+                                 EventRegistrationRepository registrationRepository,
+                                 EventStatsService eventStatsService,
+                                 StorageService storageService,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier(AsyncConfig.EXPORT_EXECUTOR) TaskExecutor executor) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.eventStatsService = eventStatsService;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean deleteEvent(Long eventId) {
+        long registrations = eventStatsService.getStats(eventId).getRegistrations();
+        if (registrations <= syncThreshold) {
+            transactionTemplate.executeWithoutResult(status -> deleteRemaining(eventId));
+            log.info("Deleted event {} ({} registrations)", eventId, registrations);
+            scheduleMediaDeletion(eventId);
+            return true;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventRepository.markDeletionRequested(eventId, LocalDateTime.now()));
+        log.info("Event {} has {} registrations; purging in the background", eventId, registrations);
+        schedule(eventId);
+        return false;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumePending();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.event-purge.sweep-interval:PT5M}",
+            initialDelayString = "${app.event-purge.sweep-interval:PT5M}")
+    public void resumePending() {
+        for (Long eventId : eventRepository.findIdsPendingDeletion()) {
+            schedule(eventId);
+        }
+    }
+
+    private void schedule(Long eventId) {
+        if (!inFlight.add(eventId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purge(eventId);
+                } finally {
+                    inFlight.remove(eventId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(eventId);
+            log.warn("Export executor busy; purge of event {} will be retried by the sweep", eventId);
+        }
+    }
+
+    /**
+     * Removes the event's registrations a chunk per transaction, then everything
+     * else in one final transaction. Signups that slipped in during the purge are
+     * caught by the final set-based delete.
+     */
+    private void purge(Long eventId) {
+        try {
+            long deleted = 0;
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> deleteRegistrationChunk(eventId));
+                deleted += chunk;
+                if (chunk > 0) {
+                    Thread.sleep(batchPause.toMillis());
+                }
+            } while (chunk > 0);
+
+            transactionTemplate.executeWithoutResult(status -> deleteRemaining(eventId));
+            log.info("Purged event {} ({} registrations)", eventId, deleted);
+            deleteMedia(eventId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Purge of event {} failed; the sweep will retry: {}", eventId, e.getMessage(), e);
+        }
+    }
+
+    private void scheduleMediaDeletion(Long eventId) {
+        try {
+            executor.execute(() -> deleteMedia(eventId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Export executor busy; media of event {} will be removed by the orphan reconciler", eventId);
+        }
+    }
+
+    /**
+     * Deletes everything stored under the event's folder in the bucket, after
+     * its rows are gone. Objects that survive a failure here are orphans and are
+     * removed by the orphan media reconciler.
+     */
+    private void deleteMedia(Long eventId) {
+        try {
+            storageService.deleteFolder("events/" + eventId + "/");
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete media of event {}; the orphan reconciler will remove it: {}",
+                    eventId, e.getMessage());
+        }
+    }
+
+    private int deleteRegistrationChunk(Long eventId) {
+        List<Long> ids = registrationRepository.findIdBatchByEventId(eventId, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        registrationRepository.deleteMerchandiseOrdersByRegistrationIds(ids);
+        return registrationRepository.deleteAllByIdIn(ids);
+    }
+
+    /**
+     * Deletes the event row and every table that references it, one statement
+     * each, children before parents.
+     */
+    private void deleteRemaining(Long eventId) {
+        eventRepository.deleteEventRegistrationMerchandise(eventId);
+        eventRepository.deleteEventRegistrationsV2(eventId);
+        eventRepository.deleteEventWaitlistMerchandise(eventId);
+        eventRepository.deleteEventWaitlist(eventId);
+        eventRepository.deleteEventReviews(eventId);
+        eventRepository.deleteEventArticles(eventId);
+        eventRepository.deleteEventGalleryItems(eventId);
+        eventRepository.deleteEventSpeakersV2(eventId);
+        eventRepository.deleteEventItinerary(eventId);
+        eventRepository.deleteEventTestimonials(eventId);
+        eventRepository.deleteEventGallery(eventId);
+        eventRepository.deleteEventSponsors(eventId);
+        eventRepository.deleteEventSpeakers(eventId);
+        eventRepository.deleteEventContacts(eventId);
+        eventRepository.deleteEventRegistrations(eventId);
+        eventStatsService.deleteStats(eventId);
+        eventRepository.deleteEventRow(eventId);
+    }
+}
@@ -8,10 +8,11 @@ import com.merbsconnect.events.dto.request.SendBulkSmsToRegistrationsRequest;
 import com.merbsconnect.events.dto.request.UpdateEventRequest;
 import com.merbsconnect.events.dto.response.EventResponse;
 import com.merbsconnect.events.model.Event;
-import com.merbsconnect.events.model.Registration;
 import com.merbsconnect.events.model.Speaker;
 import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.EventStatsRepository;
 import com.merbsconnect.events.service.EventService;
+import com.merbsconnect.events.service.EventStatsService;
 import com.merbsconnect.exception.BusinessException;
 import com.merbsconnect.sms.dtos.request.BulkSmsRequest;
 import com.merbsconnect.sms.dtos.response.BulkSmsResponse;
@@ -26,7 +27,6 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -44,10 +44,16 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+    private static final int CSV_EXPORT_BATCH_SIZE = 500;
+
     private final EventRepository eventRepository;
     private final com.merbsconnect.events.repository.EventRegistrationRepository eventRegistrationRepository;
     private final SmsService smsService;
     private final StorageService storageService;
+    private final EventStatsService eventStatsService;
+    private final EventStatsRepository eventStatsRepository;
+    private final com.merbsconnect.events.service.EventPurgeService eventPurgeService;
+    private final org.springframework.context.ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -61,7 +67,9 @@ public class EventServiceImpl implements EventService {
             throw new BusinessException("Event Already Exist");
         }
         Event event = EventMapper.mapToEvent(eventRequest);
-        return EventMapper.mapToEventResponse(eventRepository.save(event));
+        EventResponse response = EventMapper.mapToEventResponse(eventRepository.save(event));
+        eventPublisher.publishEvent(new com.merbsconnect.util.DashboardDataChangedEvent("event-created"));
+        return response;
     }
 
     @Override
@@ -81,27 +89,30 @@ public class EventServiceImpl implements EventService {
         existingEvent.setTime(eventRequest.getTime());
         existingEvent.setImageUrl(eventRequest.getImageUrl());
         existingEvent.setTheme(eventRequest.getTheme());
+        boolean capacityChanged = !java.util.Objects.equals(existingEvent.getCapacity(), eventRequest.getCapacity());
+        existingEvent.setCapacity(eventRequest.getCapacity());
 
         Event updatedEvent = eventRepository.save(existingEvent);
+        eventPublisher.publishEvent(new com.merbsconnect.util.DashboardDataChangedEvent("event-updated"));
+        if (capacityChanged) {
+            // A raised or removed limit may open seats for the waitlist
+            eventPublisher.publishEvent(new com.merbsconnect.util.SeatsReleasedEvent(eventId));
+        }
         return EventMapper.mapToEventResponse(updatedEvent);
     }
 
     @Override
     @CacheEvict(value = { "events", "registrations" }, allEntries = true)
     public MessageResponse deleteEvent(Long eventId) {
-        Event event = getEventByIdInternal(eventId);
-
-        // Explicitly delete usage of ElementCollections to prevent FK violation via
-        // Native SQL
-        eventRepository.deleteEventSponsors(eventId);
-        eventRepository.deleteEventSpeakers(eventId);
-        eventRepository.deleteEventContacts(eventId);
-        eventRepository.deleteEventRegistrations(eventId);
+        getEventByIdInternal(eventId);
 
-        eventRepository.delete(event);
+        // Set-based deletes rather than loading and cascading every child collection;
+        // large events are hidden now and purged in chunks in the background
+        boolean deleted = eventPurgeService.deleteEvent(eventId);
 
         return MessageResponse.builder()
-                .message("Event successfully deleted")
+                .message(deleted ? "Event successfully deleted"
+                        : "Event deletion scheduled; it will be removed in the background")
                 .build();
     }
 
@@ -109,7 +120,7 @@ public class EventServiceImpl implements EventService {
     @Transactional(readOnly = true)
     @Cacheable(value = "events")
     public Page<EventResponse> getAllEvents(Pageable pageable) {
-        Page<Event> events = eventRepository.findAll(pageable);
+        Page<Event> events = eventRepository.findByDeletionRequestedAtIsNull(pageable);
 
         return events.map(event -> enrichWithPresignedUrls(EventMapper.mapToEventSummary(event)));
     }
@@ -195,7 +206,7 @@ public class EventServiceImpl implements EventService {
     @Transactional(readOnly = true)
     @Cacheable(value = "events", key = "'upcoming'")
     public Page<EventResponse> getUpcomingEvents(Pageable pageable) {
-        return eventRepository.findEventByDateAfter(LocalDate.now(), pageable)
+        return eventRepository.findEventByDateAfterAndDeletionRequestedAtIsNull(LocalDate.now(), pageable)
                 .map(event -> enrichWithPresignedUrls(EventMapper.mapToEventSummary(event)));
     }
 
@@ -203,7 +214,7 @@ public class EventServiceImpl implements EventService {
     @Transactional(readOnly = true)
     @Cacheable(value = "events", key = "'past'")
     public Page<EventResponse> getPastEvents(Pageable pageable) {
-        return eventRepository.findEventByDateBefore(LocalDate.now(), pageable)
+        return eventRepository.findEventByDateBeforeAndDeletionRequestedAtIsNull(LocalDate.now(), pageable)
                 .map(event -> enrichWithPresignedUrls(EventMapper.mapToEventSummary(event)));
     }
 
@@ -232,33 +243,6 @@ public class EventServiceImpl implements EventService {
                 .build();
     }
 
-    @Transactional
-    @CacheEvict(value = "registrations", key = "#eventId")
-    public MessageResponse registerForEvent(Long eventId, EventRegistrationDto registrationDto) {
-        Event event = getEventByIdInternal(eventId);
-
-        if (event.getDate().isBefore(LocalDate.now())) {
-            throw new BusinessException("You can only register for an upcoming event.");
-        }
-
-        log.info("Event Date: {}", event.getDate());
-        if (event.getRegistrations().stream()
-                .anyMatch(registration -> registration.getEmail().equalsIgnoreCase(registrationDto.getEmail()))) {
-            throw new BusinessException("You have already registered for this event.");
-        }
-
-        Registration registration = EventMapper.mapToRegistration(registrationDto);
-        event.getRegistrations().add(registration);
-        eventRepository.save(event);
-
-        // Send confirmation SMS
-        sendRegistrationConfirmationSms(registration, event);
-
-        return MessageResponse.builder()
-                .message("Congratulations! You have successfully registered for the event")
-                .build();
-    }
-
     @Transactional(readOnly = true)
     public Page<EventRegistrationDto> getEventRegistrations(Long eventId, Pageable pageable, String search,
             Boolean checkInStatus, String shirtSize) {
@@ -302,20 +286,22 @@ public class EventServiceImpl implements EventService {
     @Transactional(readOnly = true)
     public void writeRegistrationsToCsv(Long eventId, OutputStream outputStream) throws IOException {
 
-        Event event = getEventByIdInternal(eventId);
-
-        Set<Registration> registrations = event.getRegistrations();
+        getEventByIdInternal(eventId);
 
         outputStream.write("Name,Email,Phone,Notes\n".getBytes());
 
-        for (Registration registration : registrations) {
-            String line = String.format("%s, %s, %s, %s%n",
-                    registration.getName(),
-                    registration.getEmail(),
-                    registration.getPhone(),
-                    registration.getNote());
-            outputStream.write(line.getBytes());
-        }
+        org.springframework.data.domain.PageRequest batch = org.springframework.data.domain.PageRequest.of(0,
+                CSV_EXPORT_BATCH_SIZE);
+        long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = eventRegistrationRepository.findExportRowsAfter(eventId, afterId, batch);
+            for (Object[] row : rows) {
+                String line = String.format("%s, %s, %s, %s%n", row[1], row[2], row[3], row[4]);
+                outputStream.write(line.getBytes());
+                afterId = (Long) row[0];
+            }
+        } while (rows.size() == CSV_EXPORT_BATCH_SIZE);
     }
 
     @Override
@@ -404,53 +390,11 @@ public class EventServiceImpl implements EventService {
 
     private Event getEventByIdInternal(Long eventId) {
         return eventRepository.findById(eventId)
+                // Events being purged in the background are already gone as far as callers go
+                .filter(event -> event.getDeletionRequestedAt() == null)
                 .orElseThrow(() -> new BusinessException("Event not found with id: " + eventId));
     }
 
-    @Async
-    protected void sendRegistrationConfirmationSms(Registration registration, Event event) {
-        try {
-            // Construct the message with placeholders replaced by actual values
-            String message = String.format(
-                    """
-                            Dear %s,
-                            Thank you for registering for %s!
-                            Event Details:
-                            Date: %s
-                            Time: %s
-                            Venue: %s
-                            Your confirmation number is: %s.
-                            We look forward to seeing you there!""",
-                    registration.getName(),
-                    event.getTitle(),
-                    event.getDate(),
-                    event.getTime(),
-                    event.getLocation(),
-                    registration.getEmail());
-
-            // Prepare the SMS request
-            BulkSmsRequest smsRequest = BulkSmsRequest.builder()
-                    .recipients(List.of(registration.getPhone()))
-                    .sender("MerbConnect")
-                    .message(message)
-                    .isScheduled(false)
-                    .scheduleDate("")
-                    .build();
-
-            // Send the SMS synchronously
-            BulkSmsResponse smsResponse = smsService.sendBulkSms(smsRequest);
-
-            // Log the result
-            if (smsResponse.isSuccessful()) {
-                log.info("Registration confirmation SMS sent to {}", registration.getPhone());
-            } else {
-                log.error("Failed to send registration confirmation SMS: {}", smsResponse.getMessage());
-            }
-        } catch (Exception e) {
-            log.error("Failed to send registration confirmation SMS: {}", e.getMessage());
-        }
-    }
-
     // ==================== ADMIN DASHBOARD ENDPOINTS ====================
 
     @Override
@@ -460,10 +404,8 @@ public class EventServiceImpl implements EventService {
         long upcomingEvents = eventRepository.countByDateAfter(LocalDate.now());
         long pastEvents = eventRepository.countByDateBefore(LocalDate.now());
 
-        // Calculate total registrations across all events (V1 + V2)
-        long v1Count = eventRegistrationRepository.countAllV1Registrations();
-        long v2Count = eventRegistrationRepository.count();
-        long totalRegistrations = v1Count + v2Count;
+        // Total registrations across all events (V1 + V2), from the stats rollup
+        long totalRegistrations = eventStatsRepository.sumRegistrations();
 
         // Calculate average registrations per event
         double averageRegistrations = totalEvents > 0 ? (double) totalRegistrations / totalEvents : 0.0;
@@ -497,8 +439,7 @@ public class EventServiceImpl implements EventService {
                 .eventId(event.getId())
                 .eventTitle(event.getTitle())
                 .eventDate(event.getDate())
-                .totalRegistrations((long) ((event.getRegistrations() != null ? event.getRegistrations().size() : 0) +
-                        (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0)))
+                .totalRegistrations(eventStatsService.getStats(eventId).getRegistrations())
                 .speakerCount(event.getSpeakers().size())
                 .eventStatus(eventStatus)
                 .build();
@@ -508,15 +449,14 @@ public class EventServiceImpl implements EventService {
     @Transactional
     @CacheEvict(value = { "events", "registrations" }, key = "#eventId")
     public MessageResponse deleteRegistration(Long eventId, String email) {
-        Event event = getEventByIdInternal(eventId);
+        getEventByIdInternal(eventId);
 
-        Registration registrationToRemove = event.getRegistrations().stream()
-                .filter(reg -> reg.getEmail().equalsIgnoreCase(email))
-                .findFirst()
+        com.merbsconnect.events.model.EventRegistration registrationToRemove = eventRegistrationRepository
+                .findByEventIdAndEmailIgnoreCase(eventId, email)
                 .orElseThrow(() -> new BusinessException("Registration not found with email: " + email));
 
-        event.getRegistrations().remove(registrationToRemove);
-        eventRepository.save(event);
+        eventRegistrationRepository.delete(registrationToRemove);
+        eventStatsService.recordRegistrationRemoved(registrationToRemove);
 
         log.info("Deleted registration with email {} from event ID {}", email, eventId);
 
@@ -530,57 +470,25 @@ public class EventServiceImpl implements EventService {
     public com.merbsconnect.events.dto.response.RegistrationStatsResponse getRegistrationStats(
             LocalDate startDate, LocalDate endDate) {
 
-        List<Event> events;
-
-        // Filter events by date range if provided
-        if (startDate != null && endDate != null) {
-            events = eventRepository.findByDateBetween(startDate, endDate);
-        } else {
-            // Still loading all events for summary, but now with LAZY loading it's much
-            // faster/leaner
-            events = eventRepository.findAll();
-        }
-
-        // Calculate total registrations (V1 + V2)
-        long totalRegistrations = events.stream()
-                .mapToLong(event -> {
-                    long v1 = (event.getRegistrations() != null) ? event.getRegistrations().size() : 0;
-                    long v2 = (event.getRegistrationsV2() != null) ? event.getRegistrationsV2().size() : 0;
-                    return v1 + v2;
-                })
-                .sum();
-
-        // Build registrations by event (V1 + V2)
-        List<com.merbsconnect.events.dto.response.RegistrationStatsResponse.EventRegistrationCount> registrationsByEvent = events
+        // Per-event counts from the stats rollup, filtered by event date if a range is given
+        boolean ranged = startDate != null && endDate != null;
+        List<com.merbsconnect.events.dto.response.RegistrationStatsResponse.EventRegistrationCount> registrationsByEvent = eventStatsRepository
+                .findRegistrationCountsByEvent(ranged ? startDate : null, ranged ? endDate : null)
                 .stream()
-                .map(event -> {
-                    long count = ((event.getRegistrations() != null ? event.getRegistrations().size() : 0) +
-                            (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0));
-                    return com.merbsconnect.events.dto.response.RegistrationStatsResponse.EventRegistrationCount
-                            .builder()
-                            .eventName(event.getTitle())
-                            .count(count)
-                            .build();
-                })
+                .map(row -> com.merbsconnect.events.dto.response.RegistrationStatsResponse.EventRegistrationCount
+                        .builder()
+                        .eventName((String) row[0])
+                        .count(((Number) row[1]).longValue())
+                        .build())
                 .toList();
 
+        long totalRegistrations = registrationsByEvent.stream()
+                .mapToLong(com.merbsconnect.events.dto.response.RegistrationStatsResponse.EventRegistrationCount::getCount)
+                .sum();
+
         // Get top 5 events across all time for comparison
-        List<Long> topEventIds = eventRepository.findTopEventIdsByRegistrationCount(5);
-        List<com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto> topEvents = topEventIds
-                .stream()
-                .map(id -> {
-                    Event event = eventRepository.findById(id).orElse(null);
-                    if (event == null)
-                        return null;
-                    long count = ((event.getRegistrations() != null ? event.getRegistrations().size() : 0) +
-                            (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0));
-                    return com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto.builder()
-                            .eventTitle(event.getTitle())
-                            .registrationCount(count)
-                            .build();
-                })
-                .filter(java.util.Objects::nonNull)
-                .toList();
+        List<com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto> topEvents = getTopEventsByRegistrations(
+                5);
 
         return com.merbsconnect.events.dto.response.RegistrationStatsResponse.builder()
                 .totalRegistrations(totalRegistrations)
@@ -598,7 +506,6 @@ public class EventServiceImpl implements EventService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "dashboard", unless = "#result == null")
     public com.merbsconnect.events.dto.response.DashboardResponse getDashboardData() {
         // Get overall stats with safety check
         com.merbsconnect.events.dto.response.EventStatsResponse stats;
@@ -633,23 +540,7 @@ public class EventServiceImpl implements EventService {
         // Get top 5 events by registrations
         List<com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto> topEvents = new ArrayList<>();
         try {
-            List<Long> topEventIds = eventRepository.findTopEventIdsByRegistrationCount(5);
-            if (topEventIds != null && !topEventIds.isEmpty()) {
-                topEvents = topEventIds.stream()
-                        .map(id -> {
-                            Event event = eventRepository.findById(id).orElse(null);
-                            if (event == null)
-                                return null;
-                            long count = ((event.getRegistrations() != null ? event.getRegistrations().size() : 0) +
-                                    (event.getRegistrationsV2() != null ? event.getRegistrationsV2().size() : 0));
-                            return com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto.builder()
-                                    .eventTitle(event.getTitle())
-                                    .registrationCount(count)
-                                    .build();
-                        })
-                        .filter(java.util.Objects::nonNull)
-                        .toList();
-            }
+            topEvents = getTopEventsByRegistrations(5);
         } catch (Exception e) {
             log.error("Failed to fetch top events for dashboard: {}", e.getMessage());
         }
@@ -665,26 +556,46 @@ public class EventServiceImpl implements EventService {
                 .build();
     }
 
+    /**
+     * Top events by registration count, read from the stats rollup index.
+     */
+    private List<com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto> getTopEventsByRegistrations(
+            int limit) {
+        return eventStatsRepository.findTopEvents(org.springframework.data.domain.PageRequest.of(0, limit))
+                .stream()
+                .map(row -> com.merbsconnect.events.dto.response.RegistrationStatsResponse.TopEventDto.builder()
+                        .eventTitle((String) row[1])
+                        .registrationCount(((Number) row[2]).longValue())
+                        .build())
+                .toList();
+    }
+
     @Override
     @Transactional
     @CacheEvict(value = { "events", "registrations" }, key = "#eventId")
     public MessageResponse deleteMultipleRegistrations(Long eventId, List<String> emails) {
-        Event event = getEventByIdInternal(eventId);
+        getEventByIdInternal(eventId);
 
+        Set<String> lowerCaseEmails = emails.stream()
+                .map(email -> email.toLowerCase(java.util.Locale.ROOT))
+                .collect(java.util.stream.Collectors.toSet());
+
+        // One locking lookup and two set-based deletes, whatever the number of emails
+        List<Object[]> rows = lowerCaseEmails.isEmpty() ? List.of()
+                : eventRegistrationRepository.lockRemovalRowsByLowerEmail(eventId, lowerCaseEmails);
         int deletedCount = 0;
-        for (String email : emails) {
-            Optional<Registration> registration = event.getRegistrations().stream()
-                    .filter(reg -> reg.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
-
-            if (registration.isPresent()) {
-                event.getRegistrations().remove(registration.get());
-                deletedCount++;
-            }
+        if (!rows.isEmpty()) {
+            List<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+            eventRegistrationRepository.deleteMerchandiseOrdersByRegistrationIds(ids);
+            deletedCount = eventRegistrationRepository.deleteAllByIdIn(ids);
+            eventStatsService.recordRegistrationsRemoved(eventId, rows.stream()
+                    .map(row -> new EventStatsService.RemovedRegistration(
+                            Boolean.TRUE.equals(row[1]),
+                            row[2] != null ? com.merbsconnect.enums.CheckInMethod.valueOf((String) row[2]) : null,
+                            Boolean.TRUE.equals(row[3])))
+                    .toList());
         }
 
-        eventRepository.save(event);
-
         log.info("Deleted {} registrations from event ID {}", deletedCount, eventId);
 
         return MessageResponse.builder()
@@ -697,7 +608,44 @@ public class EventServiceImpl implements EventService {
     public String uploadEventImage(Long eventId, MultipartFile image) throws IOException {
         Event event = getEventByIdInternal(eventId);
 
-        // Delete old image if exists
+        // Upload new image
+        String imageUrl = storageService.uploadGalleryItem(eventId, image, MediaType.IMAGE);
+        replaceEventImage(event, imageUrl);
+
+        log.info("Uploaded new event image for event ID {}: {}", eventId, imageUrl);
+
+        return imageUrl;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public com.merbsconnect.storage.PresignedUploadResponse createEventImageUpload(Long eventId,
+            com.merbsconnect.storage.PresignedUploadRequest request) {
+        getEventByIdInternal(eventId);
+        return storageService.createPresignedUpload(eventId, StorageService.EVENT_IMAGE_UPLOAD, request,
+                MediaType.IMAGE);
+    }
+
+    @Override
+    @Transactional
+    public String confirmEventImageUpload(Long eventId, String key) {
+        Event event = getEventByIdInternal(eventId);
+
+        String imageUrl = storageService.verifyUpload(eventId, StorageService.EVENT_IMAGE_UPLOAD, key,
+                MediaType.IMAGE).key();
+        if (!imageUrl.equals(event.getImageUrl())) {
+            replaceEventImage(event, imageUrl);
+        }
+
+        log.info("Recorded directly uploaded event image for event ID {}: {}", eventId, imageUrl);
+
+        return imageUrl;
+    }
+
+    /**
+     * Points the event at a new image and deletes the old object, if any.
+     */
+    private void replaceEventImage(Event event, String imageUrl) {
         if (event.getImageUrl() != null && !event.getImageUrl().isEmpty()) {
             try {
                 String key = storageService.extractKeyFromUrl(event.getImageUrl());
@@ -708,15 +656,8 @@ public class EventServiceImpl implements EventService {
             }
         }
 
-        // Upload new image
-        String imageUrl = storageService.uploadGalleryItem(eventId, image, MediaType.IMAGE);
-
         event.setImageUrl(imageUrl);
         eventRepository.save(event);
-
-        log.info("Uploaded new event image for event ID {}: {}", eventId, imageUrl);
-
-        return imageUrl;
     }
 
     @Override
@@ -780,6 +721,7 @@ public class EventServiceImpl implements EventService {
         }
 
         eventRegistrationRepository.delete(registration);
+        eventStatsService.recordRegistrationRemoved(registration);
         log.info("Deleted registration ID: {} from event ID: {}", registrationId, eventId);
 
         return MessageResponse.builder()
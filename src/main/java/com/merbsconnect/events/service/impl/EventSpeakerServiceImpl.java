@@ -10,6 +10,8 @@ import com.merbsconnect.events.repository.EventRepository;
 import com.merbsconnect.events.repository.EventSpeakerRepository;
 import com.merbsconnect.events.service.EventSpeakerService;
 import com.merbsconnect.exception.BusinessException;
+import com.merbsconnect.storage.PresignedUploadRequest;
+import com.merbsconnect.storage.PresignedUploadResponse;
 import com.merbsconnect.storage.StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -135,7 +137,45 @@ public class EventSpeakerServiceImpl implements EventSpeakerService {
             throws IOException {
         EventSpeaker speaker = getSpeakerOrThrow(eventId, speakerId);
 
-        // Delete old image if exists
+        // Upload new image to S3
+        String imageUrl = storageService.uploadGalleryItem(eventId, image, MediaType.IMAGE);
+
+        EventSpeaker updated = replaceImage(speaker, imageUrl);
+        log.info("Uploaded new image for speaker ID {}: {}", speakerId, imageUrl);
+
+        return mapToResponse(updated);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PresignedUploadResponse createSpeakerImageUpload(Long eventId, Long speakerId,
+            PresignedUploadRequest request) {
+        getSpeakerOrThrow(eventId, speakerId);
+        return storageService.createPresignedUpload(eventId, StorageService.speakerImageUpload(speakerId), request,
+                MediaType.IMAGE);
+    }
+
+    @Override
+    @Transactional
+    public EventSpeakerResponse confirmSpeakerImageUpload(Long eventId, Long speakerId, String key) {
+        EventSpeaker speaker = getSpeakerOrThrow(eventId, speakerId);
+
+        String imageUrl = storageService.verifyUpload(eventId, StorageService.speakerImageUpload(speakerId), key,
+                MediaType.IMAGE).key();
+        if (imageUrl.equals(speaker.getImageUrl())) {
+            return mapToResponse(speaker);
+        }
+
+        EventSpeaker updated = replaceImage(speaker, imageUrl);
+        log.info("Recorded directly uploaded image for speaker ID {}: {}", speakerId, imageUrl);
+
+        return mapToResponse(updated);
+    }
+
+    /**
+     * Points the speaker at a new image and deletes the old object, if any.
+     */
+    private EventSpeaker replaceImage(EventSpeaker speaker, String imageUrl) {
         if (speaker.getImageUrl() != null && !speaker.getImageUrl().isEmpty()) {
             try {
                 String oldKey = storageService.extractKeyFromUrl(speaker.getImageUrl());
@@ -146,14 +186,8 @@ public class EventSpeakerServiceImpl implements EventSpeakerService {
             }
         }
 
-        // Upload new image to S3
-        String imageUrl = storageService.uploadGalleryItem(eventId, image, MediaType.IMAGE);
         speaker.setImageUrl(imageUrl);
-
-        EventSpeaker updated = speakerRepository.save(speaker);
-        log.info("Uploaded new image for speaker ID {}: {}", speakerId, imageUrl);
-
-        return mapToResponse(updated);
+        return speakerRepository.save(speaker);
     }
 
     @Override
@@ -0,0 +1,156 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.enums.CheckInMethod;
+import com.merbsconnect.events.model.EventRegistration;
+import com.merbsconnect.events.model.EventStats;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.EventStatsRepository;
+import com.merbsconnect.events.service.EventStatsService;
+import com.merbsconnect.util.DashboardDataChangedEvent;
+import com.merbsconnect.util.SeatsReleasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventStatsServiceImpl implements EventStatsService {
+
+    private final EventStatsRepository statsRepository;
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistrations(Long eventId, long count) {
+        if (count != 0) {
+            statsRepository.applyDelta(eventId, count, 0, 0, 0, 0, 0, 0);
+            changed("registrations");
+            if (count < 0) {
+                eventPublisher.publishEvent(new SeatsReleasedEvent(eventId));
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistration(EventRegistration registration) {
+        statsRepository.applyDelta(registration.getEvent().getId(), 1, 0, 0, 0, 0,
+                registration.isNeedsShirt() ? 1 : 0, 0);
+        changed("registration");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistrationRemoved(EventRegistration registration) {
+        recordRegistrationsRemoved(registration.getEvent().getId(), List.of(new RemovedRegistration(
+                registration.isCheckedIn(), registration.getCheckInMethod(), registration.isNeedsShirt())));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistrationsRemoved(Long eventId, Collection<RemovedRegistration> removed) {
+        if (removed.isEmpty()) {
+            return;
+        }
+        long checkIns = 0, qrScan = 0, manual = 0, bulk = 0, shirts = 0;
+        for (RemovedRegistration registration : removed) {
+            if (registration.checkedIn()) {
+                checkIns++;
+                CheckInMethod method = registration.checkInMethod();
+                qrScan += method == CheckInMethod.QR_SCAN ? 1 : 0;
+                manual += method == CheckInMethod.MANUAL ? 1 : 0;
+                bulk += method == CheckInMethod.BULK ? 1 : 0;
+            }
+            shirts += registration.needsShirt() ? 1 : 0;
+        }
+        statsRepository.applyDelta(eventId, -removed.size(), -checkIns, -qrScan, -manual, -bulk, -shirts, 0);
+        changed("registration-removed");
+        eventPublisher.publishEvent(new SeatsReleasedEvent(eventId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCheckIn(Long eventId, CheckInMethod method) {
+        statsRepository.applyDelta(eventId, 0, 1,
+                method == CheckInMethod.QR_SCAN ? 1 : 0,
+                method == CheckInMethod.MANUAL ? 1 : 0,
+                method == CheckInMethod.BULK ? 1 : 0,
+                0, 0);
+        changed("check-in");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryClaimSeat(Long eventId, int capacity) {
+        statsRepository.ensureRow(eventId);
+        return statsRepository.claimSeat(eventId, capacity) == 1;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReview(Long eventId, int delta) {
+        statsRepository.applyDelta(eventId, 0, 0, 0, 0, 0, 0, delta);
+        changed("review");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventStats getStats(Long eventId) {
+        return statsRepository.findById(eventId)
+                .orElseGet(() -> EventStats.builder().eventId(eventId).build());
+    }
+
+    @Override
+    @Transactional
+    public void deleteStats(Long eventId) {
+        statsRepository.deleteById(eventId);
+        changed("event-deleted");
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long eventId) {
+        recount(eventId);
+    }
+
+    @Override
+    public int rebuildAll() {
+        int rebuilt = 0;
+        for (Long eventId : eventRepository.findAllIds()) {
+            try {
+                // One short transaction per event keeps row locks brief
+                transactionTemplate.executeWithoutResult(status -> recount(eventId));
+                rebuilt++;
+            } catch (Exception e) {
+                log.error("Failed to rebuild stats for event {}: {}", eventId, e.getMessage());
+            }
+        }
+        int orphans = statsRepository.deleteOrphans();
+        log.info("Rebuilt event stats for {} events, removed {} orphaned rows", rebuilt, orphans);
+        changed("stats-rebuild");
+        return rebuilt;
+    }
+
+    private void recount(Long eventId) {
+        statsRepository.ensureRow(eventId);
+        // Lock first so the recount below runs on a fresh snapshot taken after any
+        // in-flight writer for this event has committed its counter update
+        statsRepository.lockRow(eventId);
+        statsRepository.recompute(eventId);
+    }
+
+    private void changed(String source) {
+        // Delivered after commit; many writes in a burst collapse into one snapshot rebuild
+        eventPublisher.publishEvent(new DashboardDataChangedEvent(source));
+    }
+}
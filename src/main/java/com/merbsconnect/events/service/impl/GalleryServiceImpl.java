@@ -8,7 +8,11 @@ import com.merbsconnect.events.model.GalleryItem;
 import com.merbsconnect.events.repository.EventRepository;
 import com.merbsconnect.events.repository.GalleryItemRepository;
 import com.merbsconnect.events.service.GalleryService;
+import com.merbsconnect.events.service.ImageDerivativeService;
 import com.merbsconnect.exception.ResourceNotFoundException;
+import com.merbsconnect.storage.ConfirmUploadRequest;
+import com.merbsconnect.storage.PresignedUploadRequest;
+import com.merbsconnect.storage.PresignedUploadResponse;
 import com.merbsconnect.storage.StorageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +21,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Implementation of GalleryService for managing event galleries with Railway
@@ -32,6 +47,7 @@ public class GalleryServiceImpl implements GalleryService {
         private final GalleryItemRepository galleryItemRepository;
         private final EventRepository eventRepository;
         private final StorageService storageService;
+        private final ImageDerivativeService imageDerivativeService;
 
         @Override
         @Transactional
@@ -44,8 +60,8 @@ public class GalleryServiceImpl implements GalleryService {
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Event not found with id: " + eventId));
 
-                // Upload to Railway bucket
-                String mediaUrl = storageService.uploadGalleryItem(eventId, file, mediaType);
+                // Upload as received; resized copies are made in the background
+                String mediaUrl = storageService.uploadOriginal(eventId, file, mediaType);
 
                 GalleryItem item = GalleryItem.builder()
                                 .event(event)
@@ -58,6 +74,53 @@ public class GalleryServiceImpl implements GalleryService {
 
                 GalleryItem savedItem = galleryItemRepository.save(item);
                 log.info("Gallery item created with id: {}", savedItem.getId());
+                if (mediaType == MediaType.IMAGE) {
+                        imageDerivativeService.schedule(savedItem.getId());
+                }
+
+                return mapToResponse(savedItem);
+        }
+
+        @Override
+        @Transactional(readOnly = true)
+        public PresignedUploadResponse createUpload(Long eventId, PresignedUploadRequest request) {
+                if (!eventRepository.existsById(eventId)) {
+                        throw new ResourceNotFoundException("Event not found with id: " + eventId);
+                }
+                return storageService.createPresignedUpload(eventId, StorageService.GALLERY_UPLOAD, request, null);
+        }
+
+        @Override
+        @Transactional
+        @org.springframework.cache.annotation.CacheEvict(value = "eventGallery", key = "#eventId")
+        public GalleryItemResponse confirmUpload(Long eventId, ConfirmUploadRequest request) {
+                Event event = eventRepository.findById(eventId)
+                                .orElseThrow(() -> new ResourceNotFoundException(
+                                                "Event not found with id: " + eventId));
+
+                if (galleryItemRepository.existsByMediaUrl(request.getKey())) {
+                        throw new IllegalArgumentException("Upload already recorded: " + request.getKey());
+                }
+                StorageService.UploadedObject object = storageService.verifyUpload(eventId,
+                                StorageService.GALLERY_UPLOAD, request.getKey(), null);
+                String fileName = request.getFileName() != null
+                                ? request.getFileName()
+                                : object.key().substring(object.key().lastIndexOf('/') + 1);
+
+                GalleryItem item = GalleryItem.builder()
+                                .event(event)
+                                .mediaUrl(object.key())
+                                .caption(request.getCaption())
+                                .type(object.mediaType())
+                                .fileName(fileName)
+                                .fileSize(object.size())
+                                .build();
+
+                GalleryItem savedItem = galleryItemRepository.save(item);
+                log.info("Gallery item {} recorded for direct upload {}", savedItem.getId(), object.key());
+                if (object.mediaType() == MediaType.IMAGE) {
+                        imageDerivativeService.schedule(savedItem.getId());
+                }
 
                 return mapToResponse(savedItem);
         }
@@ -88,6 +151,75 @@ public class GalleryServiceImpl implements GalleryService {
                                 .build();
         }
 
+        @Override
+        public void writeArchive(Long eventId, MediaType mediaType, OutputStream out) throws IOException {
+                if (!eventRepository.existsById(eventId)) {
+                        throw new ResourceNotFoundException("Event not found with id: " + eventId);
+                }
+
+                // Read up front: no transaction or connection is held while streaming
+                List<GalleryItem> items = new ArrayList<>(mediaType == null
+                                ? galleryItemRepository.findByEventId(eventId)
+                                : galleryItemRepository.findByEventIdAndType(eventId, mediaType));
+                items.sort(Comparator.comparing(GalleryItem::getId));
+                log.info("Streaming gallery archive for event {} ({} items)", eventId, items.size());
+
+                ZipOutputStream zip = new ZipOutputStream(out);
+                // Photos and videos are already compressed; deflating them again only costs CPU
+                zip.setLevel(Deflater.NO_COMPRESSION);
+                Set<String> names = new HashSet<>();
+                int written = 0;
+                for (GalleryItem item : items) {
+                        String key = storageService.extractKeyFromUrl(item.getMediaUrl());
+                        InputStream in;
+                        try {
+                                in = storageService.openObject(key);
+                        } catch (RuntimeException e) {
+                                log.warn("Leaving gallery item {} out of the archive: {}", item.getId(), e.getMessage());
+                                continue;
+                        }
+                        try (in) {
+                                ZipEntry entry = new ZipEntry(archiveEntryName(item, key, names));
+                                if (item.getCreatedAt() != null) {
+                                        entry.setTimeLocal(item.getCreatedAt());
+                                }
+                                zip.putNextEntry(entry);
+                                in.transferTo(zip);
+                                zip.closeEntry();
+                        }
+                        // Push each finished entry to the client rather than waiting for the buffer
+                        zip.flush();
+                        written++;
+                }
+                // Writes the central directory; the response stream is left for the container to close
+                zip.finish();
+                zip.flush();
+                log.info("Gallery archive for event {} sent with {} of {} items", eventId, written, items.size());
+        }
+
+        /**
+         * The item's original file name, stripped of any path, made unique within
+         * the archive by numbering repeats.
+         */
+        static String archiveEntryName(GalleryItem item, String key, Set<String> used) {
+                String name = item.getFileName() != null && !item.getFileName().isBlank()
+                                ? item.getFileName()
+                                : key.substring(key.lastIndexOf('/') + 1);
+                name = name.substring(Math.max(name.lastIndexOf('/'), name.lastIndexOf('\\')) + 1);
+                if (name.isBlank()) {
+                        name = "item_" + item.getId();
+                }
+
+                int dot = name.lastIndexOf('.');
+                String base = dot > 0 ? name.substring(0, dot) : name;
+                String extension = dot > 0 ? name.substring(dot) : "";
+                String candidate = name;
+                for (int n = 2; !used.add(candidate.toLowerCase()); n++) {
+                        candidate = base + " (" + n + ")" + extension;
+                }
+                return candidate;
+        }
+
         @Override
         @Transactional
         public void deleteGalleryItem(Long itemId) {
@@ -97,14 +229,14 @@ public class GalleryServiceImpl implements GalleryService {
                                 .orElseThrow(() -> new ResourceNotFoundException(
                                                 "Gallery item not found with id: " + itemId));
 
-                // Delete from storage bucket
-                try {
-                        String key = storageService.extractKeyFromUrl(item.getMediaUrl());
-                        storageService.deleteFile(key);
-                } catch (Exception e) {
-                        log.warn("Failed to delete file from storage: {}", item.getMediaUrl(), e);
-                        // Continue with database deletion even if storage deletion fails
-                }
+                // Delete from storage bucket, with any resized copies
+                List<String> keys = new ArrayList<>();
+                keys.add(storageService.extractKeyFromUrl(item.getMediaUrl()));
+                Stream.of(item.getThumbnailKey(), item.getMediumKey(), item.getFullKey())
+                                .filter(Objects::nonNull)
+                                .forEach(keys::add);
+                // One batched request; keys that fail are left to the orphan media reconciler
+                storageService.deleteFiles(keys);
 
                 galleryItemRepository.delete(item);
                 log.info("Gallery item {} deleted successfully", itemId);
@@ -141,6 +273,9 @@ public class GalleryServiceImpl implements GalleryService {
                                 .type(item.getType())
                                 .fileName(item.getFileName())
                                 .fileSize(item.getFileSize())
+                                .thumbnailUrl(storageService.generatePresignedUrl(item.getThumbnailKey()))
+                                .mediumUrl(storageService.generatePresignedUrl(item.getMediumKey()))
+                                .fullUrl(storageService.generatePresignedUrl(item.getFullKey()))
                                 .createdAt(item.getCreatedAt())
                                 .build();
         }
@@ -0,0 +1,266 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.config.AsyncConfig;
+import com.merbsconnect.enums.MediaType;
+import com.merbsconnect.events.model.GalleryItem;
+import com.merbsconnect.events.repository.GalleryItemRepository;
+import com.merbsconnect.events.service.ImageDerivativeService;
+import com.merbsconnect.storage.DecodeBudgetExhaustedException;
+import com.merbsconnect.storage.ImageDecoder;
+import com.merbsconnect.storage.StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    /**
+     * One resized copy: longest side capped at {@code maxDimension}, encoded as a
+     * progressive JPEG so browsers can paint a preview before it finishes.
+     */
+    record Derivative(String name, int maxDimension, float quality) {
+    }
+
+    static final List<Derivative> DERIVATIVES = List.of(
+            new Derivative("thumb", 320, 0.75f),
+            new Derivative("medium", 1024, 0.8f),
+            new Derivative("full", 2048, 0.82f));
+
+    private static final int LARGEST_DERIVATIVE = 2048;
+
+    // Items younger than this are still being scheduled by their upload
+    private static final Duration SWEEP_GRACE = Duration.ofMinutes(5);
+
+    // Failures that look transient are retried this many times before the item is given up on
+    static final int MAX_ATTEMPTS = 3;
+
+    private final GalleryItemRepository galleryItemRepository;
+    private final StorageService storageService;
+    private final ImageDecoder imageDecoder;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final TaskExecutor executor;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeServiceImpl(GalleryItemRepository galleryItemRepository,
+                                      StorageService storageService,
+                                      ImageDecoder imageDecoder,
+                                      TransactionTemplate transactionTemplate,
+                                      CacheManager cacheManager,
+                                      @Qualifier(AsyncConfig.IMAGE_EXECUTOR) TaskExecutor executor) {
+        this.galleryItemRepository = galleryItemRepository;
+        this.storageService = storageService;
+        this.imageDecoder = imageDecoder;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.executor = executor;
+    }
+
+    @Override
+    public void schedule(Long galleryItemId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(galleryItemId);
+                }
+            });
+        } else {
+            submit(galleryItemId);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.image-derivatives.sweep-interval:PT10M}",
+            initialDelayString = "${app.image-derivatives.sweep-interval:PT10M}")
+    public void sweepPending() {
+        List<GalleryItem> pending = galleryItemRepository
+                .findTop20ByTypeAndDerivativesProcessedAtIsNullAndCreatedAtBeforeOrderByDerivativeAttemptsAscIdAsc(
+                        MediaType.IMAGE, LocalDateTime.now().minus(SWEEP_GRACE));
+        for (GalleryItem item : pending) {
+            submit(item.getId());
+        }
+    }
+
+    private void submit(Long galleryItemId) {
+        if (!inFlight.add(galleryItemId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    process(galleryItemId);
+                } finally {
+                    inFlight.remove(galleryItemId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(galleryItemId);
+            log.warn("Image executor busy; derivatives for gallery item {} will be made by the sweep",
+                    galleryItemId);
+        }
+    }
+
+    private void process(Long galleryItemId) {
+        GalleryItem item = galleryItemRepository.findById(galleryItemId).orElse(null);
+        if (item == null || item.getType() != MediaType.IMAGE || item.getDerivativesProcessedAt() != null) {
+            return;
+        }
+        String key = storageService.extractKeyFromUrl(item.getMediaUrl());
+
+        // Re-encoding would drop the animation
+        if (key.toLowerCase().endsWith(".gif")) {
+            record(galleryItemId, null, null, null);
+            return;
+        }
+
+        try {
+            // Encoded while the decode budget is held, uploaded after it is released
+            List<byte[]> encoded;
+            try (InputStream in = storageService.openObject(key)) {
+                encoded = imageDecoder.decode(in, LARGEST_DERIVATIVE, source -> {
+                    List<byte[]> results = new ArrayList<>(DERIVATIVES.size());
+                    for (Derivative derivative : DERIVATIVES) {
+                        results.add(encode(source, derivative));
+                    }
+                    return results;
+                });
+            }
+            if (encoded == null) {
+                log.warn("No decoder for gallery item {} ({}); serving the original only", galleryItemId, key);
+                record(galleryItemId, null, null, null);
+                return;
+            }
+
+            String[] keys = new String[DERIVATIVES.size()];
+            for (int i = 0; i < DERIVATIVES.size(); i++) {
+                keys[i] = StorageService.derivedKey(key, DERIVATIVES.get(i).name(), "jpg");
+                storageService.putObject(keys[i], encoded.get(i), "image/jpeg");
+            }
+            record(galleryItemId, keys[0], keys[1], keys[2]);
+            log.info("Generated {} derivatives for gallery item {}", keys.length, galleryItemId);
+        } catch (DecodeBudgetExhaustedException e) {
+            // Only the server was busy; not the item's fault, so it does not use up an attempt
+            log.warn("Gallery item {} left for the sweep: {}", galleryItemId, e.getMessage());
+        } catch (IIOException | IllegalArgumentException | NoSuchKeyException e) {
+            // Corrupt, more pixels than may be decoded, or the original is gone; retrying will not help
+            log.warn("Gallery item {} cannot be resized: {}", galleryItemId, e.getMessage());
+            record(galleryItemId, null, null, null);
+        } catch (IOException | RuntimeException e) {
+            recordFailure(galleryItemId, e);
+        }
+    }
+
+    private void recordFailure(Long galleryItemId, Exception e) {
+        Integer attempts = transactionTemplate.execute(status -> galleryItemRepository.findById(galleryItemId)
+                .map(item -> {
+                    item.setDerivativeAttempts(item.getDerivativeAttempts() + 1);
+                    return galleryItemRepository.save(item).getDerivativeAttempts();
+                })
+                .orElse(null));
+        if (attempts != null && attempts >= MAX_ATTEMPTS) {
+            log.error("Derivatives for gallery item {} failed {} times; serving the original only: {}",
+                    galleryItemId, attempts, e.getMessage(), e);
+            record(galleryItemId, null, null, null);
+        } else {
+            log.error("Derivatives for gallery item {} failed; the sweep will retry: {}", galleryItemId,
+                    e.getMessage(), e);
+        }
+    }
+
+    private void record(Long galleryItemId, String thumbnailKey, String mediumKey, String fullKey) {
+        Long eventId = transactionTemplate.execute(status -> galleryItemRepository.findById(galleryItemId)
+                .map(item -> {
+                    item.setThumbnailKey(thumbnailKey);
+                    item.setMediumKey(mediumKey);
+                    item.setFullKey(fullKey);
+                    item.setDerivativesProcessedAt(LocalDateTime.now());
+                    return galleryItemRepository.save(item).getEvent().getId();
+                })
+                .orElse(null));
+        Cache gallery = cacheManager.getCache("eventGallery");
+        if (eventId != null && gallery != null) {
+            gallery.evict(eventId);
+        }
+    }
+
+    static byte[] encode(BufferedImage source, Derivative derivative) throws IOException {
+        BufferedImage scaled = scale(source, derivative.maxDimension());
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(os)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(derivative.quality());
+            writer.write(null, new IIOImage(scaled, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return os.toByteArray();
+    }
+
+    /**
+     * Downscales so the longest side fits {@code maxDimension}, never upscaling.
+     * Large reductions are done in halving steps, which keeps bilinear sampling
+     * from aliasing, and the result is flattened onto white since JPEG has no
+     * alpha channel.
+     */
+    static BufferedImage scale(BufferedImage source, int maxDimension) {
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = step.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = step;
+        } while (width > targetWidth || height > targetHeight);
+        return current;
+    }
+}
@@ -0,0 +1,162 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.service.OrphanMediaService;
+import com.merbsconnect.storage.StorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class OrphanMediaServiceImpl implements OrphanMediaService {
+
+    private static final String EVENTS_PREFIX = "events/";
+
+    // Only uploads and their derivatives live here; anything else under an event is left alone
+    private static final String GALLERY_FOLDER = "/gallery/";
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final StorageService storageService;
+    private final EventRepository eventRepository;
+    private final Duration gracePeriod;
+    private final boolean dryRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrphanMediaServiceImpl(StorageService storageService,
+                                  EventRepository eventRepository,
+                                  @Value("${app.media-gc.grace-period:P1D}") Duration gracePeriod,
+                                  @Value("${app.media-gc.dry-run:false}") boolean dryRun) {
+        this.storageService = storageService;
+        this.eventRepository = eventRepository;
+        this.gracePeriod = gracePeriod;
+        this.dryRun = dryRun;
+    }
+
+    /**
+     * Keys are listed in lexicographic order, so each event's objects arrive
+     * together and its references are loaded once. Objects younger than the
+     * grace period are never touched: presigned uploads awaiting confirmation
+     * and derivatives being recorded have no row yet. Events being purged are
+     * skipped, since the purge deletes their folder itself. Only objects under
+     * an event's gallery folder are considered.
+     */
+    @Override
+    @Scheduled(cron = "${app.media-gc.cron:0 15 4 * * ?}")
+    public int reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Orphan media reconciliation already running; skipping");
+            return 0;
+        }
+        try {
+            Instant cutoff = Instant.now().minus(gracePeriod);
+            Set<Long> pendingDeletion = new HashSet<>(eventRepository.findIdsPendingDeletion());
+
+            long scanned = 0;
+            int orphaned = 0;
+            int failed = 0;
+            Long currentEventId = null;
+            Set<String> referenced = Set.of();
+            List<String> orphans = new ArrayList<>();
+
+            for (S3Object object : storageService.listObjects(EVENTS_PREFIX)) {
+                scanned++;
+                Long eventId = eventIdOf(object.key());
+                if (eventId == null || !object.key().startsWith(EVENTS_PREFIX + eventId + GALLERY_FOLDER)
+                        || pendingDeletion.contains(eventId)
+                        || object.lastModified().isAfter(cutoff)) {
+                    continue;
+                }
+                if (!eventId.equals(currentEventId)) {
+                    currentEventId = eventId;
+                    referenced = referencedKeys(eventId);
+                }
+                if (referenced.contains(object.key())) {
+                    continue;
+                }
+
+                orphaned++;
+                orphans.add(object.key());
+                if (orphans.size() == DELETE_BATCH_SIZE) {
+                    failed += delete(orphans);
+                    orphans.clear();
+                }
+            }
+            if (!orphans.isEmpty()) {
+                failed += delete(orphans);
+            }
+
+            log.info("Orphan media reconciliation scanned {} objects: {} orphaned, {} not deleted{}",
+                    scanned, orphaned, failed, dryRun ? " (dry run)" : "");
+            return orphaned;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int delete(List<String> keys) {
+        if (dryRun) {
+            keys.forEach(key -> log.info("Orphaned object (dry run, kept): {}", key));
+            return 0;
+        }
+        return storageService.deleteFiles(keys).size();
+    }
+
+    /**
+     * Keys the event's rows point at. An event that no longer exists has none,
+     * so everything under its folder is orphaned. Stored URLs may carry a
+     * query string or fragment (cache busters, signed parameters), which is
+     * not part of the key.
+     */
+    private Set<String> referencedKeys(Long eventId) {
+        return eventRepository.findMediaReferences(eventId).stream()
+                .filter(Objects::nonNull)
+                .map(storageService::extractKeyFromUrl)
+                .filter(Objects::nonNull)
+                .map(OrphanMediaServiceImpl::stripQuery)
+                .collect(Collectors.toSet());
+    }
+
+    static String stripQuery(String key) {
+        int end = key.length();
+        int query = key.indexOf('?');
+        int fragment = key.indexOf('#');
+        if (query >= 0) {
+            end = query;
+        }
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        return key.substring(0, end);
+    }
+
+    /**
+     * The event ID in a key of the form {@code events/{id}/...}, or null for
+     * keys this application did not write.
+     */
+    static Long eventIdOf(String key) {
+        int end = key.indexOf('/', EVENTS_PREFIX.length());
+        if (!key.startsWith(EVENTS_PREFIX) || end <= EVENTS_PREFIX.length()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key.substring(EVENTS_PREFIX.length(), end));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,441 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.config.AsyncConfig;
+import com.merbsconnect.email.service.EmailService;
+import com.merbsconnect.enums.AcademicLevel;
+import com.merbsconnect.enums.ReferralSource;
+import com.merbsconnect.enums.University;
+import com.merbsconnect.events.dto.response.RegistrationImportResponse;
+import com.merbsconnect.events.model.Event;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.service.EventStatsService;
+import com.merbsconnect.events.service.RegistrationImportService;
+import com.merbsconnect.exception.BusinessException;
+import com.merbsconnect.exception.ResourceNotFoundException;
+import com.merbsconnect.util.CsvReader;
+import com.merbsconnect.util.QrCodeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+public class RegistrationImportServiceImpl implements RegistrationImportService {
+
+    // Same shape as insertIfAbsent; QR codes are left empty and filled in lazily
+    private static final String INSERT_SQL = "INSERT INTO event_registrations_v2 (event_id, email, name, phone, "
+            + "note, registration_token, qr_code_base64, checked_in, needs_shirt, shirt_size, program, "
+            + "academic_level, university, referral_source, referral_source_other, registered_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, NULL, FALSE, FALSE, NULL, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final int MAX_FIELD_LENGTH = 255;
+    private static final int MAX_RAW_FIELD_LENGTH = 4096;
+
+    // Normalised header name -> column; normalising drops case, spaces and punctuation
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("name", "name"),
+            Map.entry("fullname", "name"),
+            Map.entry("email", "email"),
+            Map.entry("emailaddress", "email"),
+            Map.entry("phone", "phone"),
+            Map.entry("phonenumber", "phone"),
+            Map.entry("note", "note"),
+            Map.entry("notes", "note"),
+            Map.entry("program", "program"),
+            Map.entry("academiclevel", "academic_level"),
+            Map.entry("university", "university"),
+            Map.entry("referralsource", "referral_source"),
+            Map.entry("referralsourceother", "referral_source_other"));
+
+    private final EventRepository eventRepository;
+    private final EventRegistrationRepository registrationRepository;
+    private final EventStatsService eventStatsService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final QrCodeService qrCodeService;
+    private final EmailService emailService;
+    private final TaskExecutor executor;
+
+    @Value("${app.registration-import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.registration-import.max-rows:20000}")
+    private int maxRows;
+
+    @Value("${app.registration-import.max-errors:500}")
+    private int maxErrors;
+
+    @Value("${app.registration-import.confirmation-chunk-size:100}")
+    private int confirmationChunkSize;
+
+    // Chunks waiting for an export slot; at most one is on the executor at a time
+    private final Deque<ConfirmationChunk> pendingConfirmations = new ConcurrentLinkedDeque<>();
+    private final AtomicBoolean confirmationChunkInFlight = new AtomicBoolean();
+
+    public RegistrationImportServiceImpl(EventRepository eventRepository,
+                                         EventRegistrationRepository registrationRepository,
+                                         EventStatsService eventStatsService,
+                                         JdbcTemplate jdbcTemplate,
+                                         TransactionTemplate transactionTemplate,
+                                         QrCodeService qrCodeService,
+                                         EmailService emailService,
+                                         @Qualifier(AsyncConfig.EXPORT_EXECUTOR) TaskExecutor executor) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.eventStatsService = eventStatsService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.qrCodeService = qrCodeService;
+        this.emailService = emailService;
+        this.executor = executor;
+    }
+
+    @Override
+    @CacheEvict(value = "registrations", key = "#eventId")
+    public RegistrationImportResponse importRegistrations(Long eventId, InputStream csv, boolean notify) {
+        Event event = eventRepository.findById(eventId)
+                .filter(found -> found.getDeletionRequestedAt() == null)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+
+        Report report = new Report(notify);
+        // Lower-cased emails seen so far, so a repeated row counts as a duplicate
+        Set<String> seenEmails = new HashSet<>();
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+
+        try (CsvReader reader = new CsvReader(new BufferedReader(
+                new InputStreamReader(csv, StandardCharsets.UTF_8)), MAX_RAW_FIELD_LENGTH)) {
+            Map<String, Integer> columns = readHeader(reader.next());
+
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                if (isBlank(record)) {
+                    continue;
+                }
+                if (report.totalRows >= maxRows) {
+                    report.error(0, null, "Import stopped after " + maxRows + " rows; split the file to import the rest");
+                    break;
+                }
+                report.totalRows++;
+                ImportRow row;
+                try {
+                    row = parseRow(reader.getRecordLine(), record, columns);
+                } catch (IllegalArgumentException e) {
+                    report.error(reader.getRecordLine(), field(record, columns, "email"), e.getMessage());
+                    continue;
+                }
+                if (!seenEmails.add(row.lowerEmail())) {
+                    report.duplicates++;
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    flush(eventId, batch, report);
+                    batch.clear();
+                }
+            }
+            flush(eventId, batch, report);
+            batch.clear();
+        } catch (IOException e) {
+            // Rows flushed before the malformed record stay imported
+            flush(eventId, batch, report);
+            report.error(0, null, "Import stopped: " + e.getMessage());
+        }
+
+        log.info("Imported {} of {} CSV rows for event {} ({} duplicates, {} failed)",
+                report.imported, report.totalRows, eventId, report.duplicates, report.failed);
+
+        boolean queued = notify && !report.notifications.isEmpty()
+                && queueConfirmations(event, report.notifications);
+        return report.toResponse(eventId, queued);
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new BusinessException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = HEADER_ALIASES.get(header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", ""));
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        if (!columns.containsKey("name") || !columns.containsKey("email")) {
+            throw new BusinessException("CSV header must include 'name' and 'email' columns");
+        }
+        return columns;
+    }
+
+    private ImportRow parseRow(long line, List<String> record, Map<String, Integer> columns) {
+        String email = required(record, columns, "email");
+        if (!EMAIL.matcher(email).matches()) {
+            throw new IllegalArgumentException("Invalid email address");
+        }
+        String name = required(record, columns, "name");
+        return new ImportRow(line,
+                email,
+                email.toLowerCase(Locale.ROOT),
+                name,
+                optional(record, columns, "phone"),
+                optional(record, columns, "note"),
+                optional(record, columns, "program"),
+                parseEnum(AcademicLevel.class, optional(record, columns, "academic_level"), "academic level"),
+                parseEnum(University.class, optional(record, columns, "university"), "university"),
+                parseEnum(ReferralSource.class, optional(record, columns, "referral_source"), "referral source"),
+                optional(record, columns, "referral_source_other"));
+    }
+
+    /**
+     * Inserts one batch in its own transaction: a single lookup drops emails that
+     * are already registered, the rest go in as one JDBC batch, and the stats
+     * counter moves by the number of rows that actually landed.
+     */
+    private void flush(Long eventId, List<ImportRow> batch, Report report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<String> lowerEmails = batch.stream().map(ImportRow::lowerEmail).toList();
+        BatchResult result;
+        try {
+            result = transactionTemplate.execute(status -> insertBatch(eventId, batch, lowerEmails, report.notify));
+        } catch (RuntimeException e) {
+            log.warn("Import batch for event {} failed: {}", eventId, e.getMessage());
+            for (ImportRow row : batch) {
+                report.error(row.line(), row.email(), "Could not be saved: " + e.getMessage());
+            }
+            return;
+        }
+        report.imported += result.inserted();
+        report.duplicates += result.duplicates();
+        report.notifications.addAll(result.notifications());
+    }
+
+    private BatchResult insertBatch(Long eventId, List<ImportRow> batch, List<String> lowerEmails, boolean notify) {
+        Set<String> existing = new HashSet<>(registrationRepository.findExistingLowerEmails(eventId, lowerEmails));
+        List<ImportRow> fresh = batch.stream().filter(row -> !existing.contains(row.lowerEmail())).toList();
+        long duplicates = batch.size() - fresh.size();
+        List<Notification> notifications = new ArrayList<>();
+        if (fresh.isEmpty()) {
+            return new BatchResult(0, duplicates, notifications);
+        }
+
+        Timestamp registeredAt = Timestamp.valueOf(LocalDateTime.now());
+        List<String> tokens = new ArrayList<>(fresh.size());
+        List<Object[]> args = new ArrayList<>(fresh.size());
+        for (ImportRow row : fresh) {
+            String token = UUID.randomUUID().toString();
+            tokens.add(token);
+            args.add(new Object[] { eventId, row.email(), row.name(), row.phone(), row.note(), token,
+                    row.program(), enumName(row.academicLevel()), enumName(row.university()),
+                    enumName(row.referralSource()), row.referralSourceOther(), registeredAt });
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, args);
+
+        long inserted = 0;
+        for (int i = 0; i < fresh.size(); i++) {
+            // 0 means a concurrent signup won the unique index; drivers that rewrite
+            // batches report SUCCESS_NO_INFO, which is counted as inserted
+            if (counts[i] == 0) {
+                duplicates++;
+                continue;
+            }
+            inserted++;
+            if (notify) {
+                ImportRow row = fresh.get(i);
+                notifications.add(new Notification(row.email(), row.name(), tokens.get(i)));
+            }
+        }
+        eventStatsService.recordRegistrations(eventId, inserted);
+        return new BatchResult(inserted, duplicates, notifications);
+    }
+
+    /**
+     * Splits the confirmations for imported rows into chunks and hands them to the
+     * export executor one at a time, filling in each registration's QR code on the way.
+     * Each chunk goes to the back of the export queue, so a large import never holds a
+     * slot for longer than one chunk; chunks the executor rejects wait for the sweep.
+     */
+    private boolean queueConfirmations(Event event, List<Notification> notifications) {
+        int chunkSize = Math.max(1, confirmationChunkSize);
+        for (int from = 0; from < notifications.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, notifications.size());
+            pendingConfirmations.add(new ConfirmationChunk(event.getId(), event.getTitle(), event.getDate(),
+                    event.getTime(), event.getLocation(), List.copyOf(notifications.subList(from, to))));
+        }
+        submitNextConfirmationChunk();
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.registration-import.confirmation-sweep-interval:PT30S}")
+    public void submitNextConfirmationChunk() {
+        if (!confirmationChunkInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        ConfirmationChunk chunk = pendingConfirmations.poll();
+        if (chunk == null) {
+            confirmationChunkInFlight.set(false);
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    sendConfirmations(chunk);
+                } finally {
+                    confirmationChunkInFlight.set(false);
+                    submitNextConfirmationChunk();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingConfirmations.addFirst(chunk);
+            confirmationChunkInFlight.set(false);
+            log.debug("Export executor busy; {} import confirmation chunks left for the next sweep",
+                    pendingConfirmations.size());
+        }
+    }
+
+    private void sendConfirmations(ConfirmationChunk chunk) {
+        for (Notification notification : chunk.notifications()) {
+            try {
+                String qrCode = qrCodeService.generateTokenQrCode(notification.token());
+                transactionTemplate.executeWithoutResult(status ->
+                        registrationRepository.setQrCodeIfMissing(notification.token(), qrCode));
+                emailService.sendRegistrationConfirmationEmail(notification.email(), notification.name(),
+                        chunk.title(), chunk.date(), chunk.time(), chunk.location(), qrCode, notification.token());
+            } catch (Exception e) {
+                log.warn("Failed to send import confirmation to {}: {}", notification.email(), e.getMessage());
+            }
+        }
+        log.info("Queued {} import confirmation emails for event {}", chunk.notifications().size(), chunk.eventId());
+    }
+
+    private static String required(List<String> record, Map<String, Integer> columns, String column) {
+        String value = optional(record, columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + column);
+        }
+        return value;
+    }
+
+    private static String optional(List<String> record, Map<String, Integer> columns, String column) {
+        String value = field(record, columns, column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException(column + " is longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index != null && index < record.size() ? record.get(index) : null;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String label) {
+        if (value == null) {
+            return null;
+        }
+        String normalised = value.replace(' ', '_').replace('-', '_');
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(normalised)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Unknown " + label + " '" + value + "'");
+    }
+
+    private static String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static boolean isBlank(List<String> record) {
+        return record.stream().allMatch(String::isBlank);
+    }
+
+    private record ImportRow(long line, String email, String lowerEmail, String name, String phone, String note,
+                             String program, AcademicLevel academicLevel, University university,
+                             ReferralSource referralSource, String referralSourceOther) {
+    }
+
+    private record Notification(String email, String name, String token) {
+    }
+
+    private record ConfirmationChunk(Long eventId, String title, LocalDate date, LocalTime time, String location,
+                                     List<Notification> notifications) {
+    }
+
+    private record BatchResult(long inserted, long duplicates, List<Notification> notifications) {
+    }
+
+    private final class Report {
+        private final boolean notify;
+        private final List<RegistrationImportResponse.RowError> errors = new ArrayList<>();
+        private final List<Notification> notifications = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long duplicates;
+        private long failed;
+        private boolean errorsTruncated;
+
+        private Report(boolean notify) {
+            this.notify = notify;
+        }
+
+        private void error(long line, String email, String message) {
+            if (line > 0) {
+                failed++;
+            }
+            if (errors.size() < maxErrors) {
+                errors.add(new RegistrationImportResponse.RowError(line, email, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        private RegistrationImportResponse toResponse(Long eventId, boolean notificationsQueued) {
+            return RegistrationImportResponse.builder()
+                    .eventId(eventId)
+                    .totalRows(totalRows)
+                    .imported(imported)
+                    .duplicates(duplicates)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(errorsTruncated)
+                    .notificationsQueued(notificationsQueued)
+                    .build();
+        }
+    }
+}
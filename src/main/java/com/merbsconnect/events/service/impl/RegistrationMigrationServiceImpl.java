@@ -0,0 +1,211 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.config.AsyncConfig;
+import com.merbsconnect.events.dto.response.RegistrationMigrationStatusResponse;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
+import com.merbsconnect.events.service.EventStatsService;
+import com.merbsconnect.events.service.RegistrationMigrationService;
+import com.merbsconnect.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+public class RegistrationMigrationServiceImpl implements RegistrationMigrationService {
+
+    private final EventRegistrationRepository registrationRepository;
+    private final EventStatsService eventStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+
+    @Value("${app.registration-migration.run-on-startup:true}")
+    private boolean runOnStartup;
+
+    @Value("${app.registration-migration.batch-size:500}")
+    private int batchSize;
+
+    // Pause between batches so the copy never saturates the connection pool
+    @Value("${app.registration-migration.batch-pause:PT0.2S}")
+    private Duration batchPause;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile String state = "IDLE";
+    private volatile long migrated;
+    private volatile long duplicatesMerged;
+    private volatile long discarded;
+    private volatile long batches;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+
+    public RegistrationMigrationServiceImpl(EventRegistrationRepository registrationRepository,
+                                            EventStatsService eventStatsService,
+                                            TransactionTemplate transactionTemplate,
+                                            @Qualifier(AsyncConfig.EXPORT_EXECUTOR) TaskExecutor executor) {
+        this.registrationRepository = registrationRepository;
+        this.eventStatsService = eventStatsService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (runOnStartup && registrationRepository.countAllV1Registrations() > 0) {
+            start();
+        }
+    }
+
+    @Override
+    public RegistrationMigrationStatusResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            return getStatus();
+        }
+        state = "RUNNING";
+        migrated = 0;
+        duplicatesMerged = 0;
+        discarded = 0;
+        batches = 0;
+        startedAt = LocalDateTime.now();
+        finishedAt = null;
+        lastError = null;
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            state = "IDLE";
+            running.set(false);
+            throw new BusinessException("Migration could not be scheduled, try again shortly");
+        }
+        return getStatus();
+    }
+
+    @Override
+    public RegistrationMigrationStatusResponse getStatus() {
+        return RegistrationMigrationStatusResponse.builder()
+                .state(state)
+                .migrated(migrated)
+                .duplicatesMerged(duplicatesMerged)
+                .batches(batches)
+                .discarded(discarded)
+                .remaining(registrationRepository.countAllV1Registrations())
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .lastError(lastError)
+                .build();
+    }
+
+    private void run() {
+        log.info("Legacy registration migration started, {} rows to move",
+                registrationRepository.countAllV1Registrations());
+        try {
+            Long afterEventId = 0L;
+            String afterEmail = "";
+            BatchResult batch;
+            do {
+                Long cursorEventId = afterEventId;
+                String cursorEmail = afterEmail;
+                batch = transactionTemplate.execute(status -> migrateBatch(cursorEventId, cursorEmail));
+                if (batch == null || batch.read() == 0) {
+                    break;
+                }
+                afterEventId = batch.lastEventId();
+                afterEmail = batch.lastEmail();
+                migrated += batch.inserted();
+                duplicatesMerged += batch.removed() - batch.inserted();
+                batches++;
+                if (batches % 20 == 0) {
+                    log.info("Legacy registration migration: {} rows moved in {} batches", migrated, batches);
+                }
+                Thread.sleep(batchPause.toMillis());
+            } while (batch.read() == batchSize);
+            discardRowsWithoutEmail();
+            state = "COMPLETED";
+            log.info("Legacy registration migration completed: {} moved, {} duplicates merged, {} discarded, "
+                    + "{} left behind", migrated, duplicatesMerged, discarded,
+                    registrationRepository.countAllV1Registrations());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            state = "FAILED";
+            lastError = "Interrupted";
+        } catch (Exception e) {
+            state = "FAILED";
+            lastError = e.getMessage();
+            log.error("Legacy registration migration failed after {} rows: {}", migrated, e.getMessage(), e);
+        } finally {
+            finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    /**
+     * Copies one keyset page of legacy rows and deletes them from the legacy
+     * table in the same transaction, so a row is never counted twice or lost.
+     * The stats counters cover both tables and move by the net difference.
+     */
+    private BatchResult migrateBatch(Long afterEventId, String afterEmail) {
+        List<Object[]> rows = registrationRepository.findLegacyBatchAfter(afterEventId, afterEmail, batchSize);
+        Map<Long, Long> statsDeltas = new HashMap<>();
+        int inserted = 0;
+        int removed = 0;
+        Long lastEventId = afterEventId;
+        String lastEmail = afterEmail;
+
+        for (Object[] row : rows) {
+            Long eventId = ((Number) row[0]).longValue();
+            String email = (String) row[1];
+            String name = row[2] != null ? (String) row[2] : email;
+
+            int copied = registrationRepository.insertMigratedRegistration(eventId, email, name,
+                    (String) row[3], (String) row[4], UUID.randomUUID().toString(),
+                    (String) row[5], (String) row[6], (String) row[7], (String) row[8], (String) row[9]);
+            int deleted = registrationRepository.deleteLegacyRegistration(eventId, email);
+
+            inserted += copied;
+            removed += deleted;
+            statsDeltas.merge(eventId, (long) (copied - deleted), Long::sum);
+            lastEventId = eventId;
+            lastEmail = email;
+        }
+
+        statsDeltas.forEach(eventStatsService::recordRegistrations);
+        return new BatchResult(rows.size(), inserted, removed, lastEventId, lastEmail);
+    }
+
+    /**
+     * Deletes legacy rows without an email, which the batches skip because a
+     * v2 registration cannot exist without one. Left in place they would keep
+     * {@code remaining} above zero and restart the migration on every boot.
+     * The stats counters still include them, so they move down by the same
+     * amount.
+     */
+    private void discardRowsWithoutEmail() {
+        for (Long eventId : registrationRepository.findEventIdsWithLegacyRegistrationsWithoutEmail()) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                int count = registrationRepository.deleteLegacyRegistrationsWithoutEmail(eventId);
+                eventStatsService.recordRegistrations(eventId, -count);
+                return count;
+            });
+            if (deleted != null && deleted > 0) {
+                discarded += deleted;
+                log.warn("Discarded {} legacy registrations without an email for event {}", deleted, eventId);
+            }
+        }
+    }
+
+    private record BatchResult(int read, int inserted, int removed, Long lastEventId, String lastEmail) {
+    }
+}
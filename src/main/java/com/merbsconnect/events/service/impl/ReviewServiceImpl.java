@@ -10,6 +10,7 @@ import com.merbsconnect.events.model.Event;
 import com.merbsconnect.events.model.Review;
 import com.merbsconnect.events.repository.EventRepository;
 import com.merbsconnect.events.repository.ReviewRepository;
+import com.merbsconnect.events.service.EventStatsService;
 import com.merbsconnect.events.service.ReviewService;
 import com.merbsconnect.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final EventStatsService eventStatsService;
 
     @Override
     @Transactional
@@ -69,6 +71,7 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        eventStatsService.recordReview(eventId, 1);
         log.info("Review created with id: {}", savedReview.getId());
 
         return mapToResponse(savedReview);
@@ -154,6 +157,7 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         reviewRepository.delete(review);
+        eventStatsService.recordReview(review.getEvent().getId(), -1);
         log.info("Review {} deleted successfully", reviewId);
     }
 
@@ -1,5 +1,6 @@
 package com.merbsconnect.sms.service.impl;
 
+import com.merbsconnect.config.AsyncConfig;
 import com.merbsconnect.sms.dtos.request.BulkSmsRequest;
 import com.merbsconnect.sms.dtos.request.CreateTemplateRequest;
 import com.merbsconnect.sms.dtos.response.BulkSmsResponse;
@@ -24,7 +25,6 @@ import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 
 @Service
 @RequiredArgsConstructor
@@ -149,43 +149,48 @@ public class SmsServiceImpl implements SmsService {
 
     @Override
     public BulkSmsResponse sendBulkSms(BulkSmsRequest bulkSmsRequest) {
-        try {
-            return sendBulkSmsAsync(bulkSmsRequest).get(); // Blocking call to get the result
-        } catch (InterruptedException | ExecutionException e) {
-            log.error("Failed to send bulk SMS: {}", e.getMessage());
-            throw new RuntimeException("Failed to send bulk SMS", e);
-        }
+        return executeBulkSms(bulkSmsRequest);
     }
 
+    /**
+     * Sends on the SMS channel executor. Failures complete the returned future
+     * exceptionally.
+     */
     @Override
-    @Async
+    @Async(AsyncConfig.SMS_EXECUTOR)
     public CompletableFuture<BulkSmsResponse> sendBulkSmsAsync(BulkSmsRequest bulkSmsRequest) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                bulkSmsRequest.setSender(SENDER_ID);
-                String requestBody = objectMapper.writeValueAsString(bulkSmsRequest);
-                log.info("Request body: {}", requestBody);
-
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(apiUrl + "/sms/quick?key=" + apiKey))
-                        .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                        .header("Content-Type", "application/json")
-                        .build();
-
-                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-                log.info("API response: {}", response.body());
-
-                BulkSmsResponse smsResponse = objectMapper.readValue(response.body(), BulkSmsResponse.class);
-                if (smsResponse.isSuccessful()) {
-                    return smsResponse;
-                } else {
-                    throw new RuntimeException("SMS API Error: " + smsResponse.getMessage());
-                }
-            } catch (IOException | InterruptedException e) {
-                log.error("Error executing SMS request: {}", e.getMessage());
-                throw new RuntimeException("Failed to send SMS", e);
+        return CompletableFuture.completedFuture(executeBulkSms(bulkSmsRequest));
+    }
+
+    private BulkSmsResponse executeBulkSms(BulkSmsRequest bulkSmsRequest) {
+        try {
+            bulkSmsRequest.setSender(SENDER_ID);
+            String requestBody = objectMapper.writeValueAsString(bulkSmsRequest);
+            log.info("Request body: {}", requestBody);
+
+            HttpRequest request = HttpRequest.newBuilder()
+                    .uri(URI.create(apiUrl + "/sms/quick?key=" + apiKey))
+                    .POST(HttpRequest.BodyPublishers.ofString(requestBody))
+                    .header("Content-Type", "application/json")
+                    .build();
+
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            log.info("API response: {}", response.body());
+
+            BulkSmsResponse smsResponse = objectMapper.readValue(response.body(), BulkSmsResponse.class);
+            if (smsResponse.isSuccessful()) {
+                return smsResponse;
+            } else {
+                throw new RuntimeException("SMS API Error: " + smsResponse.getMessage());
             }
-        });
+        } catch (IOException e) {
+            log.error("Error executing SMS request: {}", e.getMessage());
+            throw new RuntimeException("Failed to send SMS", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("SMS request interrupted: {}", e.getMessage());
+            throw new RuntimeException("Failed to send SMS", e);
+        }
     }
 
 }
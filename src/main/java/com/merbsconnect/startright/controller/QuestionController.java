@@ -27,10 +27,7 @@ public class QuestionController {
      */
     @GetMapping("/status")
     public ResponseEntity<Map<String, Boolean>> getQaStatus() {
-        boolean isEnabled = Boolean.parseBoolean(
-                configService.getConfig("QA_FEATURE_ENABLED")
-                        .map(com.merbsconnect.admin.dto.response.ConfigResponse::getConfigValue)
-                        .orElse("true"));
+        boolean isEnabled = configService.getBoolean("QA_FEATURE_ENABLED", true);
         return ResponseEntity.ok(Map.of("enabled", isEnabled));
     }
 
@@ -41,10 +38,7 @@ public class QuestionController {
     public ResponseEntity<?> submitQuestion(
             @Valid @RequestBody QuestionRequestDto requestDto) {
 
-        boolean isEnabled = Boolean.parseBoolean(
-                configService.getConfig("QA_FEATURE_ENABLED")
-                        .map(com.merbsconnect.admin.dto.response.ConfigResponse::getConfigValue)
-                        .orElse("true"));
+        boolean isEnabled = configService.getBoolean("QA_FEATURE_ENABLED", true);
 
         if (!isEnabled) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
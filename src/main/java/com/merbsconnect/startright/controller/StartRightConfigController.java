@@ -20,9 +20,7 @@ public class StartRightConfigController {
 
     @GetMapping("/session-status")
     public ResponseEntity<Map<String, Boolean>> getSessionStatus() {
-        boolean isActive = configService.getConfig("STARTRIGHT_SESSION_ACTIVE")
-                .map(config -> Boolean.parseBoolean(config.getConfigValue()))
-                .orElse(true); // Default to true if config missing
+        boolean isActive = configService.getBoolean("STARTRIGHT_SESSION_ACTIVE", true); // Default to true if config missing
 
         return ResponseEntity.ok(Map.of("active", isActive));
     }
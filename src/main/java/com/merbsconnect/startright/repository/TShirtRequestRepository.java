@@ -24,6 +24,10 @@ public interface TShirtRequestRepository extends JpaRepository<TShirtRequest, Lo
     @Query("SELECT COALESCE(SUM(t.quantity), 0) FROM TShirtRequest t")
     Integer sumAllQuantities();
 
+    // Request count per shirt size
+    @Query("SELECT t.tShirtSize, COUNT(t) FROM TShirtRequest t GROUP BY t.tShirtSize")
+    List<Object[]> countBySize();
+
     // Daily analytics - group by date using native query for PostgreSQL
     @Query(value = "SELECT DATE(created_at) as date, COUNT(*) as total_requests, COALESCE(SUM(quantity), 0) as total_quantity "
             +
@@ -0,0 +1,34 @@
+package com.merbsconnect.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request DTO confirming that a direct-to-bucket upload has finished
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfirmUploadRequest {
+
+    /**
+     * The key returned with the upload URL
+     */
+    @NotBlank(message = "Key is required")
+    private String key;
+
+    /**
+     * Original file name, recorded on gallery items
+     */
+    private String fileName;
+
+    /**
+     * Optional caption, used by gallery uploads
+     */
+    private String caption;
+}
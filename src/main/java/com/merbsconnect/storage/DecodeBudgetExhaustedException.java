@@ -0,0 +1,15 @@
+package com.merbsconnect.storage;
+
+import java.io.IOException;
+
+/**
+ * Thrown when the image decode budget stays exhausted for the whole acquire
+ * timeout. The image itself was never looked at, so the decode can simply be
+ * tried again once the server is less busy.
+ */
+public class DecodeBudgetExhaustedException extends IOException {
+
+    public DecodeBudgetExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,164 @@
+package com.merbsconnect.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes images without letting their size decide how much heap they take.
+ * Dimensions are read from the header first; images above the pixel limit are
+ * rejected, and the rest are subsampled while decoding so the result is never
+ * much larger than the size actually needed. Every decode holds permits from
+ * a global semaphore, one per decoded pixel, so concurrent decodes queue up
+ * once the budget is spent instead of exhausting the heap.
+ */
+@Slf4j
+@Component
+public class ImageDecoder {
+
+    /**
+     * Work done with a decoded image while its memory is still accounted for.
+     */
+    @FunctionalInterface
+    public interface DecodedImageHandler<T> {
+        T handle(BufferedImage image) throws IOException;
+    }
+
+    private final Semaphore pixelBudget;
+    private final int budgetPixels;
+    private final long maxSourcePixels;
+    private final Duration acquireTimeout;
+
+    public ImageDecoder(@Value("${app.image-decode.pixel-budget:48000000}") int budgetPixels,
+                        @Value("${app.image-decode.max-source-pixels:100000000}") long maxSourcePixels,
+                        @Value("${app.image-decode.acquire-timeout:PT30S}") Duration acquireTimeout) {
+        this.budgetPixels = budgetPixels;
+        this.pixelBudget = new Semaphore(budgetPixels, true);
+        this.maxSourcePixels = maxSourcePixels;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Reads the image dimensions from the header without decoding pixel data.
+     *
+     * @return The dimensions, or null if no ImageIO reader recognises the format
+     */
+    public Dimension readDimensions(InputStream in) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = reader(iis);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Rejects images whose header declares more pixels than may be decoded.
+     */
+    public void checkDimensions(Dimension dimensions) {
+        if (dimensions != null && (long) dimensions.width * dimensions.height > maxSourcePixels) {
+            throw new IllegalArgumentException(String.format(
+                    "Image is %dx%d pixels; the maximum is %d megapixels",
+                    dimensions.width, dimensions.height, maxSourcePixels / 1_000_000));
+        }
+    }
+
+    /**
+     * Decodes an image subsampled so its longest side is at least
+     * {@code maxDimension} but not much more, and passes it to the handler
+     * while holding pixel permits.
+     *
+     * @return The handler's result, or null if no ImageIO reader recognises the format
+     * @throws IllegalArgumentException if the image exceeds the pixel limit
+     * @throws DecodeBudgetExhaustedException if the budget stays exhausted for the acquire timeout
+     * @throws IOException              if the image cannot be read
+     */
+    public <T> T decode(InputStream in, int maxDimension, DecodedImageHandler<T> handler) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+            ImageReader reader = reader(iis);
+            if (reader == null) {
+                return null;
+            }
+            try {
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                checkDimensions(new Dimension(width, height));
+
+                int subsampling = Math.max(1, Math.max(width, height) / maxDimension);
+                long decodedPixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+                int permits = (int) Math.min(decodedPixels, budgetPixels);
+
+                acquire(permits, width, height);
+                try {
+                    ImageReadParam param = reader.getDefaultReadParam();
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                    BufferedImage image = reader.read(0, param);
+                    if (subsampling > 1) {
+                        log.debug("Decoded {}x{} image at 1/{} scale", width, height, subsampling);
+                    }
+                    return handler.handle(image);
+                } finally {
+                    pixelBudget.release(permits);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Pixels currently free in the decode budget.
+     */
+    public int getAvailablePixels() {
+        return pixelBudget.availablePermits();
+    }
+
+    private void acquire(int permits, int width, int height) throws IOException {
+        try {
+            if (!pixelBudget.tryAcquire(permits, acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new DecodeBudgetExhaustedException(String.format(
+                        "Image decode budget exhausted; gave up on %dx%d image after %s",
+                        width, height, acquireTimeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for image decode budget", e);
+        }
+    }
+
+    private static ImageReader reader(ImageInputStream iis) {
+        if (iis == null) {
+            return null;
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        if (!readers.hasNext()) {
+            return null;
+        }
+        ImageReader reader = readers.next();
+        // Seek-forward only: lets the reader discard data it has passed
+        reader.setInput(iis, true, true);
+        return reader;
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
@@ -0,0 +1,37 @@
+package com.merbsconnect.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request DTO for a direct-to-bucket upload URL
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequest {
+
+    /**
+     * Original file name; only its extension is kept in the object key
+     */
+    @NotBlank(message = "File name is required")
+    private String fileName;
+
+    /**
+     * MIME type the client will send; signed into the URL
+     */
+    @NotBlank(message = "Content type is required")
+    private String contentType;
+
+    /**
+     * Exact size in bytes the client will send; signed into the URL
+     */
+    @Positive(message = "Size must be positive")
+    private long size;
+}
@@ -0,0 +1,41 @@
+package com.merbsconnect.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Response DTO for a direct-to-bucket upload. The client PUTs the file body to
+ * {@code uploadUrl} with {@code headers}, then calls the matching confirm
+ * endpoint with {@code key}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponse {
+
+    /**
+     * The object key the file will be stored under
+     */
+    private String key;
+
+    /**
+     * The presigned PUT URL
+     */
+    private String uploadUrl;
+
+    /**
+     * Headers that were signed into the URL and must be sent unchanged
+     */
+    private Map<String, String> headers;
+
+    /**
+     * Timestamp when the upload URL expires
+     */
+    private Instant expiresAt;
+}
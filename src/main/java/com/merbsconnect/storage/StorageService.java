@@ -3,6 +3,7 @@ package com.merbsconnect.storage;
 import com.merbsconnect.enums.MediaType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -11,14 +12,34 @@ import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageWriteParam;
@@ -41,17 +62,40 @@ public class StorageService {
     private final S3Presigner s3Presigner;
     private final String bucketName;
     private final String endpoint;
+    private final ImageDecoder imageDecoder;
+    private final SecretKeySpec uploadSigningKey;
 
     public StorageService(S3Client s3Client,
             S3Presigner s3Presigner,
             @Qualifier("storageBucketName") String bucketName,
-            @Qualifier("storageEndpoint") String endpoint) {
+            @Qualifier("storageEndpoint") String endpoint,
+            ImageDecoder imageDecoder,
+            @Value("${app.storage.upload-signing-key:${app.jwt.secret}}") String uploadSigningKey) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.bucketName = bucketName;
         this.endpoint = endpoint;
+        this.imageDecoder = imageDecoder;
+        this.uploadSigningKey = new SecretKeySpec(uploadSigningKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
     }
 
+    /** Upload scope for gallery items. */
+    public static final String GALLERY_UPLOAD = "gallery";
+
+    /** Upload scope for an event's cover image. */
+    public static final String EVENT_IMAGE_UPLOAD = "event-image";
+
+    /**
+     * Upload scope for one speaker's image.
+     */
+    public static String speakerImageUpload(Long speakerId) {
+        return "speaker-" + speakerId;
+    }
+
+    // Keys issued with an upload URL: events/{id}/gallery/{folder}/{timestamp}_{uuid}_{signature}.{ext}
+    private static final Pattern UPLOAD_KEY = Pattern.compile(
+            "events/(\\d+)/gallery/(images|videos)/(\\d{8}_\\d{6}_[0-9a-f]{8})_([0-9a-f]{16})\\.([a-z0-9]+)");
+
     private static final List<String> ALLOWED_IMAGE_TYPES = Arrays.asList(
             "image/jpeg", "image/png", "image/gif", "image/webp");
 
@@ -61,6 +105,23 @@ public class StorageService {
     private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024; // 10MB
     private static final long MAX_VIDEO_SIZE = 100 * 1024 * 1024; // 100MB
 
+    private static final int MAX_IMAGE_DIMENSION = 2048;
+
+    private static final Duration UPLOAD_URL_EXPIRY = Duration.ofMinutes(15);
+
+    // S3 requires at least 5MB for every part but the last
+    private static final int MULTIPART_PART_SIZE = 8 * 1024 * 1024; // 8MB
+
+    // Most keys a single DeleteObjects request accepts
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    /**
+     * An object written by a client through a presigned upload URL, as reported
+     * by the bucket.
+     */
+    public record UploadedObject(String key, String contentType, long size, MediaType mediaType) {
+    }
+
     /**
      * Generates a presigned URL for accessing a private S3 object.
      * The URL is valid for 1 hour.
@@ -122,6 +183,16 @@ public class StorageService {
 
         log.info("Uploading file to bucket: {} with key: {}", bucketName, key);
 
+        // Videos are never re-encoded; stream them from the multipart temp file
+        // instead of loading them onto the heap
+        if (mediaType != MediaType.IMAGE) {
+            try (InputStream in = file.getInputStream()) {
+                uploadStream(key, in, file.getSize(), contentType);
+            }
+            log.info("File uploaded successfully. Object key: {}", key);
+            return key;
+        }
+
         byte[] content = compressImage(file);
 
         if (content.length < file.getSize()) {
@@ -146,6 +217,268 @@ public class StorageService {
         return key;
     }
 
+    /**
+     * Uploads a gallery file exactly as received, streaming it from the multipart
+     * temp file. Resized copies of images are produced afterwards by
+     * {@link com.merbsconnect.events.service.ImageDerivativeService}, so the request does no image work.
+     *
+     * @param eventId   The event ID
+     * @param file      The file to upload
+     * @param mediaType The type of media (IMAGE or VIDEO)
+     * @return The object key/path in the bucket
+     */
+    public String uploadOriginal(Long eventId, MultipartFile file, MediaType mediaType) throws IOException {
+        validateFile(file, mediaType);
+
+        if (mediaType == MediaType.IMAGE) {
+            // Header only; pixel data is decoded later, within the decode budget
+            try (InputStream in = file.getInputStream()) {
+                imageDecoder.checkDimensions(imageDecoder.readDimensions(in));
+            }
+        }
+
+        String key = generateKey(eventId, file.getOriginalFilename(), mediaType);
+        log.info("Uploading original to bucket: {} with key: {}", bucketName, key);
+
+        try (InputStream in = file.getInputStream()) {
+            uploadStream(key, in, file.getSize(), file.getContentType());
+        }
+
+        log.info("File uploaded successfully. Object key: {}", key);
+        return key;
+    }
+
+    /**
+     * Stores an in-memory object, such as a generated image derivative.
+     *
+     * @param key         The object key in the bucket
+     * @param content     The object body
+     * @param contentType The MIME type stored with the object
+     */
+    public void putObject(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build(), RequestBody.fromBytes(content));
+    }
+
+    /**
+     * Opens an object for reading. The caller must close the stream.
+     *
+     * @param key The object key in the bucket
+     * @return The object body
+     */
+    public InputStream openObject(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    /**
+     * Key for a derived copy of an object, e.g.
+     * {@code events/1/gallery/images/derived/photo_thumb.jpg} for
+     * {@code events/1/gallery/images/photo.png} and variant {@code thumb}.
+     *
+     * @param key       The original object key
+     * @param variant   Name of the derivative
+     * @param extension File extension of the derivative, without the dot
+     * @return The derived key
+     */
+    public static String derivedKey(String key, String variant, String extension) {
+        int slash = key.lastIndexOf('/');
+        String folder = key.substring(0, slash + 1);
+        String name = key.substring(slash + 1);
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return folder + "derived/" + base + "_" + variant + "." + extension;
+    }
+
+    /**
+     * Issues a presigned PUT URL so the client can upload straight to the bucket.
+     * Content type and exact length are signed into the URL, so the bucket
+     * rejects any other body; the file never passes through this server.
+     *
+     * The key carries a signature over the event and {@code scope}, so it can only
+     * be confirmed for the purpose it was issued for.
+     *
+     * @param eventId   The event ID the object belongs to
+     * @param scope     What the upload is for, e.g. {@link #GALLERY_UPLOAD}
+     * @param request   File name, content type and size the client will send
+     * @param mediaType The expected media type, or null to derive it from the content type
+     * @return The object key, upload URL and headers the client must send
+     */
+    public PresignedUploadResponse createPresignedUpload(Long eventId, String scope, PresignedUploadRequest request,
+            MediaType mediaType) {
+        MediaType type = mediaType != null ? mediaType : mediaTypeOf(request.getContentType());
+        validate(request.getContentType(), request.getSize(), type);
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String stem = timestamp + "_" + UUID.randomUUID().toString().substring(0, 8);
+        String folder = type == MediaType.IMAGE ? "images" : "videos";
+        String extension = getFileExtension(request.getFileName());
+        String key = String.format("events/%d/gallery/%s/%s_%s.%s", eventId, folder, stem,
+                uploadSignature(eventId, scope, folder, stem, extension), extension);
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(request.getContentType())
+                .contentLength(request.getSize())
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(UPLOAD_URL_EXPIRY)
+                .putObjectRequest(putRequest)
+                .build());
+
+        // Host and Content-Length are set by the HTTP client itself
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host") && !name.equalsIgnoreCase("content-length")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        log.info("Issued upload URL for key: {} ({} bytes)", key, request.getSize());
+        return PresignedUploadResponse.builder()
+                .key(key)
+                .uploadUrl(presigned.url().toString())
+                .headers(headers)
+                .expiresAt(Instant.now().plus(UPLOAD_URL_EXPIRY))
+                .build();
+    }
+
+    /**
+     * Checks that a client finished a presigned upload: the key was issued by
+     * {@link #createPresignedUpload} for this event and scope, the object exists,
+     * and its stored type and size pass the same limits as a server-side upload.
+     * Keys of existing objects that were not issued for this scope, such as
+     * another item's original or a derived copy, are rejected, since confirming
+     * one would let a later replacement delete a shared object.
+     *
+     * @param eventId   The event ID the upload URL was issued for
+     * @param scope     The scope the upload URL was issued for
+     * @param key       The key returned with the upload URL
+     * @param mediaType The expected media type, or null to accept images and videos
+     * @return The object's stored metadata
+     */
+    public UploadedObject verifyUpload(Long eventId, String scope, String key, MediaType mediaType) {
+        Matcher matcher = key != null ? UPLOAD_KEY.matcher(key) : null;
+        if (matcher == null || !matcher.matches() || !matcher.group(1).equals(String.valueOf(eventId))) {
+            throw new IllegalArgumentException("Key was not issued for an upload to event " + eventId);
+        }
+        String expected = uploadSignature(eventId, scope, matcher.group(2), matcher.group(3), matcher.group(5));
+        if (!MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                matcher.group(4).getBytes(StandardCharsets.UTF_8))) {
+            throw new IllegalArgumentException("Key was not issued for this upload");
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("No uploaded file found for key: " + key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new IllegalArgumentException("No uploaded file found for key: " + key);
+            }
+            throw e;
+        }
+
+        MediaType type = mediaType != null ? mediaType : mediaTypeOf(head.contentType());
+        validate(head.contentType(), head.contentLength(), type);
+        return new UploadedObject(key, head.contentType(), head.contentLength(), type);
+    }
+
+    /**
+     * Uploads a local file under the given key, streaming it from disk. Used for
+     * archives too large to hold in memory.
+     *
+     * @param key         The object key in the bucket
+     * @param file        The file to upload
+     * @param contentType The MIME type stored with the object
+     * @return The object key
+     */
+    public String uploadFile(String key, java.nio.file.Path file, String contentType) throws IOException {
+        log.info("Uploading file to bucket: {} with key: {}", bucketName, key);
+
+        try (InputStream in = Files.newInputStream(file)) {
+            uploadStream(key, in, Files.size(file), contentType);
+        }
+
+        log.info("File uploaded successfully. Object key: {}", key);
+        return key;
+    }
+
+    /**
+     * Uploads a stream of known length. Small objects go up in a single PUT;
+     * larger ones as a multipart upload, read one part at a time into a single
+     * reused buffer, so memory per upload stays at one part whatever the object
+     * size. A failed multipart upload is aborted so R2 does not keep the parts.
+     */
+    private void uploadStream(String key, InputStream in, long size, String contentType) throws IOException {
+        if (size <= MULTIPART_PART_SIZE) {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build(), RequestBody.fromInputStream(in, size));
+            return;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        try {
+            byte[] buffer = new byte[MULTIPART_PART_SIZE];
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            int read;
+            while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                // ByteArrayInputStream supports mark/reset, so SDK retries reuse the buffer
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) read)
+                        .build(), RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.info("Multipart upload of {} completed in {} parts", key, parts.size());
+        } catch (IOException | RuntimeException e) {
+            abortMultipartUpload(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("Aborted multipart upload of {}", key);
+        } catch (RuntimeException e) {
+            log.error("Failed to abort multipart upload {} of {}: {}", uploadId, key, e.getMessage());
+        }
+    }
+
     /**
      * Deletes a file from the storage bucket.
      *
@@ -163,6 +496,94 @@ public class StorageService {
         log.info("File deleted successfully: {}", key);
     }
 
+    /**
+     * Deletes many objects with one DeleteObjects request per 1000 keys. Keys
+     * that fail are logged and returned instead of thrown; anything left behind
+     * is removed later by the orphan media reconciler.
+     *
+     * @param keys The object keys in the bucket; nulls and duplicates are ignored
+     * @return The keys that could not be deleted
+     */
+    public List<String> deleteFiles(Collection<String> keys) {
+        List<String> failed = new ArrayList<>();
+        List<ObjectIdentifier> batch = new ArrayList<>();
+        for (String key : new LinkedHashSet<>(keys)) {
+            if (key == null || key.isEmpty()) {
+                continue;
+            }
+            batch.add(ObjectIdentifier.builder().key(key).build());
+            if (batch.size() == DELETE_BATCH_SIZE) {
+                deleteBatch(batch, failed);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleteBatch(batch, failed);
+        }
+        return failed;
+    }
+
+    private void deleteBatch(List<ObjectIdentifier> batch, List<String> failed) {
+        log.info("Deleting {} objects from bucket: {}", batch.size(), bucketName);
+        try {
+            // Quiet mode: the response lists only the keys that failed
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
+                    .build());
+            for (S3Error error : response.errors()) {
+                log.warn("Failed to delete {}: {} {}", error.key(), error.code(), error.message());
+                failed.add(error.key());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete {} objects: {}", batch.size(), e.getMessage());
+            batch.forEach(object -> failed.add(object.key()));
+        }
+    }
+
+    /**
+     * Lists every object under a prefix, fetching further pages of up to 1000
+     * keys only as the iteration reaches them. Keys come back in lexicographic
+     * order.
+     *
+     * @param prefix The key prefix, e.g. {@code events/1/}
+     * @return The objects under the prefix
+     */
+    public Iterable<S3Object> listObjects(String prefix) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .build())
+                .contents();
+    }
+
+    /**
+     * Deletes every object under a folder prefix, a page at a time.
+     *
+     * @param prefix The folder prefix; must end with {@code /}
+     * @return The number of objects deleted
+     */
+    public int deleteFolder(String prefix) {
+        if (prefix == null || prefix.length() < 2 || !prefix.endsWith("/")) {
+            throw new IllegalArgumentException("Refusing to delete folder: " + prefix);
+        }
+
+        int deleted = 0;
+        List<String> keys = new ArrayList<>();
+        for (S3Object object : listObjects(prefix)) {
+            keys.add(object.key());
+            if (keys.size() == DELETE_BATCH_SIZE) {
+                deleted += keys.size() - deleteFiles(keys).size();
+                keys.clear();
+            }
+        }
+        if (!keys.isEmpty()) {
+            deleted += keys.size() - deleteFiles(keys).size();
+        }
+        log.info("Deleted {} objects under {}", deleted, prefix);
+        return deleted;
+    }
+
     /**
      * Extracts the object key from a full URL.
      *
@@ -206,8 +627,16 @@ public class StorageService {
             throw new IllegalArgumentException("File is empty");
         }
 
-        String contentType = file.getContentType();
-        long fileSize = file.getSize();
+        validate(file.getContentType(), file.getSize(), mediaType);
+    }
+
+    /**
+     * Checks a content type and size against the limits for the media type.
+     */
+    private void validate(String contentType, long fileSize, MediaType mediaType) {
+        if (fileSize <= 0) {
+            throw new IllegalArgumentException("File is empty");
+        }
 
         if (mediaType == MediaType.IMAGE) {
             if (!ALLOWED_IMAGE_TYPES.contains(contentType)) {
@@ -228,6 +657,14 @@ public class StorageService {
         }
     }
 
+    /**
+     * Derives the media type from a MIME type; anything that is not an image is
+     * validated as a video.
+     */
+    private MediaType mediaTypeOf(String contentType) {
+        return contentType != null && contentType.startsWith("image/") ? MediaType.IMAGE : MediaType.VIDEO;
+    }
+
     /**
      * Generates a unique key for the file in the bucket.
      */
@@ -241,6 +678,21 @@ public class StorageService {
                 eventId, folder, timestamp, uuid, extension);
     }
 
+    /**
+     * First 64 bits of an HMAC over everything an upload key is bound to.
+     */
+    private String uploadSignature(Long eventId, String scope, String folder, String stem, String extension) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(uploadSigningKey);
+            byte[] digest = mac.doFinal((eventId + "|" + scope + "|" + folder + "/" + stem + "." + extension)
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
     /**
      * Gets the file extension from a filename.
      */
@@ -248,7 +700,10 @@ public class StorageService {
         if (filename == null || !filename.contains(".")) {
             return "bin";
         }
-        return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
+        // File names now come straight from clients requesting upload URLs
+        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase()
+                .replaceAll("[^a-z0-9]", "");
+        return extension.isEmpty() ? "bin" : extension;
     }
 
     /**
@@ -287,62 +742,70 @@ public class StorageService {
             return file.getBytes();
         }
 
-        try {
-            BufferedImage image = ImageIO.read(file.getInputStream());
-            if (image == null) {
-                return file.getBytes(); // Could not read image, upload original
-            }
+        try (InputStream in = file.getInputStream()) {
+            // Decoded at reduced resolution when far larger than the 2048px target
+            byte[] compressed = imageDecoder.decode(in, MAX_IMAGE_DIMENSION,
+                    image -> encodeCompressed(image, contentType));
+            return compressed != null ? compressed : file.getBytes(); // Could not read image, upload original
+        } catch (IllegalArgumentException e) {
+            // Too many pixels to decode safely; reject rather than store it as is
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to compress image: {}", file.getOriginalFilename(), e);
+            return file.getBytes(); // Fallback to original on error
+        }
+    }
 
-            // Resize if too big (max 2048px)
-            int maxWidth = 2048;
-            if (image.getWidth() > maxWidth || image.getHeight() > maxWidth) {
-                double scale = Math.min((double) maxWidth / image.getWidth(), (double) maxWidth / image.getHeight());
-                int newWidth = (int) (image.getWidth() * scale);
-                int newHeight = (int) (image.getHeight() * scale);
-
-                // Use ARGB for PNGs to preserve transparency, RGB for JPEGs
-                int type = contentType.contains("png") ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
-
-                BufferedImage resized = new BufferedImage(newWidth, newHeight, type);
-                Graphics2D g = resized.createGraphics();
-                g.drawImage(image, 0, 0, newWidth, newHeight, null);
-                g.dispose();
-                image = resized;
-            }
+    /**
+     * Resizes to at most 2048px and re-encodes; JPEGs at 0.7 quality.
+     */
+    private byte[] encodeCompressed(BufferedImage image, String contentType) throws IOException {
+        // Resize if too big (max 2048px)
+        int maxWidth = MAX_IMAGE_DIMENSION;
+        if (image.getWidth() > maxWidth || image.getHeight() > maxWidth) {
+            double scale = Math.min((double) maxWidth / image.getWidth(), (double) maxWidth / image.getHeight());
+            int newWidth = (int) (image.getWidth() * scale);
+            int newHeight = (int) (image.getHeight() * scale);
+
+            // Use ARGB for PNGs to preserve transparency, RGB for JPEGs
+            int type = contentType.contains("png") ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+            BufferedImage resized = new BufferedImage(newWidth, newHeight, type);
+            Graphics2D g = resized.createGraphics();
+            g.drawImage(image, 0, 0, newWidth, newHeight, null);
+            g.dispose();
+            image = resized;
+        }
 
-            ByteArrayOutputStream os = new ByteArrayOutputStream();
-
-            // Compress JPEG
-            if (contentType.contains("jpeg") || contentType.contains("jpg")) {
-                Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
-                if (writers.hasNext()) {
-                    ImageWriter writer = writers.next();
-                    ImageOutputStream ios = ImageIO.createImageOutputStream(os);
-                    writer.setOutput(ios);
-
-                    ImageWriteParam param = writer.getDefaultWriteParam();
-                    if (param.canWriteCompressed()) {
-                        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-                        param.setCompressionQuality(0.7f); // 70% quality
-                    }
-
-                    writer.write(null, new IIOImage(image, null, null), param);
-                    writer.dispose();
-                    ios.close();
-                } else {
-                    // Fallback if no writer found
-                    ImageIO.write(image, "jpg", os);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        // Compress JPEG
+        if (contentType.contains("jpeg") || contentType.contains("jpg")) {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+            if (writers.hasNext()) {
+                ImageWriter writer = writers.next();
+                ImageOutputStream ios = ImageIO.createImageOutputStream(os);
+                writer.setOutput(ios);
+
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (param.canWriteCompressed()) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(0.7f); // 70% quality
                 }
+
+                writer.write(null, new IIOImage(image, null, null), param);
+                writer.dispose();
+                ios.close();
             } else {
-                // For PNG or others, just write normally (resizing applied if needed)
-                String formatName = contentType.contains("png") ? "png" : "jpg";
-                ImageIO.write(image, formatName, os);
+                // Fallback if no writer found
+                ImageIO.write(image, "jpg", os);
             }
-
-            return os.toByteArray();
-        } catch (Exception e) {
-            log.error("Failed to compress image: {}", file.getOriginalFilename(), e);
-            return file.getBytes(); // Fallback to original on error
+        } else {
+            // For PNG or others, just write normally (resizing applied if needed)
+            String formatName = contentType.contains("png") ? "png" : "jpg";
+            ImageIO.write(image, formatName, os);
         }
+
+        return os.toByteArray();
     }
 }
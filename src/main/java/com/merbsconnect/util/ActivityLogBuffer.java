@@ -0,0 +1,101 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.admin.model.ActivityLog;
+import com.merbsconnect.config.ActivityTrackingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects sampled API activity in memory and writes it to activity_logs in
+ * JDBC batches on a fixed delay. Request threads only do a lock-free queue
+ * offer. Activity is telemetry, so when the buffer is full new entries are
+ * dropped and counted rather than slowing requests down.
+ */
+@Slf4j
+@Component
+public class ActivityLogBuffer {
+
+    private static final String INSERT_SQL = "INSERT INTO activity_logs (user_id, activity_type, endpoint, "
+            + "timestamp, details) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityTrackingProperties properties;
+    private final Queue<ActivityLog> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() walks the whole queue
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ActivityLogBuffer(JdbcTemplate jdbcTemplate, ActivityTrackingProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Queues an entry for the next flush. Returns false if the buffer is full.
+     */
+    public boolean offer(ActivityLog entry) {
+        if (size.incrementAndGet() > properties.getBufferCapacity()) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        queue.offer(entry);
+        return true;
+    }
+
+    public int getPendingCount() {
+        return size.get();
+    }
+
+    @Scheduled(fixedDelayString = "${app.activity.flush-interval:PT5S}")
+    public void flush() {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            log.warn("Activity buffer full; dropped {} entries since the last flush", lost);
+        }
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<ActivityLog> batch = new ArrayList<>(batchSize);
+        ActivityLog entry;
+        while ((entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(List<ActivityLog> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, activity) -> {
+                ps.setLong(1, activity.getUserId());
+                ps.setString(2, activity.getActivityType());
+                ps.setString(3, activity.getEndpoint());
+                ps.setTimestamp(4, Timestamp.valueOf(activity.getTimestamp()));
+                ps.setString(5, activity.getDetails());
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} activity entries: {}", batch.size(), e.getMessage());
+        }
+    }
+}
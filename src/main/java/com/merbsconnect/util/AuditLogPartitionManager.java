@@ -0,0 +1,393 @@
+package com.merbsconnect.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merbsconnect.storage.StorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps audit_logs bounded. The table is range-partitioned by month on
+ * {@code timestamp}, partitions are created ahead of time, and partitions
+ * older than the retention window are exported to object storage as gzip'd
+ * NDJSON and then dropped. A plain table left by an older release is converted
+ * online on first start: rows are copied in batches into a partitioned staging
+ * table while writes continue, and only the final swap locks audit_logs.
+ * PostgreSQL only; on other databases this is a no-op.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditLogPartitionManager {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_y(\\d{4})m(\\d{2})");
+    private static final String ARCHIVE_PREFIX = "archives/audit-logs/";
+    private static final String STAGING_TABLE = "audit_logs_partitioned";
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final String COLUMNS = "id, action, entity_type, entity_id, performed_by, timestamp, details, "
+            + "ip_address";
+    private static final String COPY_COLUMNS = "id, action, entity_type, entity_id, performed_by, "
+            + "COALESCE(timestamp, CURRENT_TIMESTAMP), details, ip_address";
+
+    // Index name, then columns; the staging table gets the same indexes with a suffix
+    private static final String[][] INDEXES = {
+            { "idx_audit_logs_timestamp", "timestamp" },
+            { "idx_audit_logs_performed_by", "performed_by, timestamp" },
+            { "idx_audit_logs_entity", "entity_type, entity_id, timestamp" }
+    };
+    private static final String STAGING_SUFFIX = "_staging";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StorageService storageService;
+    private final ObjectMapper objectMapper;
+
+    // Whole months kept in the table, not counting the current one
+    @Value("${app.audit.retention.months:12}")
+    private int retentionMonths;
+
+    @Value("${app.audit.retention.premake-months:3}")
+    private int premakeMonths;
+
+    // Rows copied per statement when converting a plain table
+    @Value("${app.audit.retention.migration-batch-size:5000}")
+    private int migrationBatchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        if (!isPostgres()) {
+            return;
+        }
+        try {
+            if (!isPartitioned("audit_logs")) {
+                convertToPartitioned();
+            }
+            createUpcomingPartitions();
+            rehomeDefaultRows();
+        } catch (Exception e) {
+            log.error("Audit log partitioning setup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${app.audit.retention.cron:0 45 3 * * ?}")
+    public void maintain() {
+        if (!isPostgres() || !isPartitioned("audit_logs")) {
+            return;
+        }
+        try {
+            createUpcomingPartitions();
+            rehomeDefaultRows();
+            int archived = archiveExpiredPartitions();
+            if (archived > 0) {
+                log.info("Archived and dropped {} audit log partitions", archived);
+            }
+        } catch (Exception e) {
+            log.error("Audit log retention failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces a plain audit_logs table with a partitioned one holding the same
+     * rows. The copy runs in short batches ordered by id, so audited writes are
+     * never blocked for long; it resumes from the staging table's highest id
+     * after a restart. The swap then copies whatever arrived since under an
+     * exclusive lock and renames the staging table into place.
+     */
+    private void convertToPartitioned() {
+        if (!tableExists("audit_logs")) {
+            transactionTemplate.executeWithoutResult(status -> createPartitionedTable("audit_logs", "",
+                    YearMonth.now()));
+            log.info("Created partitioned audit_logs table");
+            return;
+        }
+
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(timestamp) FROM audit_logs", Timestamp.class);
+        YearMonth from = oldest != null ? YearMonth.from(oldest.toLocalDateTime()) : YearMonth.now();
+        transactionTemplate.executeWithoutResult(status -> createPartitionedTable(STAGING_TABLE, STAGING_SUFFIX,
+                from));
+
+        long watermark = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + STAGING_TABLE, Long.class);
+        long copied = 0;
+        while (true) {
+            Long upper = jdbcTemplate.queryForObject("SELECT MAX(id) FROM (SELECT id FROM audit_logs WHERE id > ? "
+                    + "ORDER BY id LIMIT ?) batch", Long.class, watermark, migrationBatchSize);
+            if (upper == null) {
+                break;
+            }
+            copied += jdbcTemplate.update("INSERT INTO " + STAGING_TABLE + " (" + COLUMNS + ") SELECT "
+                    + COPY_COLUMNS + " FROM audit_logs WHERE id > ? AND id <= ? ON CONFLICT DO NOTHING",
+                    watermark, upper);
+            watermark = upper;
+        }
+
+        long lastCopied = watermark;
+        Integer tail = transactionTemplate.execute(status -> swapInStagingTable(lastCopied));
+        if (tail != null) {
+            log.info("Converted audit_logs to monthly partitions ({} rows copied, {} during the swap)", copied, tail);
+        }
+    }
+
+    /**
+     * @return rows copied under the lock, or null if another instance swapped first
+     */
+    private Integer swapInStagingTable(long watermark) {
+        jdbcTemplate.execute("LOCK TABLE audit_logs IN ACCESS EXCLUSIVE MODE");
+        if (isPartitioned("audit_logs")) {
+            return null;
+        }
+        // Rows written since the last batch, plus any that committed out of id order
+        // behind it; the window keeps this from scanning the whole table
+        int tail = jdbcTemplate.update("INSERT INTO " + STAGING_TABLE + " (" + COLUMNS + ") SELECT " + COPY_COLUMNS
+                + " FROM audit_logs u WHERE u.id > ? AND NOT EXISTS (SELECT 1 FROM " + STAGING_TABLE
+                + " p WHERE p.id = u.id)", watermark - migrationBatchSize);
+        jdbcTemplate.queryForObject("SELECT setval('audit_logs_partitioned_id_seq', "
+                + "COALESCE((SELECT MAX(id) FROM " + STAGING_TABLE + "), 0) + 1, false)", Long.class);
+        jdbcTemplate.execute("DROP TABLE audit_logs");
+        jdbcTemplate.execute("ALTER TABLE " + STAGING_TABLE + " RENAME TO audit_logs");
+        jdbcTemplate.execute("ALTER TABLE audit_logs RENAME CONSTRAINT " + STAGING_TABLE + "_pkey TO audit_logs_pkey");
+        for (String[] index : INDEXES) {
+            jdbcTemplate.execute("ALTER INDEX " + index[0] + STAGING_SUFFIX + " RENAME TO " + index[0]);
+        }
+        return tail;
+    }
+
+    private void createPartitionedTable(String table, String indexSuffix, YearMonth from) {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS audit_logs_partitioned_id_seq");
+        // The partition key has to be part of the primary key
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + table + " ("
+                + "id BIGINT NOT NULL DEFAULT nextval('audit_logs_partitioned_id_seq'), "
+                + "action VARCHAR(255) NOT NULL, "
+                + "entity_type VARCHAR(255) NOT NULL, "
+                + "entity_id BIGINT, "
+                + "performed_by VARCHAR(255) NOT NULL, "
+                + "timestamp TIMESTAMP(6) NOT NULL, "
+                + "details TEXT, "
+                + "ip_address VARCHAR(255), "
+                + "PRIMARY KEY (id, timestamp)) PARTITION BY RANGE (timestamp)");
+        jdbcTemplate.execute("ALTER SEQUENCE audit_logs_partitioned_id_seq OWNED BY " + table + ".id");
+
+        for (YearMonth month = from; !month.isAfter(YearMonth.now().plusMonths(premakeMonths));
+                month = month.plusMonths(1)) {
+            createPartition(table, month);
+        }
+        // Catches rows outside every monthly range (clock skew, far-future timestamps)
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION + " PARTITION OF " + table
+                + " DEFAULT");
+        for (String[] index : INDEXES) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + index[0] + indexSuffix + " ON " + table
+                    + " (" + index[1] + ")");
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth now = YearMonth.now();
+        for (int i = 0; i <= premakeMonths; i++) {
+            try {
+                createPartition("audit_logs", now.plusMonths(i));
+            } catch (RuntimeException e) {
+                log.warn("Could not create audit log partition for {}: {}", now.plusMonths(i), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gives rows that landed in the default partition a monthly partition of
+     * their own, so they are archived with the rest. Rows beyond the premade
+     * months stay put until their month comes into range.
+     */
+    private void rehomeDefaultRows() {
+        if (!tableExists(DEFAULT_PARTITION)) {
+            return;
+        }
+        LocalDate horizon = YearMonth.now().plusMonths(premakeMonths + 1L).atDay(1);
+        List<LocalDate> months = jdbcTemplate.queryForList("SELECT DISTINCT CAST(date_trunc('month', timestamp) "
+                + "AS DATE) FROM " + DEFAULT_PARTITION + " WHERE timestamp < ?", LocalDate.class,
+                Timestamp.valueOf(horizon.atStartOfDay()));
+        for (LocalDate month : months) {
+            try {
+                createPartition("audit_logs", YearMonth.from(month));
+            } catch (RuntimeException e) {
+                log.warn("Could not move {} audit logs out of the default partition: {}", YearMonth.from(month),
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Creates a month's partition. If the default partition already holds rows
+     * for that month, Postgres refuses a plain CREATE ... PARTITION OF, so the
+     * rows are moved into a new table that is then attached in their place.
+     */
+    private void createPartition(String table, YearMonth month) {
+        String name = partitionName(month);
+        if (tableExists(name)) {
+            return;
+        }
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        String bounds = " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+
+        boolean defaultHasRows = isPartitionOf(DEFAULT_PARTITION, table) && Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION
+                        + " WHERE timestamp >= ? AND timestamp < ?)", Boolean.class, from, to));
+        if (!defaultHasRows) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF " + table + bounds);
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Keeps new rows for the month out of the default until the partition is attached
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+            jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + table + " INCLUDING DEFAULTS)");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE timestamp >= ? AND timestamp < ? RETURNING " + COLUMNS + ") INSERT INTO " + name
+                    + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved", from, to);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ATTACH PARTITION " + name + bounds);
+            log.info("Created audit log partition {} with {} rows from the default partition", name, moved);
+        });
+    }
+
+    /**
+     * Exports every monthly partition that ended before the retention window,
+     * then detaches and drops it. A partition is only dropped after its archive
+     * has been uploaded.
+     *
+     * @return number of partitions archived
+     */
+    int archiveExpiredPartitions() {
+        LocalDate cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1);
+        List<String> partitions = jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i "
+                + "JOIN pg_class c ON c.oid = i.inhrelid WHERE i.inhparent = to_regclass('audit_logs') "
+                + "ORDER BY c.relname", String.class);
+
+        int archived = 0;
+        for (String partition : partitions) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                continue;
+            }
+            archive(partition);
+            archived++;
+        }
+        return archived;
+    }
+
+    private void archive(String partition) {
+        Path file = null;
+        try {
+            file = Files.createTempFile(partition + "-", ".ndjson.gz");
+            long rows = export(partition, file);
+            storageService.uploadFile(ARCHIVE_PREFIX + partition + ".ndjson.gz", file, "application/gzip");
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            });
+            log.info("Archived audit log partition {} ({} rows)", partition, rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive " + partition, e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Could not delete temporary archive {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams one partition into a gzip'd NDJSON file. Runs in a read-only
+     * transaction so the driver fetches with a cursor instead of loading the
+     * whole partition.
+     */
+    private long export(String partition, Path file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file))), StandardCharsets.UTF_8)) {
+            long[] rows = { 0 };
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT id, action, entity_type, "
+                        + "entity_id, performed_by, timestamp, details, ip_address FROM " + partition + " ORDER BY id");
+                statement.setFetchSize(1000);
+                return statement;
+            }, resultSet -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", resultSet.getLong("id"));
+                row.put("action", resultSet.getString("action"));
+                row.put("entityType", resultSet.getString("entity_type"));
+                row.put("entityId", resultSet.getObject("entity_id"));
+                row.put("performedBy", resultSet.getString("performed_by"));
+                row.put("timestamp", resultSet.getTimestamp("timestamp").toLocalDateTime().toString());
+                row.put("details", resultSet.getString("details"));
+                row.put("ipAddress", resultSet.getString("ip_address"));
+                try {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }));
+            return rows[0];
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("audit_logs_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private boolean isPartitioned(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p "
+                + "WHERE p.partrelid = to_regclass(CAST(? AS TEXT)))", Boolean.class, table));
+    }
+
+    private boolean isPartitionOf(String partition, String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_inherits i "
+                + "WHERE i.inhrelid = to_regclass(CAST(? AS TEXT)) AND i.inhparent = to_regclass(CAST(? AS TEXT)))", Boolean.class,
+                partition, table));
+    }
+
+    private boolean tableExists(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(CAST(? AS TEXT)) IS NOT NULL", Boolean.class,
+                table));
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
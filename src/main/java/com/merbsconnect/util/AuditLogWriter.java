@@ -0,0 +1,202 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.admin.model.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Takes audit entries off the request path. Entries go into a bounded ring
+ * buffer and a single background thread writes them as multi-row INSERTs, so
+ * auditing an admin action costs a queue offer instead of a database round
+ * trip. When the buffer is full (or the writer is stopped) the entry is
+ * written synchronously instead, so nothing is silently dropped; on shutdown
+ * the buffer is drained before the data source closes.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX = "INSERT INTO audit_logs (action, entity_type, entity_id, "
+            + "performed_by, timestamp, details, ip_address) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate fallbackTransaction;
+    private final BlockingQueue<AuditLog> buffer;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.audit.buffer-capacity:10000}") int bufferCapacity,
+                          @Value("${app.audit.batch-size:200}") int batchSize,
+                          @Value("${app.audit.flush-interval:PT1S}") Duration flushInterval,
+                          @Value("${app.audit.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        // The fallback may run from an afterCommit callback, where the caller's
+        // finished transaction is still bound to the thread
+        this.fallbackTransaction = new TransactionTemplate(transactionManager);
+        this.fallbackTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        // Seven bind parameters per row; stay well inside the driver's limit
+        this.batchSize = Math.max(1, Math.min(batchSize, 1000));
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Queues an entry for the background writer, or writes it immediately if the
+     * buffer is full or the writer is not running. Never throws.
+     */
+    public void submit(AuditLog entry) {
+        if (entry.getTimestamp() == null) {
+            entry.setTimestamp(LocalDateTime.now());
+        }
+        if (running && buffer.offer(entry)) {
+            return;
+        }
+        log.debug("Audit buffer unavailable; writing entry synchronously");
+        try {
+            fallbackTransaction.executeWithoutResult(status -> insert(List.of(entry)));
+        } catch (RuntimeException e) {
+            log.error("Audit entry lost: {} {} {} by {} ({})", entry.getAction(), entry.getEntityType(),
+                    entry.getEntityId(), entry.getPerformedBy(), e.getMessage());
+        }
+    }
+
+    /**
+     * Entries waiting to be written.
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "audit-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn("Audit writer did not finish within {}; {} entries still buffered", shutdownTimeout,
+                    buffer.size());
+            return;
+        }
+        // Entries offered between the last drain and the running flag flipping
+        List<AuditLog> rest = new ArrayList<>();
+        buffer.drainTo(rest);
+        if (!rest.isEmpty()) {
+            try {
+                write(rest);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stop after the web server has finished its graceful shutdown, so entries
+     * from the last in-flight requests are still flushed, and before the data
+     * source is closed.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditLog first = buffer.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes one batch, retrying transient failures with a short backoff. A batch
+     * that still fails is logged entry by entry rather than blocking the queue.
+     */
+    void write(List<AuditLog> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Audit batch of {} failed (attempt {}/{}): {}", batch.size(), attempt, MAX_ATTEMPTS,
+                        e.getMessage());
+                if (attempt < MAX_ATTEMPTS) {
+                    Thread.sleep(250L << attempt);
+                }
+            }
+        }
+        for (AuditLog entry : batch) {
+            log.error("Audit entry lost: {} {} {} by {} at {}", entry.getAction(), entry.getEntityType(),
+                    entry.getEntityId(), entry.getPerformedBy(), entry.getTimestamp());
+        }
+    }
+
+    private void insert(List<AuditLog> entries) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(entries.size() * 7);
+        for (int i = 0; i < entries.size(); i++) {
+            AuditLog entry = entries.get(i);
+            sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDERS);
+            args.add(entry.getAction());
+            args.add(entry.getEntityType());
+            args.add(entry.getEntityId());
+            args.add(entry.getPerformedBy());
+            // submit() fills this in; an entry that skipped it must not be retried as a DB failure
+            args.add(Timestamp.valueOf(entry.getTimestamp() != null ? entry.getTimestamp() : LocalDateTime.now()));
+            args.add(entry.getDetails());
+            args.add(entry.getIpAddress());
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,97 @@
+package com.merbsconnect.util;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the request body once up front so a filter can inspect it, then
+ * serves the same bytes to everything downstream. At most {@code maxBytes + 1}
+ * bytes are buffered, whatever the Content-Length says; a longer body (e.g. a
+ * chunked upload) is marked incomplete and served as the buffered prefix
+ * followed by the rest of the original stream.
+ */
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final ServletInputStream remainder;
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request, int maxBytes) throws IOException {
+        super(request);
+        ServletInputStream original = request.getInputStream();
+        this.body = original.readNBytes(maxBytes + 1);
+        this.remainder = body.length > maxBytes ? original : null;
+    }
+
+    /**
+     * The buffered body; the whole body only if {@link #isComplete()}.
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Whether the body fit within the limit and was buffered in full.
+     */
+    public boolean isComplete() {
+        return remainder == null;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        InputStream input = remainder == null
+                ? new ByteArrayInputStream(body)
+                : new SequenceInputStream(new ByteArrayInputStream(body), remainder);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return remainder == null ? drained() : remainder.isFinished() && drained();
+            }
+
+            private boolean drained() {
+                try {
+                    return input.available() == 0;
+                } catch (IOException e) {
+                    return true;
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read() throws IOException {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return input.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
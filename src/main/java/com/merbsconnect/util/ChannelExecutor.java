@@ -0,0 +1,194 @@
+package com.merbsconnect.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor for one async channel (email, sms, ...). Every task runs on its own
+ * virtual thread; a semaphore caps how many run at once and the number of
+ * tasks waiting for a permit is bounded. When the wait queue is full the
+ * overflow policy decides whether the submitting thread runs the task itself
+ * or the task is rejected.
+ */
+@Slf4j
+public class ChannelExecutor implements TaskExecutor, AutoCloseable {
+
+    public enum OverflowPolicy {
+        /** Run the task on the submitting thread (natural back-pressure). */
+        CALLER_RUNS,
+        /** Throw {@link RejectedExecutionException} so the caller can persist and retry. */
+        REJECT
+    }
+
+    private final String name;
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final OverflowPolicy overflowPolicy;
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private volatile boolean shutdown;
+
+    private Counter overflowCounter;
+
+    public ChannelExecutor(String name, int maxConcurrency, int maxQueued, OverflowPolicy overflowPolicy) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1 for channel " + name);
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = Math.max(0, maxQueued);
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.CALLER_RUNS;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+    }
+
+    /**
+     * Registers queue depth, active count and overflow metrics, tagged with the
+     * channel name.
+     */
+    public ChannelExecutor bindTo(MeterRegistry registry) {
+        Gauge.builder("async.channel.queued", this, ChannelExecutor::getQueued)
+                .tag("channel", name)
+                .description("Tasks waiting for a concurrency permit")
+                .register(registry);
+        Gauge.builder("async.channel.active", active, AtomicInteger::get)
+                .tag("channel", name)
+                .description("Tasks currently running")
+                .register(registry);
+        Gauge.builder("async.channel.completed", completed, AtomicLong::get)
+                .tag("channel", name)
+                .description("Tasks finished since startup")
+                .register(registry);
+        overflowCounter = Counter.builder("async.channel.overflow")
+                .tag("channel", name)
+                .tag("policy", overflowPolicy.name())
+                .description("Tasks that hit the queue limit")
+                .register(registry);
+        return this;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Channel '" + name + "' is shut down");
+        }
+
+        // Tasks holding or waiting for a permit count against maxConcurrency + maxQueued
+        if (pending.incrementAndGet() > maxConcurrency + maxQueued) {
+            pending.decrementAndGet();
+            handleOverflow(task);
+            return;
+        }
+
+        try {
+            threadFactory.newThread(() -> runWithPermit(task)).start();
+        } catch (RuntimeException | Error e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void runWithPermit(Runnable task) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            pending.decrementAndGet();
+            Thread.currentThread().interrupt();
+            log.warn("Async task on channel '{}' interrupted while waiting for a permit", name);
+            return;
+        }
+        active.incrementAndGet();
+        try {
+            task.run();
+        } catch (Throwable ex) {
+            log.error("Uncaught exception in async task on channel '{}'", name, ex);
+        } finally {
+            active.decrementAndGet();
+            pending.decrementAndGet();
+            completed.incrementAndGet();
+            permits.release();
+        }
+    }
+
+    private void handleOverflow(Runnable task) {
+        overflowed.incrementAndGet();
+        if (overflowCounter != null) {
+            overflowCounter.increment();
+        }
+        if (overflowPolicy == OverflowPolicy.REJECT) {
+            log.warn("Channel '{}' is saturated ({} running, {} queued); rejecting task", name, active.get(),
+                    getQueued());
+            throw new RejectedExecutionException("Channel '" + name + "' is saturated");
+        }
+        log.warn("Channel '{}' is saturated ({} running, {} queued); running task on caller thread", name,
+                active.get(), getQueued());
+        task.run();
+    }
+
+    /**
+     * Stops accepting new tasks and waits up to the given timeout for queued and
+     * running tasks to drain.
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        shutdown = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(50);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (!awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Channel '{}' shut down with {} running and {} queued tasks", name, active.get(),
+                        getQueued());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getQueued() {
+        return Math.max(0, pending.get() - active.get());
+    }
+
+    public int getActive() {
+        return active.get();
+    }
+
+    public long getCompleted() {
+        return completed.get();
+    }
+
+    public long getOverflowed() {
+        return overflowed.get();
+    }
+}
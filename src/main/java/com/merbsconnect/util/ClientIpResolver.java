@@ -0,0 +1,28 @@
+package com.merbsconnect.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public final class ClientIpResolver {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private ClientIpResolver() {
+    }
+
+    /**
+     * Resolves the originating client address. X-Forwarded-For is not read
+     * here: its leftmost entries are whatever the client sent. With
+     * {@code server.forward-headers-strategy=native}, Tomcat's RemoteIpValve
+     * walks the header from the right, skipping the configured internal and
+     * trusted proxies, and exposes the first other hop as the remote address.
+     * The header is only honoured when the request itself came from such a
+     * proxy.
+     */
+    public static String resolve(HttpServletRequest request) {
+        if (request == null) {
+            return UNKNOWN;
+        }
+        String remoteAddr = request.getRemoteAddr();
+        return remoteAddr != null ? remoteAddr : UNKNOWN;
+    }
+}
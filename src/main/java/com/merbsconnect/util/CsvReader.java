@@ -0,0 +1,144 @@
+package com.merbsconnect.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming RFC 4180 reader: one record at a time, so arbitrarily
+ * large uploads are parsed in constant memory. Handles quoted fields with
+ * embedded commas, doubled quotes and line breaks, CRLF or LF line endings
+ * and a leading UTF-8 byte order mark.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private int pushedBack = Integer.MIN_VALUE;
+    private boolean started;
+    private long lineNumber = 1;
+    private long recordLine;
+
+    /**
+     * @param reader         source, ideally buffered
+     * @param maxFieldLength longest field accepted before the record is rejected,
+     *                       which stops an unterminated quote from swallowing the file
+     */
+    public CsvReader(Reader reader, int maxFieldLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record's fields, or null at end of input
+     * @throws IOException on read failure or a malformed record
+     */
+    public List<String> next() throws IOException {
+        if (!started) {
+            started = true;
+            int first = read();
+            if (first != '\uFEFF') {
+                unread(first);
+            }
+        }
+
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        unread(c);
+        recordLine = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        while (true) {
+            c = read();
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    append(field, (char) c);
+                }
+                continue;
+            }
+
+            if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                if (c != EOF) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append(field, (char) c);
+                fieldStart = false;
+            }
+        }
+    }
+
+    /**
+     * Physical line on which the record last returned by {@link #next()} started
+     * (1-based), so callers can point users at the offending row.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void append(StringBuilder field, char c) throws IOException {
+        if (field.length() >= maxFieldLength) {
+            throw new IOException("Field longer than " + maxFieldLength + " characters on line " + recordLine);
+        }
+        field.append(c);
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != Integer.MIN_VALUE) {
+            int c = pushedBack;
+            pushedBack = Integer.MIN_VALUE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
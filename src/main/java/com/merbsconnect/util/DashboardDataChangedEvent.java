@@ -0,0 +1,10 @@
+package com.merbsconnect.util;
+
+/**
+ * Published after a write that changes the figures shown on the admin
+ * dashboards, so the precomputed snapshots can be rebuilt.
+ *
+ * @param source short description of the change, used for logging
+ */
+public record DashboardDataChangedEvent(String source) {
+}
@@ -0,0 +1,45 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.events.service.EventStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recounts the event_stats rollup from the source tables: once at startup, so
+ * the table is populated on first deploy and after any downtime, and then
+ * nightly to repair drift from writes made outside the services.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventStatsRepairScheduler {
+
+    private final EventStatsService eventStatsService;
+
+    @Value("${app.event-stats.repair-on-startup:true}")
+    private boolean repairOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void repairOnStartup() {
+        if (repairOnStartup) {
+            repair();
+        }
+    }
+
+    @Scheduled(cron = "${app.event-stats.repair-cron:0 30 3 * * ?}")
+    public void repair() {
+        try {
+            long start = System.currentTimeMillis();
+            int rebuilt = eventStatsService.rebuildAll();
+            log.info("Event stats repair completed: {} events in {} ms", rebuilt,
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Event stats repair failed: {}", e.getMessage(), e);
+        }
+    }
+}
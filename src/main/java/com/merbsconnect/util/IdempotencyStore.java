@@ -0,0 +1,117 @@
+package com.merbsconnect.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.merbsconnect.admin.model.IdempotencyRecord;
+import com.merbsconnect.admin.repository.IdempotencyRecordRepository;
+import com.merbsconnect.config.IdempotencyProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stores first responses for idempotent requests: completed responses are
+ * cached in memory, and the idempotency_records table is the source of truth
+ * shared by all instances. The table also arbitrates which request owns a key.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    public enum State {
+        /** The caller owns the key and must call complete or release. */
+        ACQUIRED,
+        /** Another request with this key is still being processed. */
+        IN_PROGRESS,
+        /** The key was first used with a different request body. */
+        MISMATCH,
+        /** A stored response is available for replay. */
+        COMPLETED
+    }
+
+    public record StoredResponse(int status, String contentType, String location, String body) {
+    }
+
+    public record Lookup(State state, StoredResponse response) {
+    }
+
+    private record Completed(String requestHash, StoredResponse response) {
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final Cache<String, Completed> completed;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedResponses())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    public Lookup begin(String scopeKey, String requestHash) {
+        Completed cached = completed.getIfPresent(scopeKey);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = repository.claim(scopeKey, requestHash, now, now.plus(properties.getTtl()),
+                now.minus(properties.getLockTimeout()));
+        if (claimed == 1) {
+            return new Lookup(State.ACQUIRED, null);
+        }
+
+        // Released or expired between the claim and this read: the client can simply retry
+        IdempotencyRecord record = repository.findById(scopeKey).orElse(null);
+        if (record == null) {
+            return new Lookup(State.IN_PROGRESS, null);
+        }
+        if (!record.getRequestHash().equals(requestHash)) {
+            return new Lookup(State.MISMATCH, null);
+        }
+        if (record.getResponseStatus() == null) {
+            return new Lookup(State.IN_PROGRESS, null);
+        }
+        Completed stored = new Completed(record.getRequestHash(),
+                new StoredResponse(record.getResponseStatus(), record.getContentType(),
+                        record.getLocation(), record.getResponseBody()));
+        completed.put(scopeKey, stored);
+        return new Lookup(State.COMPLETED, stored.response());
+    }
+
+    public void complete(String scopeKey, String requestHash, StoredResponse response) {
+        repository.complete(scopeKey, response.status(), response.contentType(), response.location(),
+                response.body());
+        completed.put(scopeKey, new Completed(requestHash, response));
+    }
+
+    /**
+     * Gives up a claim without storing a response, so the client can retry.
+     */
+    public void release(String scopeKey) {
+        repository.release(scopeKey);
+    }
+
+    @Scheduled(cron = "${app.idempotency.cleanup-cron:0 15 * * * *}")
+    public void deleteExpired() {
+        try {
+            int deleted = repository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("Deleted {} expired idempotency records", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Idempotency record cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private static Lookup replay(Completed stored, String requestHash) {
+        return stored.requestHash().equals(requestHash)
+                ? new Lookup(State.COMPLETED, stored.response())
+                : new Lookup(State.MISMATCH, null);
+    }
+}
@@ -0,0 +1,133 @@
+package com.merbsconnect.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Holds the latest value produced by a loader and rebuilds it in the
+ * background. Readers get the current value without waiting, except on the
+ * very first read. Refresh requests are single-flight: however many arrive,
+ * at most one rebuild runs at a time, and requests made while it runs collapse
+ * into a single follow-up rebuild.
+ * <p>
+ * A rebuild waits out the minimum rebuild interval on the executor's thread,
+ * so the executor must be dedicated to snapshots rather than shared with
+ * other background work.
+ */
+@Slf4j
+public class RefreshingSnapshot<T> {
+
+    public record Snapshot<T>(T value, Instant generatedAt) {
+
+        public Duration age() {
+            return Duration.between(generatedAt, Instant.now());
+        }
+    }
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final Executor executor;
+    private final Duration minRebuildInterval;
+
+    private final AtomicReference<Snapshot<T>> current = new AtomicReference<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final Object coldStartLock = new Object();
+
+    public RefreshingSnapshot(String name, Supplier<T> loader, Executor executor, Duration minRebuildInterval) {
+        this.name = name;
+        this.loader = loader;
+        this.executor = executor;
+        this.minRebuildInterval = minRebuildInterval;
+    }
+
+    /**
+     * Returns the latest snapshot, building it inline only if none exists yet.
+     */
+    public Snapshot<T> get() {
+        Snapshot<T> snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (coldStartLock) {
+            snapshot = current.get();
+            return snapshot != null ? snapshot : build();
+        }
+    }
+
+    /**
+     * Marks the snapshot out of date and schedules a background rebuild.
+     */
+    public void requestRefresh() {
+        dirty.set(true);
+        schedule();
+    }
+
+    /**
+     * True while a rebuild is running or pending.
+     */
+    public boolean isRefreshing() {
+        return running.get() || dirty.get();
+    }
+
+    private void schedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("Snapshot {} refresh rejected; will retry on next request", name);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (dirty.getAndSet(false)) {
+                awaitMinInterval();
+                try {
+                    build();
+                } catch (Exception e) {
+                    log.error("Failed to rebuild snapshot {}: {}", name, e.getMessage(), e);
+                }
+            }
+        } finally {
+            running.set(false);
+            // A request may have landed between the last check and releasing the flag
+            if (dirty.get()) {
+                schedule();
+            }
+        }
+    }
+
+    private void awaitMinInterval() {
+        Snapshot<T> snapshot = current.get();
+        if (snapshot == null) {
+            return;
+        }
+        long waitMillis = minRebuildInterval.minus(snapshot.age()).toMillis();
+        if (waitMillis > 0) {
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Snapshot<T> build() {
+        long start = System.currentTimeMillis();
+        Snapshot<T> snapshot = new Snapshot<>(loader.get(), Instant.now());
+        current.set(snapshot);
+        log.debug("Rebuilt snapshot {} in {} ms", name, System.currentTimeMillis() - start);
+        return snapshot;
+    }
+}
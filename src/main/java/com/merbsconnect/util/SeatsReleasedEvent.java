@@ -0,0 +1,10 @@
+package com.merbsconnect.util;
+
+/**
+ * Published when an event may have free seats again (a registration was
+ * removed or its capacity changed), so its waitlist can be promoted.
+ *
+ * @param eventId the event whose seats were released
+ */
+public record SeatsReleasedEvent(Long eventId) {
+}
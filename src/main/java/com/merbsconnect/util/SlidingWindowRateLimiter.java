@@ -0,0 +1,116 @@
+package com.merbsconnect.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory sliding-window rate limiter. Each key keeps the timestamps of its
+ * accepted attempts in an immutable array that is swapped with a CAS, so
+ * checks never block. Keys live in a bounded Caffeine cache and are dropped
+ * once idle for longer than the largest window, which caps memory use.
+ */
+public class SlidingWindowRateLimiter {
+
+    /**
+     * @param limit       attempts allowed per window
+     * @param window      length of the sliding window
+     * @param minInterval minimum gap between two accepted attempts (zero for none)
+     */
+    public record Policy(int limit, Duration window, Duration minInterval) {
+
+        public Policy(int limit, Duration window) {
+            this(limit, window, Duration.ZERO);
+        }
+    }
+
+    /**
+     * @param allowed          whether the attempt was accepted
+     * @param remaining        attempts left in the current window
+     * @param retryAfterMillis how long until the next attempt may succeed (0 when allowed)
+     */
+    public record Decision(boolean allowed, int remaining, long retryAfterMillis) {
+    }
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Cache<String, AtomicReference<long[]>> windows;
+    private final LongSupplier clock;
+
+    public SlidingWindowRateLimiter(long maxKeys, Duration idleExpiry) {
+        this(maxKeys, idleExpiry, System::currentTimeMillis);
+    }
+
+    public SlidingWindowRateLimiter(long maxKeys, Duration idleExpiry, LongSupplier clock) {
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * Records an attempt for the key if the policy allows it.
+     */
+    public Decision tryAcquire(String key, Policy policy) {
+        AtomicReference<long[]> ref = windows.get(key, k -> new AtomicReference<>(EMPTY));
+        long windowMillis = policy.window().toMillis();
+        long minIntervalMillis = policy.minInterval().toMillis();
+
+        while (true) {
+            long now = clock.getAsLong();
+            long[] current = ref.get();
+            long[] live = prune(current, now - windowMillis);
+
+            if (live.length > 0 && minIntervalMillis > 0) {
+                long sinceLast = now - live[live.length - 1];
+                if (sinceLast < minIntervalMillis) {
+                    compact(ref, current, live);
+                    return new Decision(false, Math.max(0, policy.limit() - live.length),
+                            minIntervalMillis - sinceLast);
+                }
+            }
+            if (live.length >= policy.limit()) {
+                compact(ref, current, live);
+                long retryAfter = live[live.length - policy.limit()] + windowMillis - now;
+                return new Decision(false, 0, Math.max(1, retryAfter));
+            }
+
+            long[] next = Arrays.copyOf(live, live.length + 1);
+            next[live.length] = now;
+            if (ref.compareAndSet(current, next)) {
+                return new Decision(true, policy.limit() - next.length, 0);
+            }
+        }
+    }
+
+    /**
+     * Forgets all attempts for the key, e.g. after a successful login.
+     */
+    public void reset(String key) {
+        windows.invalidate(key);
+    }
+
+    public long trackedKeys() {
+        return windows.estimatedSize();
+    }
+
+    private static long[] prune(long[] timestamps, long cutoff) {
+        int first = 0;
+        while (first < timestamps.length && timestamps[first] <= cutoff) {
+            first++;
+        }
+        return first == 0 ? timestamps : Arrays.copyOfRange(timestamps, first, timestamps.length);
+    }
+
+    private static void compact(AtomicReference<long[]> ref, long[] current, long[] live) {
+        if (live != current) {
+            // Best effort: losing this race only means expired entries linger until the next check
+            ref.compareAndSet(current, live);
+        }
+    }
+}
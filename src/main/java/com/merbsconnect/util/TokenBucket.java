@@ -0,0 +1,63 @@
+package com.merbsconnect.util;
+
+import java.time.Duration;
+
+/**
+ * Token bucket that refills continuously at {@code refillTokens} per
+ * {@code refillPeriod}, up to {@code capacity}. Refill is computed lazily on
+ * each call, so an idle bucket costs nothing; the critical section is a few
+ * arithmetic operations on a single bucket.
+ */
+public final class TokenBucket {
+
+    /**
+     * @param allowed         whether a token was taken
+     * @param remaining       whole tokens left after this call
+     * @param nanosUntilToken time until the next token is available (0 when allowed)
+     */
+    public record Result(boolean allowed, long remaining, long nanosUntilToken) {
+    }
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private long tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, long refillTokens, Duration refillPeriod, long nowNanos) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("Token bucket capacity, refill tokens and period must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1, refillPeriod.toNanos() / refillTokens);
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    public synchronized Result tryConsume(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed >= nanosPerToken) {
+            long added = elapsed / nanosPerToken;
+            if (added >= capacity - tokens) {
+                tokens = capacity;
+                lastRefillNanos = nowNanos;
+            } else {
+                tokens += added;
+                // Keep the partial period so slow trickles still earn their token
+                lastRefillNanos += added * nanosPerToken;
+            }
+        }
+        if (tokens > 0) {
+            if (tokens == capacity) {
+                // A full bucket accrues nothing, so the refill clock starts now
+                lastRefillNanos = nowNanos;
+            }
+            tokens--;
+            return new Result(true, tokens, 0);
+        }
+        return new Result(false, 0, nanosPerToken - (nowNanos - lastRefillNanos));
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+}
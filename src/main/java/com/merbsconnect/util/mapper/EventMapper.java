@@ -2,14 +2,12 @@ package com.merbsconnect.util.mapper;
 
 import com.merbsconnect.dto.response.PageResponse;
 import com.merbsconnect.events.dto.request.CreateEventRequest;
-import com.merbsconnect.events.dto.request.EventRegistrationDto;
 import com.merbsconnect.events.dto.response.EventItineraryItemResponse;
 import com.merbsconnect.events.dto.response.EventResponse;
 import com.merbsconnect.events.dto.response.EventSpeakerResponse;
 import com.merbsconnect.events.model.Event;
 import com.merbsconnect.events.model.EventItineraryItem;
 import com.merbsconnect.events.model.EventSpeaker;
-import com.merbsconnect.events.model.Registration;
 import org.springframework.data.domain.Page;
 
 import java.util.Collections;
@@ -34,6 +32,7 @@ public class EventMapper {
                 .sponsors(request.getSponsors())
                 .contacts(request.getContacts())
                 .theme(request.getTheme())
+                .capacity(request.getCapacity())
                 .build();
     }
 
@@ -50,6 +49,7 @@ public class EventMapper {
                 .sponsors(event.getSponsors() != null ? new java.util.LinkedHashSet<>(event.getSponsors()) : null)
                 .contacts(event.getContacts() != null ? new java.util.LinkedHashSet<>(event.getContacts()) : null)
                 .theme(event.getTheme())
+                .capacity(event.getCapacity())
                 .speakersV2(mapSpeakersV2(event.getSpeakersV2()))
                 .itinerary(mapItinerary(event.getItinerary()))
                 .build();
@@ -69,20 +69,7 @@ public class EventMapper {
                 .time(event.getTime())
                 .imageUrl(event.getImageUrl())
                 .theme(event.getTheme())
-                .build();
-    }
-
-    public static Registration mapToRegistration(EventRegistrationDto registrationDto) {
-        return Registration.builder()
-                .name(registrationDto.getName())
-                .email(registrationDto.getEmail())
-                .phone(registrationDto.getPhone())
-                .note(registrationDto.getNote())
-                .program(registrationDto.getProgram())
-                .academicLevel(registrationDto.getAcademicLevel())
-                .university(registrationDto.getUniversity())
-                .referralSource(registrationDto.getReferralSource())
-                .referralSourceOther(registrationDto.getReferralSourceOther())
+                .capacity(event.getCapacity())
                 .build();
     }
 
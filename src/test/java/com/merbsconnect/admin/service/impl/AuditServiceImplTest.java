@@ -3,9 +3,11 @@ package com.merbsconnect.admin.service.impl;
 import com.merbsconnect.admin.dto.response.AuditLogResponse;
 import com.merbsconnect.admin.model.AuditLog;
 import com.merbsconnect.admin.repository.AuditLogRepository;
+import com.merbsconnect.util.AuditLogWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -31,6 +33,9 @@ class AuditServiceImplTest {
     @Mock
     private AuditLogRepository auditLogRepository;
 
+    @Mock
+    private AuditLogWriter auditLogWriter;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -41,7 +46,7 @@ class AuditServiceImplTest {
     private AuditServiceImpl auditService;
 
     @Test
-    @DisplayName("logAction should save audit log")
+    @DisplayName("logAction should queue the audit log without touching the repository")
     void testLogAction() {
         // Arrange
         SecurityContextHolder.setContext(securityContext);
@@ -53,7 +58,11 @@ class AuditServiceImplTest {
         auditService.logAction("CREATE", "User", 1L, "details");
 
         // Assert
-        verify(auditLogRepository).save(any(AuditLog.class));
+        ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogWriter).submit(captor.capture());
+        assertThat(captor.getValue().getPerformedBy()).isEqualTo("admin");
+        assertThat(captor.getValue().getTimestamp()).isNotNull();
+        verify(auditLogRepository, never()).save(any(AuditLog.class));
     }
 
     @Test
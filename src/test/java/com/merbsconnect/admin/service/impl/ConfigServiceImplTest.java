@@ -68,7 +68,7 @@ class ConfigServiceImplTest {
                 .configKey("TEST_KEY")
                 .configValue("TEST_VALUE")
                 .build();
-        when(configRepository.findByConfigKey("TEST_KEY")).thenReturn(Optional.of(config));
+        when(configRepository.findAll()).thenReturn(Collections.singletonList(config));
 
         // Act
         Optional<ConfigResponse> result = configService.getConfig("TEST_KEY");
@@ -78,6 +78,33 @@ class ConfigServiceImplTest {
         assertThat(result.get().getConfigValue()).isEqualTo("TEST_VALUE");
     }
 
+    @Test
+    @DisplayName("Reads are served from the snapshot and updates are swapped in")
+    void testSnapshotServesReadsAndUpdates() {
+        // Arrange
+        SystemConfig config = SystemConfig.builder()
+                .configKey("MAINTENANCE_MODE")
+                .configValue("false")
+                .build();
+        when(configRepository.findAll()).thenReturn(Collections.singletonList(config));
+        when(configRepository.findByConfigKey("MAINTENANCE_MODE")).thenReturn(Optional.of(config));
+        when(configRepository.save(any(SystemConfig.class))).thenReturn(config);
+
+        // Act
+        boolean before = configService.getBoolean("MAINTENANCE_MODE", true);
+        configService.getConfig("MAINTENANCE_MODE");
+        configService.updateConfig(UpdateConfigRequest.builder()
+                .configKey("MAINTENANCE_MODE")
+                .configValue("true")
+                .build());
+
+        // Assert
+        assertThat(before).isFalse();
+        assertThat(configService.getBoolean("MAINTENANCE_MODE", false)).isTrue();
+        assertThat(configService.getInt("MISSING", 7)).isEqualTo(7);
+        verify(configRepository, times(1)).findAll();
+    }
+
     @Test
     @DisplayName("updateConfig should update and log audit trail")
     void testUpdateConfig() {
@@ -4,8 +4,8 @@ import com.merbsconnect.admin.dto.response.SystemStatsResponse;
 import com.merbsconnect.admin.repository.AuditLogRepository;
 import com.merbsconnect.authentication.repository.UserRepository;
 import com.merbsconnect.enums.UserStatus;
-import com.merbsconnect.events.model.Event;
 import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.EventStatsRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,8 +13,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +31,9 @@ class SystemMonitoringServiceImplTest {
     @Mock
     private AuditLogRepository auditLogRepository;
 
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
     @InjectMocks
     private SystemMonitoringServiceImpl systemService;
 
@@ -40,14 +41,11 @@ class SystemMonitoringServiceImplTest {
     @DisplayName("getSystemStats should return comprehensive stats")
     void testGetSystemStats() {
         // Arrange
-        Event event = new Event();
-        event.setRegistrations(new HashSet<>());
-
         when(userRepository.count()).thenReturn(10L);
         when(userRepository.countByStatus(UserStatus.ACTIVE)).thenReturn(5L);
         when(eventRepository.count()).thenReturn(2L);
-        when(auditLogRepository.countBy()).thenReturn(100L);
-        when(eventRepository.findAll()).thenReturn(Collections.singletonList(event));
+        when(auditLogRepository.estimateCount()).thenReturn(100L);
+        when(eventStatsRepository.sumRegistrations()).thenReturn(7L);
 
         // Act
         SystemStatsResponse stats = systemService.getSystemStats();
@@ -57,6 +55,7 @@ class SystemMonitoringServiceImplTest {
         assertThat(stats.getTotalUsers()).isEqualTo(10L);
         assertThat(stats.getActiveUsers()).isEqualTo(5L);
         assertThat(stats.getTotalEvents()).isEqualTo(2L);
+        assertThat(stats.getTotalRegistrations()).isEqualTo(7L);
         assertThat(stats.getTotalAuditLogs()).isEqualTo(100L);
         assertThat(stats.getMetrics()).isNotEmpty(); // Should verify JVM metrics are populated
     }
@@ -10,6 +10,7 @@ import com.merbsconnect.admin.service.AuditService;
 import com.merbsconnect.authentication.domain.User;
 import com.merbsconnect.authentication.dto.response.MessageResponse;
 import com.merbsconnect.authentication.repository.UserRepository;
+import com.merbsconnect.authentication.security.UserPrincipalCache;
 import com.merbsconnect.enums.UserRole;
 import com.merbsconnect.enums.UserStatus;
 import com.merbsconnect.exception.BusinessException;
@@ -55,6 +56,9 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -185,6 +189,7 @@ class UserServiceImplTest {
 
         verify(userRepository).findById(1L);
         verify(userRepository).save(testUser);
+        verify(userPrincipalCache, atLeastOnce()).evict("john.doe@example.com");
         verify(auditService).logAction(eq("UPDATE"), eq("User"), eq(1L), anyString());
     }
 
@@ -0,0 +1,145 @@
+package com.merbsconnect.authentication.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.merbsconnect.admin.model.IdempotencyRecord;
+import com.merbsconnect.admin.repository.IdempotencyRecordRepository;
+import com.merbsconnect.config.IdempotencyProperties;
+import com.merbsconnect.util.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/api/v1/events/1/register";
+    private static final String BODY = "{\"email\":\"ama@example.com\"}";
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyFilter filter;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    // Stands in for the controller: creates a registration and answers 201
+    private final FilterChain controller = (request, response) -> {
+        invocations.incrementAndGet();
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setHeader("Location", "/api/v1/registrations/5");
+        http.setContentType("application/json");
+        http.getOutputStream().write("{\"id\":5}".getBytes(StandardCharsets.UTF_8));
+    };
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaxBodyBytes(64);
+        filter = new IdempotencyFilter(properties, new IdempotencyStore(repository, properties),
+                new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Stores the first response for a key")
+    void storesFirstResponse() throws Exception {
+        when(repository.claim(anyString(), eq(sha256(BODY)), any(), any(), any())).thenReturn(1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(BODY), response, controller);
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":5}");
+        verify(repository).complete(anyString(), eq(201), eq("application/json"), eq("/api/v1/registrations/5"),
+                eq("{\"id\":5}"));
+        verify(repository, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("Replays status, body and headers to a retry without running the controller again")
+    void replaysStoredResponse() throws Exception {
+        when(repository.claim(anyString(), eq(sha256(BODY)), any(), any(), any())).thenReturn(1);
+        filter.doFilter(request(BODY), new MockHttpServletResponse(), controller);
+
+        MockHttpServletResponse retry = new MockHttpServletResponse();
+        filter.doFilter(request(BODY), retry, controller);
+
+        assertThat(invocations).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo("{\"id\":5}");
+        assertThat(retry.getContentType()).startsWith("application/json");
+        assertThat(retry.getHeader("Location")).isEqualTo("/api/v1/registrations/5");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Answers 409 while the first request with the key is still running")
+    void conflictWhileInFlight() throws Exception {
+        when(repository.claim(anyString(), eq(sha256(BODY)), any(), any(), any())).thenReturn(0);
+        when(repository.findById(anyString())).thenReturn(Optional.of(IdempotencyRecord.builder()
+                .requestHash(sha256(BODY))
+                .build()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(BODY), response, controller);
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getContentAsString()).contains("IDEMPOTENCY_KEY_IN_USE");
+        assertThat(invocations).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Passes a chunked body over the limit through untouched")
+    void passesOversizedBodyThrough() throws Exception {
+        String body = "x".repeat(200);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setServletPath(PATH);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        AtomicReference<String> received = new AtomicReference<>();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                received.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8)));
+
+        assertThat(received).hasValue(body);
+        verifyNoInteractions(repository);
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.setServletPath(PATH);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String sha256(String value) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,46 @@
+package com.merbsconnect.authentication.service.impl;
+
+import com.merbsconnect.authentication.domain.TokenType;
+import com.merbsconnect.config.RateLimitConfig;
+import com.merbsconnect.exception.RateLimitException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimitServiceImpl Tests")
+class RateLimitServiceImplTest {
+
+    private RateLimitServiceImpl rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new RateLimitServiceImpl(new RateLimitConfig());
+        rateLimitService.init();
+    }
+
+    @Test
+    @DisplayName("Login attempts for one account are limited whatever address they come from")
+    void loginLimitedPerAccountAcrossAddresses() {
+        for (int i = 0; i < 5; i++) {
+            rateLimitService.checkLogin("user@example.com", "203.0.113." + i);
+        }
+
+        assertThatThrownBy(() -> rateLimitService.checkLogin(" User@Example.com ", "198.51.100.7"))
+                .isInstanceOf(RateLimitException.class);
+        assertThatCode(() -> rateLimitService.checkLogin("other@example.com", "198.51.100.7"))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Token requests for one email are limited whatever address they come from")
+    void tokenRequestsLimitedPerEmailAcrossAddresses() {
+        rateLimitService.checkTokenRequest("user@example.com", "203.0.113.1", TokenType.PASSWORD_RESET);
+
+        assertThatThrownBy(() -> rateLimitService.checkTokenRequest("user@example.com", "203.0.113.2",
+                TokenType.PASSWORD_RESET))
+                .isInstanceOf(RateLimitException.class);
+    }
+}
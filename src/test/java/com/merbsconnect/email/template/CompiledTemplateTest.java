@@ -0,0 +1,53 @@
+package com.merbsconnect.email.template;
+
+import com.merbsconnect.email.exception.TemplateProcessingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompiledTemplate Tests")
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("render should substitute every placeholder occurrence")
+    void testRenderSubstitutesPlaceholders() {
+        CompiledTemplate template = CompiledTemplate.compile("test",
+                "<p>Hi {{name}}</p><p>{{ event }} - {{name}}</p>");
+
+        String result = template.render(Map.of("name", "Ama", "event", "StartRight"));
+
+        assertThat(result).isEqualTo("<p>Hi Ama</p><p>StartRight - Ama</p>");
+        assertThat(template.getVariables()).containsExactly("name", "event", "name");
+    }
+
+    @Test
+    @DisplayName("render should HTML-escape variable values")
+    void testRenderEscapesValues() {
+        CompiledTemplate template = CompiledTemplate.compile("test", "<a href=\"{{link}}\">{{name}}</a>");
+
+        String result = template.render(Map.of("link", "https://x.com/?a=1&b=2", "name", "<b>\"O'Neil\"</b>"));
+
+        assertThat(result).isEqualTo(
+                "<a href=\"https://x.com/?a=1&amp;b=2\">&lt;b&gt;&quot;O&#39;Neil&quot;&lt;/b&gt;</a>");
+    }
+
+    @Test
+    @DisplayName("render should treat missing variables as empty")
+    void testRenderMissingVariable() {
+        CompiledTemplate template = CompiledTemplate.compile("test", "[{{missing}}]");
+
+        assertThat(template.render(Map.of())).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("compile should reject unclosed placeholders")
+    void testCompileRejectsUnclosedPlaceholder() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "Hello {{name"))
+                .isInstanceOf(TemplateProcessingException.class)
+                .hasMessageContaining("broken");
+    }
+}
@@ -0,0 +1,132 @@
+package com.merbsconnect.events.service;
+
+import com.merbsconnect.events.dto.request.EventRegistrationDto;
+import com.merbsconnect.events.model.Event;
+import com.merbsconnect.events.model.EventRegistration;
+import com.merbsconnect.events.model.WaitlistEntry;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.WaitlistEntryRepository;
+import com.merbsconnect.util.SeatsReleasedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitlistPromotionWorker Tests")
+class WaitlistPromotionWorkerTest {
+
+    @Mock
+    private WaitlistEntryRepository waitlistRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventRegistrationRepository registrationRepository;
+
+    @Mock
+    private EventStatsService eventStatsService;
+
+    @Mock
+    private CheckInService checkInService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private WaitlistPromotionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        worker = new WaitlistPromotionWorker(waitlistRepository, eventRepository, registrationRepository,
+                eventStatsService, checkInService, transactionTemplate, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("A cancelled registration's seat goes to the oldest waitlist entry")
+    void promotesIntoReleasedSeat() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(2)));
+        when(eventStatsService.tryClaimSeat(1L, 2)).thenReturn(true, false);
+        when(waitlistRepository.lockNextId(1L)).thenReturn(Optional.of(7L));
+        WaitlistEntry oldest = entry(7L, "first@example.com");
+        when(waitlistRepository.findById(7L)).thenReturn(Optional.of(oldest));
+        when(registrationRepository.findByEventIdAndEmailIgnoreCase(1L, "first@example.com"))
+                .thenReturn(Optional.empty());
+
+        worker.onSeatsReleased(new SeatsReleasedEvent(1L));
+
+        ArgumentCaptor<EventRegistrationDto> registered = ArgumentCaptor.forClass(EventRegistrationDto.class);
+        verify(checkInService).registerIgnoringCapacity(eq(1L), registered.capture());
+        assertThat(registered.getValue().getEmail()).isEqualTo("first@example.com");
+        verify(waitlistRepository).delete(oldest);
+    }
+
+    @Test
+    @DisplayName("A raised capacity fills every newly opened seat")
+    void fillsSeatsOpenedByRaisedCapacity() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(3)));
+        when(eventStatsService.tryClaimSeat(1L, 3)).thenReturn(true, true, false);
+        when(waitlistRepository.lockNextId(1L)).thenReturn(Optional.of(7L), Optional.of(8L));
+        when(waitlistRepository.findById(7L)).thenReturn(Optional.of(entry(7L, "first@example.com")));
+        when(waitlistRepository.findById(8L)).thenReturn(Optional.of(entry(8L, "second@example.com")));
+        when(registrationRepository.findByEventIdAndEmailIgnoreCase(eq(1L), anyString()))
+                .thenReturn(Optional.empty());
+
+        worker.onSeatsReleased(new SeatsReleasedEvent(1L));
+
+        verify(checkInService, times(2)).registerIgnoringCapacity(eq(1L), any(EventRegistrationDto.class));
+        verify(waitlistRepository, times(2)).delete(any(WaitlistEntry.class));
+    }
+
+    @Test
+    @DisplayName("Leaves the waitlist alone while the event is still full")
+    void doesNothingWhenFull() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(2)));
+        when(eventStatsService.tryClaimSeat(1L, 2)).thenReturn(false);
+
+        worker.onSeatsReleased(new SeatsReleasedEvent(1L));
+
+        verify(waitlistRepository, never()).lockNextId(any());
+        verifyNoInteractions(checkInService);
+    }
+
+    @Test
+    @DisplayName("Drops an entry whose email registered by another path")
+    void dropsAlreadyRegisteredEntry() {
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event(2)));
+        when(eventStatsService.tryClaimSeat(1L, 2)).thenReturn(true, false);
+        when(waitlistRepository.lockNextId(1L)).thenReturn(Optional.of(7L));
+        WaitlistEntry stale = entry(7L, "first@example.com");
+        when(waitlistRepository.findById(7L)).thenReturn(Optional.of(stale));
+        when(registrationRepository.findByEventIdAndEmailIgnoreCase(1L, "first@example.com"))
+                .thenReturn(Optional.of(EventRegistration.builder().id(3L).build()));
+
+        worker.onSeatsReleased(new SeatsReleasedEvent(1L));
+
+        verify(waitlistRepository).delete(stale);
+        verifyNoInteractions(checkInService);
+    }
+
+    private static Event event(int capacity) {
+        return Event.builder().id(1L).title("Launch").capacity(capacity).build();
+    }
+
+    private static WaitlistEntry entry(Long id, String email) {
+        return WaitlistEntry.builder().id(id).eventId(1L).email(email).name("Guest").build();
+    }
+}
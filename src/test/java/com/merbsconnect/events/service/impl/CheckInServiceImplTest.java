@@ -0,0 +1,157 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.email.service.EmailService;
+import com.merbsconnect.events.dto.request.EventRegistrationDto;
+import com.merbsconnect.events.dto.response.RegistrationDetailsResponse;
+import com.merbsconnect.events.model.Event;
+import com.merbsconnect.events.model.EventRegistration;
+import com.merbsconnect.events.model.WaitlistEntry;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.WaitlistEntryRepository;
+import com.merbsconnect.events.service.EventStatsService;
+import com.merbsconnect.sms.dtos.request.BulkSmsRequest;
+import com.merbsconnect.sms.service.SmsService;
+import com.merbsconnect.startright.repository.TShirtRequestRepository;
+import com.merbsconnect.util.QrCodeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CheckInServiceImpl Tests")
+class CheckInServiceImplTest {
+
+    @Mock
+    private EventRegistrationRepository registrationRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TShirtRequestRepository tShirtRequestRepository;
+
+    @Mock
+    private QrCodeService qrCodeService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private SmsService smsService;
+
+    @Mock
+    private EventStatsService eventStatsService;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @InjectMocks
+    private CheckInServiceImpl checkInService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("A full event puts the signup on the waitlist")
+    void fullEventJoinsWaitlist() {
+        Event event = cappedEvent();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(waitlistEntryRepository.existsByEventId(1L)).thenReturn(false);
+        when(eventStatsService.tryClaimSeat(1L, 1)).thenReturn(false);
+        when(registrationRepository.findByEventIdAndEmailIgnoreCase(1L, "ama@example.com"))
+                .thenReturn(Optional.empty());
+        when(waitlistEntryRepository.findByEventIdAndEmailIgnoreCase(1L, "ama@example.com"))
+                .thenReturn(Optional.empty());
+        when(waitlistEntryRepository.save(any(WaitlistEntry.class))).thenAnswer(inv -> {
+            WaitlistEntry entry = inv.getArgument(0);
+            entry.setId(9L);
+            return entry;
+        });
+        when(waitlistEntryRepository.positionOf(1L, 9L)).thenReturn(3L);
+
+        RegistrationDetailsResponse response = checkInService.registerForEventV2(1L, signup());
+
+        assertThat(response.getStatus()).isEqualTo("WAITLISTED");
+        assertThat(response.getWaitlistPosition()).isEqualTo(3);
+        verify(registrationRepository, never()).findByRegistrationToken(anyString());
+        verify(eventStatsService, never()).recordRegistration(any());
+    }
+
+    @Test
+    @DisplayName("Newcomers queue behind an existing waitlist without claiming a seat")
+    void queuesBehindExistingWaitlist() {
+        Event event = cappedEvent();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(waitlistEntryRepository.existsByEventId(1L)).thenReturn(true);
+        when(registrationRepository.findByEventIdAndEmailIgnoreCase(1L, "ama@example.com"))
+                .thenReturn(Optional.empty());
+        when(waitlistEntryRepository.findByEventIdAndEmailIgnoreCase(1L, "ama@example.com"))
+                .thenReturn(Optional.of(WaitlistEntry.builder().id(4L).eventId(1L)
+                        .email("ama@example.com").name("Ama").build()));
+        when(waitlistEntryRepository.positionOf(1L, 4L)).thenReturn(1L);
+
+        RegistrationDetailsResponse response = checkInService.registerForEventV2(1L, signup());
+
+        assertThat(response.getStatus()).isEqualTo("WAITLISTED");
+        verify(eventStatsService, never()).tryClaimSeat(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Registers into a free seat and notifies only after commit")
+    void claimsSeatAndNotifiesAfterCommit() {
+        Event event = cappedEvent();
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(waitlistEntryRepository.existsByEventId(1L)).thenReturn(false);
+        when(eventStatsService.tryClaimSeat(1L, 1)).thenReturn(true);
+        when(qrCodeService.generateTokenQrCode(anyString())).thenReturn("qr");
+        when(registrationRepository.insertIfAbsent(any(), any(), any(), any(), any(), any(), any(), anyBoolean(),
+                any(), any(), any(), any(), any(), any(), any())).thenReturn(1);
+        when(registrationRepository.findByRegistrationToken(anyString())).thenAnswer(inv -> Optional.of(
+                EventRegistration.builder().id(5L).event(event).email("ama@example.com").name("Ama")
+                        .phone("0241234567").registrationToken(inv.getArgument(0)).qrCodeBase64("qr").build()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        RegistrationDetailsResponse response = checkInService.registerForEventV2(1L, signup());
+
+        assertThat(response.getStatus()).isEqualTo("REGISTERED");
+        verifyNoInteractions(smsService, emailService);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(smsService).sendBulkSms(any(BulkSmsRequest.class));
+        verify(emailService).sendRegistrationConfirmationEmail(eq("ama@example.com"), eq("Ama"), any(), any(),
+                any(), any(), eq("qr"), anyString());
+    }
+
+    private static Event cappedEvent() {
+        return Event.builder().id(1L).title("Launch").capacity(1).build();
+    }
+
+    private static EventRegistrationDto signup() {
+        return EventRegistrationDto.builder()
+                .email("ama@example.com")
+                .name("Ama")
+                .phone("0241234567")
+                .build();
+    }
+}
@@ -1,11 +1,17 @@
 package com.merbsconnect.events.service.impl;
 
 import com.merbsconnect.authentication.dto.response.MessageResponse;
+import com.merbsconnect.enums.CheckInMethod;
 import com.merbsconnect.events.dto.response.*;
 import com.merbsconnect.events.model.Event;
-import com.merbsconnect.events.model.Registration;
+import com.merbsconnect.events.model.EventRegistration;
+import com.merbsconnect.events.model.EventStats;
 import com.merbsconnect.events.model.Speaker;
+import com.merbsconnect.events.repository.EventRegistrationRepository;
 import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.EventStatsRepository;
+import com.merbsconnect.events.service.EventPurgeService;
+import com.merbsconnect.events.service.EventStatsService;
 import com.merbsconnect.exception.BusinessException;
 import com.merbsconnect.sms.service.SmsService;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,25 +44,30 @@ class EventServiceImplAdminTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+
     @Mock
     private SmsService smsService;
 
+    @Mock
+    private EventStatsService eventStatsService;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    @Mock
+    private EventPurgeService eventPurgeService;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
     private Event testEvent;
-    private Registration testRegistration;
     private Speaker testSpeaker;
 
     @BeforeEach
     void setUp() {
         // Setup test data
-        testRegistration = Registration.builder()
-                .email("test@example.com")
-                .name("Test User")
-                .phone("+1234567890")
-                .build();
-
         testSpeaker = Speaker.builder()
                 .name("John Doe")
                 .bio("Expert speaker")
@@ -69,7 +80,6 @@ class EventServiceImplAdminTest {
                 .description("Test Description")
                 .location("Test Location")
                 .date(LocalDate.now().plusDays(7))
-                .registrations(new HashSet<>(Collections.singletonList(testRegistration)))
                 .speakers(new HashSet<>(Collections.singletonList(testSpeaker)))
                 .build();
     }
@@ -78,13 +88,10 @@ class EventServiceImplAdminTest {
     @DisplayName("getEventStats should return correct statistics")
     void testGetEventStats() {
         // Arrange
-        List<Event> allEvents = Arrays.asList(testEvent);
         when(eventRepository.count()).thenReturn(1L);
-        when(eventRepository.findEventByDateAfter(any(LocalDate.class), any(Pageable.class)))
-                .thenReturn(new PageImpl<>(Collections.singletonList(testEvent)));
-        when(eventRepository.findEventByDateBefore(any(LocalDate.class), any(Pageable.class)))
-                .thenReturn(Page.empty());
-        when(eventRepository.findAll()).thenReturn(allEvents);
+        when(eventRepository.countByDateAfter(any(LocalDate.class))).thenReturn(1L);
+        when(eventRepository.countByDateBefore(any(LocalDate.class))).thenReturn(0L);
+        when(eventStatsRepository.sumRegistrations()).thenReturn(1L);
 
         // Act
         EventStatsResponse stats = eventService.getEventStats();
@@ -98,7 +105,8 @@ class EventServiceImplAdminTest {
         assertThat(stats.getAverageRegistrationsPerEvent()).isEqualTo(1.0);
 
         verify(eventRepository).count();
-        verify(eventRepository).findAll();
+        verify(eventStatsRepository).sumRegistrations();
+        verify(eventRepository, never()).findAll();
     }
 
     @Test
@@ -106,6 +114,7 @@ class EventServiceImplAdminTest {
     void testGetEventAnalytics() {
         // Arrange
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventStatsService.getStats(1L)).thenReturn(EventStats.builder().eventId(1L).registrations(1L).build());
 
         // Act
         EventAnalyticsResponse analytics = eventService.getEventAnalytics(1L);
@@ -139,19 +148,21 @@ class EventServiceImplAdminTest {
     @DisplayName("deleteRegistration should remove registration successfully")
     void testDeleteRegistration() {
         // Arrange
+        EventRegistration registration = v2Registration("test@example.com");
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(eventRegistrationRepository.findByEventIdAndEmailIgnoreCase(1L, "Test@Example.com"))
+                .thenReturn(Optional.of(registration));
 
         // Act
-        MessageResponse response = eventService.deleteRegistration(1L, "test@example.com");
+        MessageResponse response = eventService.deleteRegistration(1L, "Test@Example.com");
 
         // Assert
         assertThat(response).isNotNull();
         assertThat(response.getMessage()).contains("deleted successfully");
-        assertThat(testEvent.getRegistrations()).isEmpty();
 
-        verify(eventRepository).findById(1L);
-        verify(eventRepository).save(testEvent);
+        verify(eventRegistrationRepository).delete(registration);
+        verify(eventStatsService).recordRegistrationRemoved(registration);
+        verify(eventRepository, never()).save(any());
     }
 
     @Test
@@ -159,22 +170,41 @@ class EventServiceImplAdminTest {
     void testDeleteRegistrationNotFound() {
         // Arrange
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRegistrationRepository.findByEventIdAndEmailIgnoreCase(1L, "nonexistent@example.com"))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> eventService.deleteRegistration(1L, "nonexistent@example.com"))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Registration not found");
 
-        verify(eventRepository).findById(1L);
-        verify(eventRepository, never()).save(any());
+        verify(eventRegistrationRepository, never()).delete(any());
+        verify(eventStatsService, never()).recordRegistrationRemoved(any());
+    }
+
+    @Test
+    @DisplayName("deleteEvent should report a background purge for large events")
+    void testDeleteEventScheduled() {
+        // Arrange
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventPurgeService.deleteEvent(1L)).thenReturn(false);
+
+        // Act
+        MessageResponse response = eventService.deleteEvent(1L);
+
+        // Assert
+        assertThat(response.getMessage()).contains("scheduled");
+        verify(eventRepository, never()).delete(any(Event.class));
     }
 
     @Test
     @DisplayName("getRegistrationStats should return stats for all events")
     void testGetRegistrationStats() {
         // Arrange
-        List<Event> events = Collections.singletonList(testEvent);
-        when(eventRepository.findAll()).thenReturn(events);
+        when(eventStatsRepository.findRegistrationCountsByEvent(null, null))
+                .thenReturn(Collections.singletonList(new Object[] { "Test Event", 1L }));
+        when(eventStatsRepository.findTopEvents(any(Pageable.class)))
+                .thenReturn(Collections.singletonList(new Object[] { 1L, "Test Event", 1L }));
 
         // Act
         RegistrationStatsResponse stats = eventService.getRegistrationStats(null, null);
@@ -185,7 +215,7 @@ class EventServiceImplAdminTest {
         assertThat(stats.getRegistrationsByEvent()).hasSize(1);
         assertThat(stats.getTopEventsByRegistrations()).hasSize(1);
 
-        verify(eventRepository).findAll();
+        verify(eventRepository, never()).findAll();
     }
 
     @Test
@@ -211,10 +241,10 @@ class EventServiceImplAdminTest {
         // Arrange
         List<Event> events = Collections.singletonList(testEvent);
         when(eventRepository.count()).thenReturn(1L);
-        when(eventRepository.findEventByDateAfter(any(), any())).thenReturn(new PageImpl<>(events));
-        when(eventRepository.findEventByDateBefore(any(), any())).thenReturn(Page.empty());
-        when(eventRepository.findAll()).thenReturn(events);
+        when(eventStatsRepository.sumRegistrations()).thenReturn(1L);
         when(eventRepository.findAll(any(PageRequest.class))).thenReturn(new PageImpl<>(events));
+        when(eventStatsRepository.findTopEvents(any(Pageable.class)))
+                .thenReturn(Collections.singletonList(new Object[] { 1L, "Test Event", 1L }));
 
         // Act
         DashboardResponse dashboard = eventService.getDashboardData();
@@ -231,17 +261,14 @@ class EventServiceImplAdminTest {
     @DisplayName("deleteMultipleRegistrations should delete all specified registrations")
     void testDeleteMultipleRegistrations() {
         // Arrange
-        Registration reg2 = Registration.builder()
-                .email("test2@example.com")
-                .name("Test User 2")
-                .phone("+9876543210")
-                .build();
-        testEvent.getRegistrations().add(reg2);
-
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(eventRegistrationRepository.lockRemovalRowsByLowerEmail(1L,
+                Set.of("test@example.com", "test2@example.com"))).thenReturn(List.of(
+                        new Object[] { 10L, true, "QR_SCAN", false },
+                        new Object[] { 11L, false, null, true }));
+        when(eventRegistrationRepository.deleteAllByIdIn(List.of(10L, 11L))).thenReturn(2);
 
-        List<String> emailsToDelete = Arrays.asList("test@example.com", "test2@example.com");
+        List<String> emailsToDelete = Arrays.asList("Test@example.com", "test2@example.com");
 
         // Act
         MessageResponse response = eventService.deleteMultipleRegistrations(1L, emailsToDelete);
@@ -249,10 +276,12 @@ class EventServiceImplAdminTest {
         // Assert
         assertThat(response).isNotNull();
         assertThat(response.getMessage()).contains("2 registration(s)");
-        assertThat(testEvent.getRegistrations()).isEmpty();
 
-        verify(eventRepository).findById(1L);
-        verify(eventRepository).save(testEvent);
+        verify(eventRegistrationRepository).deleteMerchandiseOrdersByRegistrationIds(List.of(10L, 11L));
+        verify(eventStatsService).recordRegistrationsRemoved(1L, List.of(
+                new EventStatsService.RemovedRegistration(true, CheckInMethod.QR_SCAN, false),
+                new EventStatsService.RemovedRegistration(false, null, true)));
+        verify(eventRegistrationRepository, never()).deleteAll(any());
     }
 
     @Test
@@ -260,7 +289,10 @@ class EventServiceImplAdminTest {
     void testDeleteMultipleRegistrationsPartial() {
         // Arrange
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
-        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+        when(eventRegistrationRepository.lockRemovalRowsByLowerEmail(1L,
+                Set.of("test@example.com", "nonexistent@example.com"))).thenReturn(List.<Object[]>of(
+                        new Object[] { 10L, false, null, false }));
+        when(eventRegistrationRepository.deleteAllByIdIn(List.of(10L))).thenReturn(1);
 
         List<String> emailsToDelete = Arrays.asList("test@example.com", "nonexistent@example.com");
 
@@ -271,7 +303,34 @@ class EventServiceImplAdminTest {
         assertThat(response).isNotNull();
         assertThat(response.getMessage()).contains("1 registration(s)");
 
-        verify(eventRepository).findById(1L);
-        verify(eventRepository).save(testEvent);
+        verify(eventRegistrationRepository).deleteMerchandiseOrdersByRegistrationIds(List.of(10L));
+        verify(eventStatsService).recordRegistrationsRemoved(1L, List.of(
+                new EventStatsService.RemovedRegistration(false, null, false)));
+    }
+
+    @Test
+    @DisplayName("deleteMultipleRegistrations should handle no matches")
+    void testDeleteMultipleRegistrationsNoMatch() {
+        // Arrange
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRegistrationRepository.lockRemovalRowsByLowerEmail(1L, Set.of("nonexistent@example.com")))
+                .thenReturn(List.of());
+
+        // Act
+        MessageResponse response = eventService.deleteMultipleRegistrations(1L, List.of("nonexistent@example.com"));
+
+        // Assert
+        assertThat(response.getMessage()).contains("0 registration(s)");
+        verify(eventRegistrationRepository, never()).deleteAllByIdIn(any());
+        verify(eventStatsService, never()).recordRegistrationsRemoved(any(), any());
+    }
+
+    private EventRegistration v2Registration(String email) {
+        return EventRegistration.builder()
+                .event(testEvent)
+                .email(email)
+                .name("Test User")
+                .registrationToken(UUID.randomUUID().toString())
+                .build();
     }
 }
@@ -0,0 +1,94 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.enums.MediaType;
+import com.merbsconnect.events.model.GalleryItem;
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.events.repository.GalleryItemRepository;
+import com.merbsconnect.exception.ResourceNotFoundException;
+import com.merbsconnect.storage.StorageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GalleryServiceImpl Tests")
+class GalleryServiceImplTest {
+
+    @Mock
+    private GalleryItemRepository galleryItemRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private StorageService storageService;
+
+    @InjectMocks
+    private GalleryServiceImpl galleryService;
+
+    @Test
+    @DisplayName("writeArchive zips every available object under a unique name")
+    void writeArchiveStreamsObjects() throws IOException {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(galleryItemRepository.findByEventId(1L)).thenReturn(List.of(
+                item(3L, "events/1/gallery/images/c.jpg", "photo.jpg"),
+                item(1L, "events/1/gallery/images/a.jpg", "photo.jpg"),
+                item(2L, "events/1/gallery/images/missing.jpg", "gone.jpg")));
+        when(storageService.extractKeyFromUrl(anyString())).thenAnswer(inv -> inv.getArgument(0));
+        when(storageService.openObject("events/1/gallery/images/a.jpg")).thenReturn(content("first"));
+        when(storageService.openObject("events/1/gallery/images/c.jpg")).thenReturn(content("second"));
+        when(storageService.openObject("events/1/gallery/images/missing.jpg"))
+                .thenThrow(new RuntimeException("NoSuchKey"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        galleryService.writeArchive(1L, null, out);
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertThat(entries).containsExactly(
+                Map.entry("photo.jpg", "first"),
+                Map.entry("photo (2).jpg", "second"));
+    }
+
+    @Test
+    @DisplayName("writeArchive fails before writing when the event does not exist")
+    void writeArchiveUnknownEvent() {
+        when(eventRepository.existsById(9L)).thenReturn(false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> galleryService.writeArchive(9L, MediaType.IMAGE, out))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(out.size()).isZero();
+    }
+
+    private static GalleryItem item(Long id, String key, String fileName) {
+        return GalleryItem.builder().id(id).mediaUrl(key).fileName(fileName).type(MediaType.IMAGE).build();
+    }
+
+    private static ByteArrayInputStream content(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,147 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.enums.MediaType;
+import com.merbsconnect.events.model.Event;
+import com.merbsconnect.events.model.GalleryItem;
+import com.merbsconnect.events.repository.GalleryItemRepository;
+import com.merbsconnect.storage.DecodeBudgetExhaustedException;
+import com.merbsconnect.storage.ImageDecoder;
+import com.merbsconnect.storage.StorageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ImageDerivativeServiceImpl Tests")
+class ImageDerivativeServiceImplTest {
+
+    @Test
+    @DisplayName("Scales the longest side down to the derivative size")
+    void scalesDown() {
+        BufferedImage source = new BufferedImage(4000, 2000, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage scaled = ImageDerivativeServiceImpl.scale(source, 320);
+
+        assertThat(scaled.getWidth()).isEqualTo(320);
+        assertThat(scaled.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("Never upscales small images")
+    void doesNotUpscale() {
+        BufferedImage source = new BufferedImage(200, 300, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage scaled = ImageDerivativeServiceImpl.scale(source, 1024);
+
+        assertThat(scaled.getWidth()).isEqualTo(200);
+        assertThat(scaled.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Encodes a readable JPEG under a derived key")
+    void encodesJpeg() throws IOException {
+        BufferedImage source = new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB);
+        ImageDerivativeServiceImpl.Derivative thumb = ImageDerivativeServiceImpl.DERIVATIVES.get(0);
+
+        byte[] jpeg = ImageDerivativeServiceImpl.encode(source, thumb);
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+        assertThat(decoded.getWidth()).isEqualTo(320);
+        assertThat(StorageService.derivedKey("events/1/gallery/images/a_b.png", thumb.name(), "jpg"))
+                .isEqualTo("events/1/gallery/images/derived/a_b_thumb.jpg");
+    }
+
+    @Test
+    @DisplayName("Gives up at once when the original is missing")
+    void missingOriginalIsTerminal() {
+        GalleryItem item = galleryItem();
+        StorageService storageService = storageFor(item);
+        when(storageService.openObject(anyString())).thenThrow(NoSuchKeyException.builder().build());
+
+        service(item, storageService).schedule(item.getId());
+
+        assertThat(item.getDerivativesProcessedAt()).isNotNull();
+        assertThat(item.getThumbnailKey()).isNull();
+    }
+
+    @Test
+    @DisplayName("Retries transient failures a bounded number of times")
+    void transientFailuresAreCounted() {
+        GalleryItem item = galleryItem();
+        StorageService storageService = storageFor(item);
+        when(storageService.openObject(anyString())).thenThrow(SdkClientException.create("timeout"));
+        ImageDerivativeServiceImpl service = service(item, storageService);
+
+        service.schedule(item.getId());
+
+        assertThat(item.getDerivativeAttempts()).isEqualTo(1);
+        assertThat(item.getDerivativesProcessedAt()).isNull();
+
+        for (int i = 1; i < ImageDerivativeServiceImpl.MAX_ATTEMPTS; i++) {
+            service.schedule(item.getId());
+        }
+
+        assertThat(item.getDerivativeAttempts()).isEqualTo(ImageDerivativeServiceImpl.MAX_ATTEMPTS);
+        assertThat(item.getDerivativesProcessedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Leaves the item for the sweep without counting a busy decode budget")
+    void budgetTimeoutIsNotCounted() throws IOException {
+        GalleryItem item = galleryItem();
+        StorageService storageService = storageFor(item);
+        when(storageService.openObject(anyString())).thenReturn(new ByteArrayInputStream(new byte[0]));
+        ImageDecoder imageDecoder = mock(ImageDecoder.class);
+        when(imageDecoder.decode(any(), anyInt(), any()))
+                .thenThrow(new DecodeBudgetExhaustedException("Image decode budget exhausted"));
+
+        service(item, storageService, imageDecoder).schedule(item.getId());
+
+        assertThat(item.getDerivativeAttempts()).isZero();
+        assertThat(item.getDerivativesProcessedAt()).isNull();
+    }
+
+    private static GalleryItem galleryItem() {
+        return GalleryItem.builder().id(7L).event(Event.builder().id(1L).build())
+                .mediaUrl("events/1/gallery/images/a.jpg").fileName("a.jpg").type(MediaType.IMAGE).build();
+    }
+
+    private static StorageService storageFor(GalleryItem item) {
+        StorageService storageService = mock(StorageService.class);
+        when(storageService.extractKeyFromUrl(item.getMediaUrl())).thenReturn(item.getMediaUrl());
+        return storageService;
+    }
+
+    private static ImageDerivativeServiceImpl service(GalleryItem item, StorageService storageService) {
+        return service(item, storageService, new ImageDecoder(48_000_000, 10_000_000L, Duration.ofSeconds(1)));
+    }
+
+    private static ImageDerivativeServiceImpl service(GalleryItem item, StorageService storageService,
+                                                      ImageDecoder imageDecoder) {
+        GalleryItemRepository repository = mock(GalleryItemRepository.class);
+        when(repository.findById(item.getId())).thenReturn(Optional.of(item));
+        when(repository.save(any(GalleryItem.class))).thenAnswer(inv -> inv.getArgument(0));
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<Object>>getArgument(0).doInTransaction(null));
+        return new ImageDerivativeServiceImpl(repository, storageService, imageDecoder, transactionTemplate,
+                new ConcurrentMapCacheManager("eventGallery"), Runnable::run);
+    }
+}
@@ -0,0 +1,105 @@
+package com.merbsconnect.events.service.impl;
+
+import com.merbsconnect.events.repository.EventRepository;
+import com.merbsconnect.storage.StorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanMediaServiceImpl Tests")
+class OrphanMediaServiceImplTest {
+
+    @Mock
+    private StorageService storageService;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private OrphanMediaServiceImpl orphanMediaService;
+
+    private final Instant old = Instant.now().minus(Duration.ofDays(3));
+
+    @BeforeEach
+    void setUp() {
+        orphanMediaService = new OrphanMediaServiceImpl(storageService, eventRepository, Duration.ofDays(1), false);
+        lenient().when(storageService.extractKeyFromUrl(anyString())).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Deletes only old, unreferenced objects of live events")
+    void deletesUnreferencedObjects() {
+        when(eventRepository.findIdsPendingDeletion()).thenReturn(List.of(3L));
+        when(storageService.listObjects("events/")).thenReturn(List.of(
+                object("events/1/gallery/images/kept.jpg", old),
+                object("events/1/gallery/images/orphan.jpg", old),
+                object("events/1/gallery/images/fresh.jpg", Instant.now()),
+                object("events/2/gallery/images/deleted-event.jpg", old),
+                object("events/3/gallery/images/being-purged.jpg", old)));
+        when(eventRepository.findMediaReferences(1L)).thenReturn(List.of("events/1/gallery/images/kept.jpg"));
+        when(eventRepository.findMediaReferences(2L)).thenReturn(List.of());
+        when(storageService.deleteFiles(any())).thenReturn(List.of());
+
+        int orphaned = orphanMediaService.reconcile();
+
+        assertThat(orphaned).isEqualTo(2);
+        verify(storageService).deleteFiles(List.of(
+                "events/1/gallery/images/orphan.jpg",
+                "events/2/gallery/images/deleted-event.jpg"));
+        verify(eventRepository, never()).findMediaReferences(3L);
+    }
+
+    @Test
+    @DisplayName("Dry run reports orphans without deleting them")
+    void dryRunKeepsObjects() {
+        orphanMediaService = new OrphanMediaServiceImpl(storageService, eventRepository, Duration.ofDays(1), true);
+        when(eventRepository.findIdsPendingDeletion()).thenReturn(List.of());
+        when(storageService.listObjects("events/")).thenReturn(List.of(object("events/5/gallery/images/a.jpg", old)));
+        when(eventRepository.findMediaReferences(5L)).thenReturn(List.of());
+
+        assertThat(orphanMediaService.reconcile()).isEqualTo(1);
+        verify(storageService, never()).deleteFiles(any());
+    }
+
+    @Test
+    @DisplayName("Matches references stored with a query string and ignores keys outside the gallery")
+    void matchesReferencesWithQueryString() {
+        when(eventRepository.findIdsPendingDeletion()).thenReturn(List.of());
+        when(storageService.listObjects("events/")).thenReturn(List.of(
+                object("events/1/exports/report.csv", old),
+                object("events/1/gallery/images/cover.jpg", old),
+                object("events/1/gallery/videos/teaser.mp4", old)));
+        when(eventRepository.findMediaReferences(1L)).thenReturn(List.of(
+                "events/1/gallery/images/cover.jpg?v=2",
+                "events/1/gallery/videos/teaser.mp4#t=10"));
+
+        assertThat(orphanMediaService.reconcile()).isZero();
+        verify(storageService, never()).deleteFiles(any());
+    }
+
+    @Test
+    @DisplayName("Parses the event ID from object keys")
+    void parsesEventId() {
+        assertThat(OrphanMediaServiceImpl.eventIdOf("events/42/gallery/images/a.jpg")).isEqualTo(42L);
+        assertThat(OrphanMediaServiceImpl.eventIdOf("events/abc/a.jpg")).isNull();
+        assertThat(OrphanMediaServiceImpl.eventIdOf("events//a.jpg")).isNull();
+        assertThat(OrphanMediaServiceImpl.eventIdOf("archives/audit-logs/x.gz")).isNull();
+    }
+
+    private static S3Object object(String key, Instant lastModified) {
+        return S3Object.builder().key(key).lastModified(lastModified).build();
+    }
+}
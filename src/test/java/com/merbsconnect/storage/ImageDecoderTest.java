@@ -0,0 +1,64 @@
+package com.merbsconnect.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageDecoder Tests")
+class ImageDecoderTest {
+
+    private final ImageDecoder decoder = new ImageDecoder(48_000_000, 10_000_000L, Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("Reads dimensions from the header")
+    void readsDimensions() throws IOException {
+        Dimension dimensions = decoder.readDimensions(png(5000, 3000));
+
+        assertThat(dimensions).isEqualTo(new Dimension(5000, 3000));
+    }
+
+    @Test
+    @DisplayName("Subsamples large images and releases the pixel budget afterwards")
+    void subsamplesAndReleasesBudget() throws IOException {
+        Dimension decoded = decoder.decode(png(5000, 2000), 1024,
+                image -> new Dimension(image.getWidth(), image.getHeight()));
+
+        assertThat(decoded).isEqualTo(new Dimension(1250, 500));
+        assertThat(decoder.getAvailablePixels()).isEqualTo(48_000_000);
+    }
+
+    @Test
+    @DisplayName("Rejects images above the pixel limit without decoding them")
+    void rejectsOversizedImages() {
+        assertThatThrownBy(() -> decoder.decode(png(4000, 3000), 1024, BufferedImage::getWidth))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(decoder.getAvailablePixels()).isEqualTo(48_000_000);
+    }
+
+    @Test
+    @DisplayName("Gives up with a distinct error when the budget stays exhausted")
+    void timesOutWhenBudgetExhausted() {
+        ImageDecoder small = new ImageDecoder(1_000, 10_000_000L, Duration.ofMillis(50));
+
+        assertThatThrownBy(() -> small.decode(png(30, 30), 1024,
+                outer -> small.decode(png(20, 20), 1024, BufferedImage::getWidth)))
+                .isInstanceOf(DecodeBudgetExhaustedException.class);
+        assertThat(small.getAvailablePixels()).isEqualTo(1_000);
+    }
+
+    private static ByteArrayInputStream png(int width, int height) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", os);
+        return new ByteArrayInputStream(os.toByteArray());
+    }
+}
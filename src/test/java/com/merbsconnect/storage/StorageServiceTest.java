@@ -0,0 +1,144 @@
+package com.merbsconnect.storage;
+
+import com.merbsconnect.enums.MediaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageService Tests")
+class StorageServiceTest {
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private ImageDecoder imageDecoder;
+
+    @Mock
+    private PresignedPutObjectRequest presigned;
+
+    private StorageService storageService;
+
+    @BeforeEach
+    void setUp() {
+        storageService = new StorageService(s3Client, s3Presigner, "bucket", "https://r2.example.com",
+                imageDecoder, "test-signing-key");
+    }
+
+    @Test
+    @DisplayName("Confirms a key issued for the same event and scope")
+    void confirmsIssuedKey() throws Exception {
+        String key = issue(1L, StorageService.GALLERY_UPLOAD, "photo.PNG", "image/png");
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentType("image/png").contentLength(2048L).build());
+
+        StorageService.UploadedObject object = storageService.verifyUpload(1L, StorageService.GALLERY_UPLOAD,
+                key, null);
+
+        assertThat(key).startsWith("events/1/gallery/images/").endsWith(".png");
+        assertThat(object.key()).isEqualTo(key);
+        assertThat(object.mediaType()).isEqualTo(MediaType.IMAGE);
+    }
+
+    @Test
+    @DisplayName("Rejects a key issued for another scope")
+    void rejectsKeyFromOtherScope() throws Exception {
+        String key = issue(1L, StorageService.speakerImageUpload(3L), "photo.png", "image/png");
+
+        assertThatThrownBy(() -> storageService.verifyUpload(1L, StorageService.speakerImageUpload(4L), key,
+                MediaType.IMAGE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageService.verifyUpload(1L, StorageService.GALLERY_UPLOAD, key, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    @DisplayName("Rejects a key issued for another event")
+    void rejectsKeyFromOtherEvent() throws Exception {
+        String key = issue(1L, StorageService.GALLERY_UPLOAD, "photo.png", "image/png");
+        String moved = key.replaceFirst("^events/1/", "events/2/");
+
+        assertThatThrownBy(() -> storageService.verifyUpload(2L, StorageService.GALLERY_UPLOAD, moved, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    @DisplayName("Rejects derived copies and keys the server never signed")
+    void rejectsDerivedAndUnsignedKeys() throws Exception {
+        String key = issue(1L, StorageService.GALLERY_UPLOAD, "photo.png", "image/png");
+
+        assertThatThrownBy(() -> storageService.verifyUpload(1L, StorageService.GALLERY_UPLOAD,
+                StorageService.derivedKey(key, "thumb", "jpg"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageService.verifyUpload(1L, StorageService.GALLERY_UPLOAD,
+                "events/1/gallery/images/20260101_120000_abcd1234.png", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageService.verifyUpload(1L, StorageService.GALLERY_UPLOAD,
+                key.replaceFirst("_[0-9a-f]{16}\\.", "_0000000000000000."), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    @DisplayName("Rejects a confirmed object whose stored type fails validation")
+    void rejectsDisallowedStoredType() throws Exception {
+        String key = issue(1L, StorageService.EVENT_IMAGE_UPLOAD, "cover.png", "image/png");
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentType("application/pdf").contentLength(2048L).build());
+
+        assertThatThrownBy(() -> storageService.verifyUpload(1L, StorageService.EVENT_IMAGE_UPLOAD, key,
+                MediaType.IMAGE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Refuses to presign a disallowed content type or an oversized file")
+    void presignValidatesRequest() {
+        assertThatThrownBy(() -> storageService.createPresignedUpload(1L, StorageService.GALLERY_UPLOAD,
+                request("notes.pdf", "application/pdf", 1024L), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storageService.createPresignedUpload(1L, StorageService.EVENT_IMAGE_UPLOAD,
+                request("cover.png", "image/png", 50L * 1024 * 1024), MediaType.IMAGE))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(s3Presigner);
+    }
+
+    private String issue(Long eventId, String scope, String fileName, String contentType) throws Exception {
+        when(presigned.url()).thenReturn(URI.create("https://r2.example.com/upload").toURL());
+        when(presigned.signedHeaders()).thenReturn(Map.of("content-type", List.of(contentType)));
+        when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+
+        return storageService.createPresignedUpload(eventId, scope, request(fileName, contentType, 2048L), null)
+                .getKey();
+    }
+
+    private static PresignedUploadRequest request(String fileName, String contentType, long size) {
+        return PresignedUploadRequest.builder()
+                .fileName(fileName)
+                .contentType(contentType)
+                .size(size)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.admin.model.ActivityLog;
+import com.merbsconnect.config.ActivityTrackingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogBuffer Tests")
+class ActivityLogBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ActivityLogBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        ActivityTrackingProperties properties = new ActivityTrackingProperties();
+        properties.setBufferCapacity(3);
+        properties.setBatchSize(2);
+        buffer = new ActivityLogBuffer(jdbcTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("Drops entries once the buffer is full")
+    void dropsWhenFull() {
+        assertThat(buffer.offer(entry())).isTrue();
+        assertThat(buffer.offer(entry())).isTrue();
+        assertThat(buffer.offer(entry())).isTrue();
+        assertThat(buffer.offer(entry())).isFalse();
+        assertThat(buffer.getPendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Flush writes buffered entries in batches and empties the buffer")
+    @SuppressWarnings("unchecked")
+    void flushWritesBatches() {
+        buffer.offer(entry());
+        buffer.offer(entry());
+        buffer.offer(entry());
+
+        buffer.flush();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(List.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(buffer.getPendingCount()).isZero();
+        assertThat(buffer.offer(entry())).isTrue();
+    }
+
+    private static ActivityLog entry() {
+        return ActivityLog.builder()
+                .userId(1L)
+                .activityType("API_CALL")
+                .endpoint("GET /api/v1/events")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
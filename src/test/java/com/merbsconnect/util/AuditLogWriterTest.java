@@ -0,0 +1,84 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.admin.model.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogWriter Tests")
+class AuditLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AuditLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new AuditLogWriter(jdbcTemplate, transactionManager, 10, 50,
+                Duration.ofMillis(20), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Writes a batch as one multi-row INSERT")
+    void writesBatchAsSingleStatement() throws InterruptedException {
+        writer.write(List.of(entry("CREATE"), entry("UPDATE"), entry("DELETE")));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sql.capture(), args.capture());
+        assertThat(sql.getValue()).startsWith("INSERT INTO audit_logs");
+        assertThat(sql.getValue().split("\\(\\?").length - 1).isEqualTo(3);
+        assertThat(args.getValue()).hasSize(21).contains("CREATE", "UPDATE", "DELETE");
+    }
+
+    @Test
+    @DisplayName("Writes synchronously when the background writer is not running")
+    void fallsBackWhenStopped() {
+        writer.submit(entry("CREATE"));
+
+        verify(jdbcTemplate).update(any(String.class), any(Object[].class));
+        assertThat(writer.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Flushes buffered entries on stop")
+    void flushesOnStop() {
+        writer.start();
+        writer.submit(entry("CREATE"));
+        writer.submit(entry("UPDATE"));
+        writer.stop();
+
+        assertThat(writer.getPendingCount()).isZero();
+        verify(jdbcTemplate, atLeastOnce()).update(any(String.class), any(Object[].class));
+        verifyNoInteractions(transactionManager);
+    }
+
+    private static AuditLog entry(String action) {
+        return AuditLog.builder()
+                .action(action)
+                .entityType("User")
+                .entityId(1L)
+                .performedBy("admin")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.util.ChannelExecutor.OverflowPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChannelExecutor Tests")
+class ChannelExecutorTest {
+
+    @Test
+    @DisplayName("execute should never run more tasks at once than maxConcurrency")
+    void testConcurrencyCap() throws Exception {
+        ChannelExecutor executor = new ChannelExecutor("test", 2, 50, OverflowPolicy.REJECT);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                int now = running.incrementAndGet();
+                peak.accumulateAndGet(now, Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getCompleted()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("execute should reject when saturated under REJECT policy")
+    void testRejectWhenSaturated() throws Exception {
+        ChannelExecutor executor = new ChannelExecutor("test", 1, 0, OverflowPolicy.REJECT);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getOverflowed()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("execute should run on caller thread when saturated under CALLER_RUNS policy")
+    void testCallerRunsWhenSaturated() throws Exception {
+        ChannelExecutor executor = new ChannelExecutor("test", 1, 0, OverflowPolicy.CALLER_RUNS);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger ranOnCaller = new AtomicInteger();
+        executor.execute(() -> {
+            if (Thread.currentThread() == caller) {
+                ranOnCaller.incrementAndGet();
+            }
+        });
+
+        assertThat(ranOnCaller.get()).isEqualTo(1);
+        release.countDown();
+        assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
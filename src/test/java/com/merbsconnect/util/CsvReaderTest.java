@@ -0,0 +1,46 @@
+package com.merbsconnect.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvReader Tests")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Reads plain and quoted fields, tracking the line each record starts on")
+    void readsQuotedFields() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(
+                "\uFEFFname,email\r\n\"Doe, Jane\",jane@example.com\r\n\"Multi\nline \"\"note\"\"\",x@y.com\nlast,"),
+                100);
+
+        assertThat(reader.next()).containsExactly("name", "email");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+
+        assertThat(reader.next()).containsExactly("Doe, Jane", "jane@example.com");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+
+        assertThat(reader.next()).containsExactly("Multi\nline \"note\"", "x@y.com");
+        assertThat(reader.getRecordLine()).isEqualTo(3);
+
+        assertThat(reader.next()).containsExactly("last", "");
+        assertThat(reader.getRecordLine()).isEqualTo(5);
+
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Rejects an unterminated quote instead of reading the rest of the file")
+    void rejectsUnterminatedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("\"never closed,a\nb,c\n"), 8);
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 1");
+    }
+}
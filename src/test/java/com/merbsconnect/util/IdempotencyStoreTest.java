@@ -0,0 +1,97 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.admin.model.IdempotencyRecord;
+import com.merbsconnect.admin.repository.IdempotencyRecordRepository;
+import com.merbsconnect.config.IdempotencyProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyStore Tests")
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(repository, new IdempotencyProperties());
+    }
+
+    @Test
+    @DisplayName("Acquires an unclaimed key")
+    void acquiresUnclaimedKey() {
+        when(repository.claim(eq("scope"), eq("hash"), any(), any(), any())).thenReturn(1);
+
+        assertThat(store.begin("scope", "hash").state()).isEqualTo(IdempotencyStore.State.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("Replays a completed response from memory")
+    void replaysFromMemory() {
+        IdempotencyStore.StoredResponse response =
+                new IdempotencyStore.StoredResponse(201, "application/json", "/api/v1/registrations/5", "{}");
+        store.complete("scope", "hash", response);
+
+        IdempotencyStore.Lookup lookup = store.begin("scope", "hash");
+
+        assertThat(lookup.state()).isEqualTo(IdempotencyStore.State.COMPLETED);
+        assertThat(lookup.response()).isEqualTo(response);
+        verify(repository).complete("scope", 201, "application/json", "/api/v1/registrations/5", "{}");
+        verify(repository, never()).claim(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Reports a claim without a response as in progress")
+    void reportsInProgress() {
+        when(repository.claim(eq("scope"), eq("hash"), any(), any(), any())).thenReturn(0);
+        when(repository.findById("scope")).thenReturn(Optional.of(record("hash", null)));
+
+        assertThat(store.begin("scope", "hash").state()).isEqualTo(IdempotencyStore.State.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Rejects a key reused for a different body")
+    void rejectsDifferentBody() {
+        when(repository.claim(eq("scope"), eq("other"), any(), any(), any())).thenReturn(0);
+        when(repository.findById("scope")).thenReturn(Optional.of(record("hash", 201)));
+
+        assertThat(store.begin("scope", "other").state()).isEqualTo(IdempotencyStore.State.MISMATCH);
+    }
+
+    @Test
+    @DisplayName("Loads a response stored by another instance, headers included")
+    void loadsStoredResponse() {
+        when(repository.claim(eq("scope"), eq("hash"), any(), any(), any())).thenReturn(0);
+        when(repository.findById("scope")).thenReturn(Optional.of(record("hash", 201)));
+
+        IdempotencyStore.Lookup lookup = store.begin("scope", "hash");
+
+        assertThat(lookup.state()).isEqualTo(IdempotencyStore.State.COMPLETED);
+        assertThat(lookup.response().location()).isEqualTo("/api/v1/registrations/5");
+        assertThat(lookup.response().contentType()).isEqualTo("application/json");
+    }
+
+    private static IdempotencyRecord record(String requestHash, Integer status) {
+        return IdempotencyRecord.builder()
+                .scopeKey("scope")
+                .requestHash(requestHash)
+                .responseStatus(status)
+                .contentType(status != null ? "application/json" : null)
+                .location(status != null ? "/api/v1/registrations/5" : null)
+                .responseBody(status != null ? "{}" : null)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.merbsconnect.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshingSnapshot Tests")
+class RefreshingSnapshotTest {
+
+    @Test
+    @DisplayName("Builds once on first read and serves the same snapshot afterwards")
+    void buildsOnceOnColdStart() {
+        AtomicInteger loads = new AtomicInteger();
+        RefreshingSnapshot<Integer> snapshot = new RefreshingSnapshot<>("test", loads::incrementAndGet,
+                Runnable::run, Duration.ZERO);
+
+        assertThat(snapshot.get().value()).isEqualTo(1);
+        assertThat(snapshot.get().value()).isEqualTo(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Coalesces a burst of refresh requests into a single rebuild")
+    void coalescesRefreshRequests() {
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Runnable> queued = new ArrayDeque<>();
+        RefreshingSnapshot<Integer> snapshot = new RefreshingSnapshot<>("test", loads::incrementAndGet,
+                queued::add, Duration.ZERO);
+        snapshot.get();
+
+        snapshot.requestRefresh();
+        snapshot.requestRefresh();
+        snapshot.requestRefresh();
+
+        assertThat(queued).hasSize(1);
+        assertThat(snapshot.isRefreshing()).isTrue();
+
+        queued.poll().run();
+
+        assertThat(loads).hasValue(2);
+        assertThat(snapshot.get().value()).isEqualTo(2);
+        assertThat(snapshot.isRefreshing()).isFalse();
+        assertThat(queued).isEmpty();
+    }
+}
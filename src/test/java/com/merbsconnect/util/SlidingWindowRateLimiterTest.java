@@ -0,0 +1,64 @@
+package com.merbsconnect.util;
+
+import com.merbsconnect.util.SlidingWindowRateLimiter.Decision;
+import com.merbsconnect.util.SlidingWindowRateLimiter.Policy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlidingWindowRateLimiter Tests")
+class SlidingWindowRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final SlidingWindowRateLimiter limiter =
+            new SlidingWindowRateLimiter(100, Duration.ofHours(1), now::get);
+
+    @Test
+    @DisplayName("Rejects attempts beyond the limit until the oldest one leaves the window")
+    void rejectsUntilWindowSlides() {
+        Policy policy = new Policy(2, Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire("k", policy).allowed()).isTrue();
+        now.addAndGet(10_000);
+        assertThat(limiter.tryAcquire("k", policy).allowed()).isTrue();
+
+        Decision rejected = limiter.tryAcquire("k", policy);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(50_000);
+
+        now.addAndGet(50_000);
+        assertThat(limiter.tryAcquire("k", policy).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Enforces the minimum interval between accepted attempts")
+    void enforcesCooldown() {
+        Policy policy = new Policy(5, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire("k", policy).allowed()).isTrue();
+        now.addAndGet(30_000);
+        Decision rejected = limiter.tryAcquire("k", policy);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(30_000);
+
+        now.addAndGet(30_000);
+        assertThat(limiter.tryAcquire("k", policy).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Tracks keys independently and forgets a key on reset")
+    void keysAreIndependent() {
+        Policy policy = new Policy(1, Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire("a", policy).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("b", policy).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a", policy).allowed()).isFalse();
+
+        limiter.reset("a");
+        assertThat(limiter.tryAcquire("a", policy).allowed()).isTrue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.merbsconnect.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucket Tests")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("Allows a burst up to capacity, then refills over time")
+    void burstThenRefill() {
+        long start = 0;
+        TokenBucket bucket = new TokenBucket(3, 1, Duration.ofSeconds(10), start);
+
+        assertThat(bucket.tryConsume(start).remaining()).isEqualTo(2);
+        assertThat(bucket.tryConsume(start).remaining()).isEqualTo(1);
+        assertThat(bucket.tryConsume(start).remaining()).isZero();
+
+        TokenBucket.Result rejected = bucket.tryConsume(start);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.nanosUntilToken()).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(bucket.tryConsume(start + TimeUnit.SECONDS.toNanos(10)).allowed()).isTrue();
+        assertThat(bucket.tryConsume(start + TimeUnit.SECONDS.toNanos(10)).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Never refills beyond capacity")
+    void capsAtCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1, Duration.ofSeconds(1), 0);
+
+        long later = TimeUnit.HOURS.toNanos(1);
+        assertThat(bucket.tryConsume(later).remaining()).isEqualTo(1);
+        assertThat(bucket.tryConsume(later).remaining()).isZero();
+        assertThat(bucket.tryConsume(later).allowed()).isFalse();
+    }
+}